@@ -0,0 +1,34 @@
+// 주변 이벤트 조회 부하 테스트 (k6)
+// 실행 예:
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=1000 loadtest/nearby-events.js
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=10000 loadtest/nearby-events.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 1000);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+  scenarios: {
+    nearby: {
+      executor: 'constant-vus',
+      vus: VUS,
+      duration: DURATION,
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+// 서울 시내 임의 좌표 (캐시 효과를 줄이기 위해 요청마다 조금씩 이동)
+const CENTER_LAT = 37.5665;
+const CENTER_LNG = 126.978;
+
+export default function () {
+  const lat = (CENTER_LAT + (Math.random() - 0.5) * 0.2).toFixed(5);
+  const lng = (CENTER_LNG + (Math.random() - 0.5) * 0.2).toFixed(5);
+  const res = http.get(`${BASE_URL}/api/events/nearby?lat=${lat}&lng=${lng}&radius=3000`, {
+    timeout: '30s',
+  });
+  check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,137 @@
+package com.project.cinecatch.domain.event.service;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cinecatch.domain.event.repository.InventoryIngestionRepository.EventRow;
+import com.project.cinecatch.domain.event.repository.InventoryIngestionRepository.LocationRow;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크롤러 스냅샷 읽기: 스트리밍 파서(CrawlSnapshotReader) vs 전체 바인딩 후 펼치기
+ * - 합성 스냅샷: 이벤트 2,000개 x 극장 500곳 = 재고 100만 행 (crawler.py 와 같은 JSON 배열)
+ * - 파일은 FileChannel 로 읽고, 스트리밍 쪽 Sink 는 배치 크기만 더함 (COPY 비용 제외, 파싱/펼치기만 비교)
+ * - 메모리 비교는 -prof gc 로 할당량을 보거나, 힙을 줄여 실행 (스트리밍은 통과, 전체 바인딩은 OOM)
+ *   java -jar build/libs/*-jmh.jar CrawlSnapshotReaderBenchmark -prof gc
+ *   java -jar build/libs/*-jmh.jar CrawlSnapshotReaderBenchmark -jvmArgsAppend -Xmx64m
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class CrawlSnapshotReaderBenchmark {
+
+    private static final int EVENTS = 2_000;
+    private static final int REGIONS = 5;
+    private static final int THEATERS_PER_REGION = 100;
+
+    @Param({"5000"})
+    public int batchSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Path snapshot;
+
+    /** 전체 바인딩 비교용 (적재 API 첫 구현과 같은 방식) */
+    public record SnapshotEvent(
+            @JsonProperty("event_no") String eventNo,
+            @JsonProperty("movie_title") String movieTitle,
+            @JsonProperty("event_title") String eventTitle,
+            @JsonProperty("start_date") String startDate,
+            @JsonProperty("end_date") String endDate,
+            Map<String, List<TheaterStatus>> regions
+    ) {}
+
+    public record TheaterStatus(String theater, String status) {}
+
+    @Setup(Level.Trial)
+    public void writeSnapshot() throws IOException {
+        snapshot = Files.createTempFile("crawl-snapshot", ".json");
+        try (BufferedWriter writer = Files.newBufferedWriter(snapshot, StandardCharsets.UTF_8)) {
+            writer.write('[');
+            for (int e = 0; e < EVENTS; e++) {
+                if (e > 0) {
+                    writer.write(',');
+                }
+                writer.write("{\"movie_title\":\"영화 " + (e % 300) + "\",\"event_title\":\"특전 " + e
+                        + "\",\"start_date\":\"20260101\",\"end_date\":\"20260131\",\"event_no\":\"" + (100_000 + e)
+                        + "\",\"regions\":{");
+                for (int r = 0; r < REGIONS; r++) {
+                    if (r > 0) {
+                        writer.write(',');
+                    }
+                    writer.write("\"지역" + r + "\":[");
+                    for (int t = 0; t < THEATERS_PER_REGION; t++) {
+                        if (t > 0) {
+                            writer.write(',');
+                        }
+                        writer.write("{\"theater\":\"극장" + (r * THEATERS_PER_REGION + t)
+                                + "\",\"status\":\"" + ((e + t) % 3 == 0 ? "소진" : "보유") + "\"}");
+                    }
+                    writer.write(']');
+                }
+                writer.write("}}\n");
+            }
+            writer.write(']');
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteSnapshot() throws IOException {
+        Files.deleteIfExists(snapshot);
+    }
+
+    @Benchmark
+    public long streaming() throws IOException {
+        long[] rows = new long[1];
+        CrawlSnapshotReader.Sink sink = new CrawlSnapshotReader.Sink() {
+            @Override
+            public void events(List<EventRow> batch) {
+                rows[0] += batch.size();
+            }
+
+            @Override
+            public void locations(List<LocationRow> batch) {
+                rows[0] += batch.size();
+            }
+        };
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ);
+             InputStream input = Channels.newInputStream(channel)) {
+            new CrawlSnapshotReader(objectMapper.getFactory(), batchSize, LocalDateTime.now()).read(input, sink);
+        }
+        return rows[0];
+    }
+
+    @Benchmark
+    public long bindAll() throws IOException {
+        List<SnapshotEvent> events;
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ);
+             InputStream input = Channels.newInputStream(channel)) {
+            events = objectMapper.readValue(input, new TypeReference<>() {});
+        }
+        List<LocationRow> locations = new ArrayList<>();
+        for (SnapshotEvent event : events) {
+            for (List<TheaterStatus> theaters : event.regions().values()) {
+                for (TheaterStatus theater : theaters) {
+                    locations.add(new LocationRow(event.eventNo(), theater.theater(), theater.status()));
+                }
+            }
+        }
+        return events.size() + locations.size();
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.cinecatch.global.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt cost 별 matches 지연 분포 (security.bcrypt.strength 선정용)
+ * - 결과의 p0.99 가 목표치(로그인 p99 예산)를 넘지 않는 가장 큰 strength 를 고름
+ * - 해시 풀 스레드 수만큼 동시에 돌려야 운영과 비슷하므로 -t 로 코어 수를 지정해 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 2, time = 5)
+public class BCryptCostBenchmark {
+
+    private static final String PASSWORD = "benchmark-password-1234";
+
+    @Param({"8", "10", "12"})
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encoded = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, encoded);
+    }
+}
@@ -0,0 +1,67 @@
+package com.project.cinecatch.global.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청당 비용
+ * - legacyTripleParse: 변경 전 방식 (validate/getEmail/getRole 마다 파서 생성 + 서명 검증)
+ * - filter(cacheSize=0): 파서 재사용 + 한 번만 검증
+ * - filter(cacheSize=10000): 같은 토큰 재요청 시 서명 검증 생략
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "vmfhaltmskdlstkfkdgodyroqkfwkdbalroqkfwkdbal";
+
+    @Param({"0", "10000"})
+    public int cacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtTokenProvider provider = new JwtTokenProvider(new RevokedTokenStore());
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaxSize", cacheSize);
+        provider.init();
+
+        filter = new JwtAuthenticationFilter(provider, new LegacyMemberIdResolver(null));
+        token = provider.createToken(UUID.randomUUID(), "bench@test.com", "USER").getAccessToken();
+        key = Keys.hmacShaKeyFor(Base64.getEncoder().encode(SECRET.getBytes()));
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    @Benchmark
+    public Object legacyTripleParse() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        Claims emailClaims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        Claims roleClaims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return emailClaims.getSubject() + roleClaims.get("role", String.class);
+    }
+}
@@ -0,0 +1,134 @@
+package com.project.cinecatch.global.security;
+
+import com.project.cinecatch.global.config.SecurityConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개 경로(GET /api/events) 요청당 보안 필터 체인 비용
+ * - legacy: 단일 체인에서 permitAll 로 통과 (JWT 필터, 보안 컨텍스트, 익명 인증, 인가 필터를 모두 거침)
+ * - current: SecurityConfig 의 공개 체인에서 바로 통과
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PublicRouteSecurityBenchmark {
+
+    private static final String SECRET = "vmfhaltmskdlstkfkdgodyroqkfwkdbalroqkfwkdbal";
+
+    @Param({"legacy", "current"})
+    public String config;
+
+    @Param({"none", "bearer"})
+    public String auth;
+
+    private AnnotationConfigWebApplicationContext context;
+    private FilterChainProxy filterChainProxy;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(Beans.class, "legacy".equals(config) ? LegacySecurityConfig.class : SecurityConfig.class);
+        context.refresh();
+        filterChainProxy = context.getBean("springSecurityFilterChain", FilterChainProxy.class);
+
+        String token = context.getBean(JwtTokenProvider.class)
+                .createToken(UUID.randomUUID(), "bench@test.com", "USER")
+                .getAccessToken();
+        authorization = "bearer".equals(auth) ? "Bearer " + token : null;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse publicRoute() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filterChainProxy.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    /**
+     * 운영과 같이 MVC 와 같은 컨텍스트에 둠 (문자열 requestMatchers 가 MvcRequestMatcher 로 만들어짐)
+     */
+    @Configuration
+    @EnableWebMvc
+    static class Beans {
+
+        @Bean
+        JwtTokenProvider jwtTokenProvider() {
+            JwtTokenProvider provider = new JwtTokenProvider(new RevokedTokenStore());
+            ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+            ReflectionTestUtils.setField(provider, "verifiedCacheMaxSize", 10000);
+            provider.init();
+            return provider;
+        }
+
+        @Bean
+        JwtAuthenticationFilter jwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+            return new JwtAuthenticationFilter(jwtTokenProvider, new LegacyMemberIdResolver(null));
+        }
+    }
+
+    /**
+     * 공개 체인 분리 전 설정 (JwtAuthenticationFilter 의 shouldNotFilter 는 현재 코드 기준이라 꺼둠)
+     */
+    @Configuration
+    @EnableWebSecurity
+    static class LegacySecurityConfig {
+
+        @Bean
+        SecurityFilterChain securityFilterChain(HttpSecurity http, JwtTokenProvider jwtTokenProvider) throws Exception {
+            JwtAuthenticationFilter legacyFilter = new JwtAuthenticationFilter(jwtTokenProvider, new LegacyMemberIdResolver(null)) {
+                @Override
+                protected boolean shouldNotFilter(HttpServletRequest request) {
+                    return false;
+                }
+            };
+            http
+                    .cors(cors -> cors.configurationSource(new SecurityConfig(null).corsConfigurationSource()))
+                    .csrf(AbstractHttpConfigurer::disable)
+                    .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                    .authorizeHttpRequests(authorize -> authorize
+                            .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                            .requestMatchers("/", "/health").permitAll()
+                            .requestMatchers("/api/events/**").permitAll()
+                            .requestMatchers("/api/theaters/**").permitAll()
+                            .requestMatchers("/api/members/signup", "/api/members/login").permitAll()
+                            .requestMatchers("/api/internal/**").permitAll()
+                            .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/v3/api-docs.yaml", "/swagger-ui.html").permitAll()
+                            .anyRequest().authenticated()
+                    )
+                    .addFilterBefore(legacyFilter, UsernamePasswordAuthenticationFilter.class);
+            return http.build();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.project.cinecatch;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -12,7 +13,10 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 public class CineCatchApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(CineCatchApplication.class, args);
+        SpringApplication application = new SpringApplication(CineCatchApplication.class);
+        // 기동 단계별 소요 시간 기록 (StartupTimingReporter 가 기동 후 요약을 남기고 버퍼를 비움)
+        application.setApplicationStartup(new BufferingApplicationStartup(4096));
+        application.run(args);
     }
 
 }
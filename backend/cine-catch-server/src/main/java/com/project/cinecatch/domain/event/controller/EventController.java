@@ -1,13 +1,19 @@
 package com.project.cinecatch.domain.event.controller;
 
+import com.project.cinecatch.domain.event.dto.EventChangesResponse;
 import com.project.cinecatch.domain.event.dto.EventResponse;
 import com.project.cinecatch.domain.event.dto.TheaterEventResponse;
+import com.project.cinecatch.domain.event.service.EventChangeFeedService;
 import com.project.cinecatch.domain.event.service.EventService;
+import com.project.cinecatch.global.sse.EventStreamHub;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/events")
@@ -15,6 +21,8 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final EventChangeFeedService eventChangeFeedService;
+    private final EventStreamHub eventStreamHub;
 
     @GetMapping
     public ResponseEntity<List<EventResponse>> getEvents(
@@ -46,6 +54,21 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    /**
+     * 증분 동기화: since 커서 이후 변경된 이벤트/극장별 재고/만료 이벤트만 조회
+     * 최초 동기화는 since 없이 호출해 커서를 먼저 받은 뒤 전체 목록(/api/events)을 받음
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<EventChangesResponse> getChanges(
+            @RequestParam(required = false) Long since,
+            @RequestParam(required = false) Integer limit
+    ) {
+        if (since == null) {
+            return ResponseEntity.ok(eventChangeFeedService.getLatestCursor());
+        }
+        return ResponseEntity.ok(eventChangeFeedService.getChanges(since, limit));
+    }
+
     @GetMapping("/{eventId}")
     public ResponseEntity<EventResponse> getEventDetail(
             @PathVariable String eventId,
@@ -74,4 +97,18 @@ public class EventController {
         List<TheaterEventResponse> events = eventService.getEventsByTheaterId(theaterId);
         return ResponseEntity.ok(events);
     }
+
+    /**
+     * 이벤트/극장 재고 상태 변경 실시간 구독 (SSE)
+     * 예: /api/events/stream?eventIds=E1,E2&theaterIds=T1
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatusChanges(
+            @RequestParam(required = false) Set<String> eventIds,
+            @RequestParam(required = false) Set<String> theaterIds
+    ) {
+        return eventStreamHub.subscribe(
+                eventIds != null ? Set.copyOf(eventIds) : Set.of(),
+                theaterIds != null ? Set.copyOf(theaterIds) : Set.of());
+    }
 }
@@ -0,0 +1,21 @@
+package com.project.cinecatch.domain.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 적재 완료 콜백 응답. version 은 반영을 마친 변경 로그 워터마크
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataVersionResponse {
+
+    private long version;
+    private int changedEvents;
+    private int changedTheaters;
+    private int expiredEvents;
+}
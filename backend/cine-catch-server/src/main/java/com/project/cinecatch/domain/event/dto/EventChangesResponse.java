@@ -0,0 +1,45 @@
+package com.project.cinecatch.domain.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 증분 동기화 응답
+ * - events: 새로 생기거나 정보(기간/제목)가 바뀐 이벤트 (극장별 재고 포함 전체)
+ * - locations: 그 외 이벤트의 극장별 재고 상태 변경 (같은 극장은 페이지 내 마지막 상태만)
+ * - expiredEventIds: 로컬 사본에서 지워야 할 이벤트
+ * - cursor: 다음 요청의 since 값, hasMore 가 true 면 바로 이어서 요청
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventChangesResponse {
+
+    private long cursor;
+    private boolean hasMore;
+
+    private List<EventResponse> events;
+    private List<LocationChange> locations;
+    private List<String> expiredEventIds;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class LocationChange {
+        private String eventId;
+        private String theaterId;
+        private String theaterName;
+        private String address;
+        private Double latitude;
+        private Double longitude;
+        private String oldStatus;
+        private String status;
+        private LocalDateTime changedAt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.project.cinecatch.domain.event.dto;
+
+import com.project.cinecatch.global.event.InventoryChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 재고 스냅샷 적재 결과
+ * - events/locations: 스냅샷에 들어 있던 이벤트 수와 (극장, 이벤트) 재고 행 수
+ * - unmatchedTheaters: theaters 에 없는 극장명 수 (해당 재고 행은 건너뜀)
+ * - changes: 상태가 실제로 바뀌었거나 새로 생긴 재고 (oldStatus 가 null 이면 신규)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryIngestionResponse {
+
+    private int events;
+    private long locations;
+    private int changedEvents;
+    private int unmatchedTheaters;
+    private List<InventoryChangedEvent.Change> changes;
+}
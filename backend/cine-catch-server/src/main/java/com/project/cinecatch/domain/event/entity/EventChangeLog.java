@@ -0,0 +1,58 @@
+package com.project.cinecatch.domain.event.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 증분 동기화용 변경 로그. EVENT/LOCATION 은 DB 트리거가, EXPIRED 툼스톤은 애플리케이션이 기록함
+ * 읽을 때는 끝난 트랜잭션의 행만 (txid, seq) 순으로 읽음 (V22__change_log_commit_watermark.sql)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "event_change_log")
+public class EventChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    /**
+     * 행을 쓴 트랜잭션 id (xid8). 커서는 이 값 기준이라 DB 기본값으로만 채움
+     */
+    @Column(name = "txid", columnDefinition = "xid8", insertable = false, updatable = false)
+    private Long txid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", length = 20, nullable = false)
+    private ChangeType changeType;
+
+    @Column(name = "event_id", nullable = false)
+    private String eventId;
+
+    @Column(name = "theater_id")
+    private String theaterId;
+
+    @Column(name = "old_status", length = 50)
+    private String oldStatus;
+
+    @Column(name = "new_status", length = 50)
+    private String newStatus;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public static EventChangeLog expired(String eventId) {
+        EventChangeLog log = new EventChangeLog();
+        log.changeType = ChangeType.EXPIRED;
+        log.eventId = eventId;
+        log.changedAt = LocalDateTime.now();
+        return log;
+    }
+
+    public enum ChangeType { EVENT, LOCATION, EXPIRED }
+}
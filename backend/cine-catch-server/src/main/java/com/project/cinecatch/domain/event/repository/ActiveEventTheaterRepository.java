@@ -0,0 +1,99 @@
+package com.project.cinecatch.domain.event.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * active_event_theaters 구체화 뷰 조회/갱신 (V19__create_active_event_theaters_view.sql)
+ * 뷰는 적재 직후에만 갱신되므로 조회마다 end_at 을 현재 시각으로 다시 거름
+ * 마지막 갱신에 반영된 데이터 버전은 active_event_view_state 에 둠 (V23__create_active_event_view_state.sql)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ActiveEventTheaterRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 진행 중 이벤트 x 극장 한 행 (이벤트/영화/극장/재고를 미리 조인한 값)
+     */
+    public record Row(String eventId, String eventTitle, String eventType, LocalDateTime startAt, LocalDateTime endAt,
+                      String movieTitle, String movieImage, String theaterId, String theaterName, String address,
+                      Double latitude, Double longitude, String status) {}
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> new Row(
+            rs.getString("event_id"),
+            rs.getString("event_title"),
+            rs.getString("event_type"),
+            rs.getTimestamp("start_at").toLocalDateTime(),
+            rs.getTimestamp("end_at").toLocalDateTime(),
+            rs.getString("movie_title"),
+            rs.getString("movie_image"),
+            rs.getString("theater_id"),
+            rs.getString("theater_name"),
+            rs.getString("address"),
+            rs.getObject("latitude", Double.class),
+            rs.getObject("longitude", Double.class),
+            rs.getString("status"));
+
+    public List<Row> findByTheaterId(String theaterId, LocalDateTime now) {
+        return jdbcTemplate.query("""
+                SELECT * FROM active_event_theaters
+                WHERE theater_id = :theaterId AND end_at >= :now
+                ORDER BY start_at DESC, event_id
+                """, new MapSqlParameterSource()
+                .addValue("theaterId", theaterId)
+                .addValue("now", Timestamp.valueOf(now)), ROW_MAPPER);
+    }
+
+    public List<Row> findByTheaterIds(Collection<String> theaterIds, LocalDateTime now) {
+        if (theaterIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query("""
+                SELECT * FROM active_event_theaters
+                WHERE theater_id IN (:theaterIds) AND end_at >= :now
+                ORDER BY start_at DESC, event_id, theater_id
+                """, new MapSqlParameterSource()
+                .addValue("theaterIds", theaterIds)
+                .addValue("now", Timestamp.valueOf(now)), ROW_MAPPER);
+    }
+
+    /**
+     * 갱신 중에도 조회는 이전 내용을 그대로 읽음 (유일 인덱스 uq_active_event_theaters_event_theater 필요)
+     */
+    public void refresh() {
+        jdbcTemplate.getJdbcOperations().execute("REFRESH MATERIALIZED VIEW CONCURRENTLY active_event_theaters");
+    }
+
+    /**
+     * 뷰가 version 이전 데이터로 만들어졌으면 갱신하고 version 을 기록함
+     * 다른 노드가 갱신 중이면 기다리지 않고 false (그 노드도 같은 버전 알림을 받아 이어서 갱신함)
+     */
+    @Transactional
+    public boolean refreshIfBehind(long version) {
+        JdbcOperations jdbc = jdbcTemplate.getJdbcOperations();
+        if (!Boolean.TRUE.equals(jdbc.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext('active_event_theaters'), 0)", Boolean.class))) {
+            return false;
+        }
+        Long refreshed = jdbc.queryForObject("SELECT version FROM active_event_view_state", Long.class);
+        if (refreshed != null && refreshed >= version) {
+            return false;
+        }
+        // version 은 이 트랜잭션 시작 전에 끝난 트랜잭션까지의 워터마크라, 여기서 갱신하면 그 변경이 모두 담김
+        refresh();
+        jdbc.update("UPDATE active_event_view_state SET version = ?, refreshed_at = now()", version);
+        return true;
+    }
+}
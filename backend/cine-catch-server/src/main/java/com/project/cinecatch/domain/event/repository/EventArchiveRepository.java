@@ -0,0 +1,73 @@
+package com.project.cinecatch.domain.event.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 종료 이벤트를 보관 테이블(*_archive)로 옮김 (JPA 대신 JDBC)
+ * - 이벤트/재고/찜을 문장 하나로 지우고 보관 테이블에 넣으므로, FK 검사는 세 테이블을 다 지운 뒤 문장 끝에서 한 번에 통과함
+ * - 크롤러가 같은 이벤트를 다시 적재했다가 또 옮기는 경우 보관 테이블의 행을 최신 값으로 덮어씀
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventArchiveRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record MoveResult(int events, int locations, int subscriptions) {}
+
+    /**
+     * end_at 이 cutoff 보다 이른 이벤트를 종료 순으로 최대 limit 개 옮김 (트랜잭션 하나)
+     * 적재 중인 이벤트 행은 SKIP LOCKED 로 건너뛰고 다음 실행에서 옮김
+     */
+    @Transactional
+    public MoveResult moveEndedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForObject("""
+                WITH target AS (
+                    SELECT id FROM events
+                    WHERE end_at < ?
+                    ORDER BY end_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                ), moved_subscriptions AS (
+                    DELETE FROM event_subscription es USING target
+                    WHERE es.event_id = target.id
+                    RETURNING es.id, es.user_id, es.event_id, es.created_at
+                ), archived_subscriptions AS (
+                    INSERT INTO event_subscription_archive (id, user_id, event_id, created_at)
+                    SELECT id, user_id, event_id, created_at FROM moved_subscriptions
+                    ON CONFLICT (id) DO NOTHING
+                ), moved_locations AS (
+                    DELETE FROM event_location el USING target
+                    WHERE el.event_id = target.id
+                    RETURNING el.id, el.event_id, el.theater_id, el.status, el.updated_at
+                ), archived_locations AS (
+                    INSERT INTO event_location_archive (id, event_id, theater_id, status, updated_at)
+                    SELECT id, event_id, theater_id, status, updated_at FROM moved_locations
+                    ON CONFLICT (id) DO UPDATE
+                        SET status = EXCLUDED.status, updated_at = EXCLUDED.updated_at
+                ), moved_events AS (
+                    DELETE FROM events e USING target
+                    WHERE e.id = target.id
+                    RETURNING e.id, e.movie_title, e.title, e.type, e.start_at, e.end_at, e.created_at, e.view_count
+                ), archived_events AS (
+                    INSERT INTO events_archive AS a (id, movie_title, title, type, start_at, end_at, created_at, view_count)
+                    SELECT id, movie_title, title, type, start_at, end_at, created_at, view_count FROM moved_events
+                    ON CONFLICT (id) DO UPDATE
+                        SET movie_title = EXCLUDED.movie_title, title = EXCLUDED.title, type = EXCLUDED.type,
+                            start_at = EXCLUDED.start_at, end_at = EXCLUDED.end_at,
+                            view_count = EXCLUDED.view_count, archived_at = now()
+                )
+                SELECT (SELECT count(*) FROM moved_events) AS events,
+                       (SELECT count(*) FROM moved_locations) AS locations,
+                       (SELECT count(*) FROM moved_subscriptions) AS subscriptions
+                """, (rs, rowNum) -> new MoveResult(
+                rs.getInt("events"), rs.getInt("locations"), rs.getInt("subscriptions")),
+                Timestamp.valueOf(cutoff), limit);
+    }
+}
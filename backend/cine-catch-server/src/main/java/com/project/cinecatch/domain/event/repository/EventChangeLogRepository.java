@@ -0,0 +1,48 @@
+package com.project.cinecatch.domain.event.repository;
+
+import com.project.cinecatch.domain.event.entity.EventChangeLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 변경 로그는 커밋 순서와 seq 순서가 다를 수 있으므로, 끝난 트랜잭션(txid < 워터마크)의 행만 (txid, seq) 순으로 읽음
+ * 워터마크보다 작은 txid 의 행은 더 생기지 않으므로 워터마크를 커서로 넘겨도 빠지는 변경이 없음
+ */
+public interface EventChangeLogRepository extends JpaRepository<EventChangeLog, Long> {
+
+    /**
+     * 현재 워터마크: 아직 진행 중인 가장 오래된 트랜잭션 id (그보다 작은 txid 의 트랜잭션은 모두 끝남)
+     */
+    @Query(value = "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint)", nativeQuery = true)
+    long findWatermark();
+
+    /**
+     * since <= txid < until 범위의 변경 (until 은 앞서 읽은 워터마크)
+     */
+    @Query(value = """
+            SELECT * FROM event_change_log
+            WHERE txid >= CAST(CAST(:since AS text) AS xid8) AND txid < CAST(CAST(:until AS text) AS xid8)
+            ORDER BY txid, seq LIMIT :limit""", nativeQuery = true)
+    List<EventChangeLog> findCommittedChanges(@Param("since") long since, @Param("until") long until,
+                                              @Param("limit") int limit);
+
+    /**
+     * findCommittedChanges 다음 페이지 ((afterTxid, afterSeq) 뒤부터)
+     */
+    @Query(value = """
+            SELECT * FROM event_change_log
+            WHERE txid < CAST(CAST(:until AS text) AS xid8)
+              AND (txid, seq) > (CAST(CAST(:afterTxid AS text) AS xid8), :afterSeq)
+            ORDER BY txid, seq LIMIT :limit""", nativeQuery = true)
+    List<EventChangeLog> findCommittedChangesAfter(@Param("afterTxid") long afterTxid, @Param("afterSeq") long afterSeq,
+                                                   @Param("until") long until, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT EXISTS (SELECT 1 FROM event_change_log
+                           WHERE txid >= CAST(CAST(:since AS text) AS xid8)
+                             AND txid < pg_snapshot_xmin(pg_current_snapshot()))""", nativeQuery = true)
+    boolean existsCommittedSince(@Param("since") long since);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface EventRepository extends JpaRepository<Event, String> {
@@ -18,4 +19,7 @@ public interface EventRepository extends JpaRepository<Event, String> {
 
     @Query("SELECT e FROM Event e JOIN FETCH e.movie ORDER BY e.startAt DESC")
     List<Event> findAllWithMovie();
+
+    @Query("SELECT e FROM Event e JOIN FETCH e.movie WHERE e.id IN :ids")
+    List<Event> findAllWithMovieByIdIn(@Param("ids") Collection<String> ids);
 }
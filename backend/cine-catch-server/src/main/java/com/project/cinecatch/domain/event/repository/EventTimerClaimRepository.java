@@ -0,0 +1,30 @@
+package com.project.cinecatch.domain.event.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 타이머 실행권 (V20__create_event_timer_claim.sql)
+ * 여러 노드에서 같은 타이머가 울려도 행을 먼저 넣은 한 노드만 실행함
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventTimerClaimRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 이 노드가 실행권을 얻었으면 true (다른 노드가 이미 실행했거나 이벤트가 지워졌으면 false)
+     */
+    public boolean claim(String eventId, String timer, LocalDateTime endAt, String nodeId) {
+        return jdbcTemplate.update("""
+                INSERT INTO event_timer_claim (event_id, timer, end_at, node_id)
+                SELECT ?, ?, ?, ? WHERE EXISTS (SELECT 1 FROM events WHERE id = ?)
+                ON CONFLICT DO NOTHING
+                """, eventId, timer, Timestamp.valueOf(endAt), nodeId, eventId) == 1;
+    }
+}
@@ -0,0 +1,189 @@
+package com.project.cinecatch.domain.event.repository;
+
+import com.project.cinecatch.global.event.InventoryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 크롤링 재고 스냅샷 적재 (JPA 대신 JDBC)
+ * - 스냅샷을 COPY 로 임시 테이블에 올린 뒤, 집합 단위 upsert 한 번으로 상태가 바뀐 행만 쓰고 변경분을 돌려받음
+ * - 임시 테이블은 ON COMMIT DROP 이라 모든 메서드는 호출자의 트랜잭션 안에서만 실행됨
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class InventoryIngestionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record EventRow(String eventId, String movieTitle, String title, LocalDateTime startAt, LocalDateTime endAt) {}
+
+    public record LocationRow(String eventId, String theaterName, String status) {}
+
+    public void createStagingTables() {
+        jdbcTemplate.execute("""
+                CREATE TEMP TABLE ingest_event (
+                    seq         BIGINT,
+                    event_id    VARCHAR(255),
+                    movie_title VARCHAR(255),
+                    title       VARCHAR(255),
+                    start_at    TIMESTAMP(6),
+                    end_at      TIMESTAMP(6)
+                ) ON COMMIT DROP
+                """);
+        jdbcTemplate.execute("""
+                CREATE TEMP TABLE ingest_location (
+                    seq          BIGINT,
+                    event_id     VARCHAR(255),
+                    theater_name VARCHAR(50),
+                    status       VARCHAR(50)
+                ) ON COMMIT DROP
+                """);
+    }
+
+    /**
+     * seq 는 스냅샷 안 순서. 같은 키가 여러 번 나오면 마지막 값을 씀
+     */
+    public long copyEvents(List<EventRow> rows, long firstSeq) {
+        StringBuilder csv = new StringBuilder(rows.size() * 128);
+        long seq = firstSeq;
+        for (EventRow row : rows) {
+            csv.append(seq++).append(',');
+            appendCsv(csv, row.eventId()).append(',');
+            appendCsv(csv, row.movieTitle()).append(',');
+            appendCsv(csv, row.title()).append(',');
+            appendCsv(csv, row.startAt()).append(',');
+            appendCsv(csv, row.endAt()).append('\n');
+        }
+        return copy("COPY ingest_event (seq, event_id, movie_title, title, start_at, end_at) FROM STDIN WITH (FORMAT csv)", csv);
+    }
+
+    public long copyLocations(List<LocationRow> rows, long firstSeq) {
+        StringBuilder csv = new StringBuilder(rows.size() * 48);
+        long seq = firstSeq;
+        for (LocationRow row : rows) {
+            csv.append(seq++).append(',');
+            appendCsv(csv, row.eventId()).append(',');
+            appendCsv(csv, row.theaterName()).append(',');
+            appendCsv(csv, row.status()).append('\n');
+        }
+        return copy("COPY ingest_location (seq, event_id, theater_name, status) FROM STDIN WITH (FORMAT csv)", csv);
+    }
+
+    /**
+     * 영화는 없을 때만 추가, 이벤트는 제목/기간이 바뀐 경우만 갱신 (그대로인 행은 다시 쓰지 않음)
+     * @return 새로 생기거나 바뀐 이벤트 수
+     */
+    public int upsertMoviesAndEvents() {
+        jdbcTemplate.update("""
+                INSERT INTO movies (id, title, director, created_at)
+                SELECT DISTINCT movie_title, movie_title, '', now()
+                FROM ingest_event
+                ON CONFLICT (id) DO NOTHING
+                """);
+        return jdbcTemplate.update("""
+                INSERT INTO events AS e (id, movie_title, title, type, start_at, end_at, created_at)
+                SELECT DISTINCT ON (event_id) event_id, movie_title, title, 'GOODS', start_at, end_at, now()
+                FROM ingest_event
+                ORDER BY event_id, seq DESC
+                ON CONFLICT (id) DO UPDATE
+                    SET title = EXCLUDED.title, start_at = EXCLUDED.start_at, end_at = EXCLUDED.end_at
+                    WHERE (e.title, e.start_at, e.end_at) IS DISTINCT FROM (EXCLUDED.title, EXCLUDED.start_at, EXCLUDED.end_at)
+                """);
+    }
+
+    public int countUnmatchedTheaters() {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT count(DISTINCT s.theater_name)
+                FROM ingest_location s
+                WHERE NOT EXISTS (SELECT 1 FROM theaters t WHERE t.name = s.theater_name)
+                """, Integer.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 재고 상태 병합. 상태가 같은 행은 ON CONFLICT ... WHERE 에서 걸러져 쓰지도 반환되지도 않음
+     * 같은 문장 안의 CTE 는 upsert 이전 스냅샷을 보므로 previous 로 이전 상태를 함께 돌려줌
+     * 극장명 -> id 는 loader.py 처럼 이름당 하나로 매핑하고, events 에 없는 이벤트의 행은 건너뜀
+     */
+    public List<InventoryChangedEvent.Change> mergeLocations() {
+        return jdbcTemplate.query("""
+                WITH theater_by_name AS (
+                    SELECT DISTINCT ON (name) id, name FROM theaters ORDER BY name, id
+                ), incoming AS (
+                    SELECT DISTINCT ON (t.id, s.event_id)
+                           t.id AS theater_id, t.name AS theater_name, s.event_id, s.status
+                    FROM ingest_location s
+                    JOIN theater_by_name t ON t.name = s.theater_name
+                    WHERE EXISTS (SELECT 1 FROM events e WHERE e.id = s.event_id)
+                    ORDER BY t.id, s.event_id, s.seq DESC
+                ), previous AS (
+                    SELECT el.theater_id, el.event_id, el.status
+                    FROM event_location el
+                    JOIN incoming i ON i.theater_id = el.theater_id AND i.event_id = el.event_id
+                ), upserted AS (
+                    INSERT INTO event_location AS el (id, theater_id, event_id, status, updated_at)
+                    SELECT gen_random_uuid()::text, theater_id, event_id, status, now()
+                    FROM incoming
+                    ON CONFLICT (theater_id, event_id) DO UPDATE
+                        SET status = EXCLUDED.status, updated_at = EXCLUDED.updated_at
+                        WHERE el.status IS DISTINCT FROM EXCLUDED.status
+                    RETURNING el.theater_id, el.event_id, el.status, el.updated_at
+                )
+                SELECT u.event_id, e.title AS event_title, u.theater_id, i.theater_name,
+                       p.status AS old_status, u.status AS new_status, u.updated_at
+                FROM upserted u
+                JOIN incoming i ON i.theater_id = u.theater_id AND i.event_id = u.event_id
+                JOIN events e ON e.id = u.event_id
+                LEFT JOIN previous p ON p.theater_id = u.theater_id AND p.event_id = u.event_id
+                ORDER BY u.event_id, u.theater_id
+                """, (rs, rowNum) -> new InventoryChangedEvent.Change(
+                rs.getString("event_id"),
+                rs.getString("event_title"),
+                rs.getString("theater_id"),
+                rs.getString("theater_name"),
+                rs.getString("old_status"),
+                rs.getString("new_status"),
+                rs.getTimestamp("updated_at").toLocalDateTime()));
+    }
+
+    private long copy(String sql, StringBuilder csv) {
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, new StringReader(csv.toString()));
+            } catch (IOException e) {
+                throw new IllegalStateException("COPY 실패", e);
+            }
+        });
+        return copied != null ? copied : 0;
+    }
+
+    /**
+     * CSV 값 하나. null 은 따옴표 없는 빈 값(NULL), 나머지는 따옴표로 감싸고 안의 따옴표는 두 번 씀
+     */
+    private static StringBuilder appendCsv(StringBuilder csv, Object value) {
+        if (value == null) {
+            return csv;
+        }
+        String text = value.toString();
+        csv.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        return csv.append('"');
+    }
+}
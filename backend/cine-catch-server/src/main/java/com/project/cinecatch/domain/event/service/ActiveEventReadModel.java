@@ -0,0 +1,162 @@
+package com.project.cinecatch.domain.event.service;
+
+import com.project.cinecatch.domain.event.dto.EventResponse;
+import com.project.cinecatch.domain.event.entity.Event;
+import com.project.cinecatch.domain.event.entity.EventChangeLog;
+import com.project.cinecatch.domain.event.entity.EventLocation;
+import com.project.cinecatch.domain.event.repository.EventChangeLogRepository;
+import com.project.cinecatch.domain.event.repository.EventLocationRepository;
+import com.project.cinecatch.domain.event.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 진행 중 이벤트 조회용 메모리 읽기 모델 (이벤트별 EventResponse)
+ * - 기동 시 한 번 전체를 읽고, 이후에는 변경 로그(event_change_log) 워터마크를 데이터 버전 삼아 바뀐 이벤트만 다시 읽음
+ * - 변경 로그와 이벤트를 한 트랜잭션(프라이머리)에서 읽어, 복제 지연으로 로그보다 오래된 이벤트를 담는 일이 없게 함
+ * - 갱신은 InventoryRefreshService 가 한 번에 하나씩만 호출함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveEventReadModel {
+
+    static final int CHANGE_PAGE_SIZE = 2000;
+
+    private final EventRepository eventRepository;
+    private final EventLocationRepository eventLocationRepository;
+    private final EventChangeLogRepository eventChangeLogRepository;
+
+    private final Map<String, EventResponse> events = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * 이번 갱신에서 바뀐 대상. version 은 반영을 마친 변경 로그 워터마크 (이보다 작은 txid 의 변경은 모두 반영함)
+     */
+    public record ChangeSet(long version, Set<String> eventIds, Set<String> theaterIds, Set<String> expiredEventIds) {
+
+        public boolean isEmpty() {
+            return eventIds.isEmpty() && expiredEventIds.isEmpty();
+        }
+    }
+
+    /**
+     * 전체 다시 읽기. 버전을 먼저 읽으므로 읽는 사이 들어온 변경은 다음 갱신에서 한 번 더 반영됨 (멱등)
+     */
+    @Transactional
+    public long loadAll() {
+        long version = eventChangeLogRepository.findWatermark();
+        List<Event> activeEvents = eventRepository.findActiveEvents(LocalDateTime.now());
+
+        Map<String, EventResponse> loadedEvents = toResponses(activeEvents);
+        events.keySet().retainAll(loadedEvents.keySet());
+        events.putAll(loadedEvents);
+        loaded = true;
+
+        log.info("진행 중 이벤트 읽기 모델 적재: {}건 (버전 {})", loadedEvents.size(), version);
+        return version;
+    }
+
+    /**
+     * since 워터마크 이후 끝난 트랜잭션의 변경 로그를 읽어 바뀐 이벤트만 다시 읽고, 만료/종료된 이벤트는 뺌
+     */
+    @Transactional
+    public ChangeSet applyChangesAfter(long since) {
+        long until = eventChangeLogRepository.findWatermark();
+        Set<String> eventIds = new LinkedHashSet<>();
+        Set<String> theaterIds = new LinkedHashSet<>();
+        Set<String> expiredEventIds = new LinkedHashSet<>();
+        if (until <= since) {
+            return new ChangeSet(since, eventIds, theaterIds, expiredEventIds);
+        }
+
+        List<EventChangeLog> page = eventChangeLogRepository.findCommittedChanges(since, until, CHANGE_PAGE_SIZE);
+        while (true) {
+            for (EventChangeLog change : page) {
+                switch (change.getChangeType()) {
+                    case EVENT -> eventIds.add(change.getEventId());
+                    case LOCATION -> {
+                        eventIds.add(change.getEventId());
+                        theaterIds.add(change.getTheaterId());
+                    }
+                    case EXPIRED -> expiredEventIds.add(change.getEventId());
+                }
+            }
+            if (page.size() < CHANGE_PAGE_SIZE) {
+                break;
+            }
+            EventChangeLog last = page.get(page.size() - 1);
+            page = eventChangeLogRepository.findCommittedChangesAfter(last.getTxid(), last.getSeq(), until, CHANGE_PAGE_SIZE);
+        }
+
+        eventIds.removeAll(expiredEventIds);
+        expiredEventIds.forEach(events::remove);
+        if (!eventIds.isEmpty()) {
+            reload(eventIds);
+        }
+        return new ChangeSet(until, eventIds, theaterIds, expiredEventIds);
+    }
+
+    /**
+     * 적재 전이면 empty (호출 쪽에서 DB 로 조회)
+     */
+    public Optional<List<EventResponse>> findActiveEvents(LocalDateTime now) {
+        if (!loaded) {
+            return Optional.empty();
+        }
+        // 종료 시각이 지난 이벤트는 만료 툼스톤 전이라도 거름
+        return Optional.of(events.values().stream()
+                .filter(event -> !event.getEndAt().isBefore(now))
+                .sorted(Comparator.comparing(EventResponse::getStartAt).reversed())
+                .toList());
+    }
+
+    public Optional<EventResponse> findEvent(String eventId) {
+        return Optional.ofNullable(events.get(eventId));
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    private void reload(Collection<String> eventIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Event> changed = eventRepository.findAllWithMovieByIdIn(eventIds).stream()
+                .filter(event -> !event.getEndAt().isBefore(now))
+                .toList();
+
+        Map<String, EventResponse> reloaded = toResponses(changed);
+        Set<String> gone = new HashSet<>(eventIds);
+        gone.removeAll(reloaded.keySet());
+        gone.forEach(events::remove);
+        events.putAll(reloaded);
+    }
+
+    private Map<String, EventResponse> toResponses(List<Event> source) {
+        if (source.isEmpty()) {
+            return Map.of();
+        }
+        Set<String> ids = source.stream().map(Event::getId).collect(Collectors.toSet());
+        Map<String, List<EventLocation>> locationsByEvent = eventLocationRepository.findByEventIdsWithTheater(ids)
+                .stream()
+                .collect(Collectors.groupingBy(location -> location.getEvent().getId()));
+
+        return source.stream()
+                .collect(Collectors.toMap(Event::getId,
+                        event -> EventResponse.of(event, locationsByEvent.getOrDefault(event.getId(), List.of()))));
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.cinecatch.domain.event.service;
+
+import com.project.cinecatch.domain.event.repository.ActiveEventTheaterRepository;
+import com.project.cinecatch.global.event.InventoryVersionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * active_event_theaters 구체화 뷰 갱신 (극장별/주변 이벤트 목록이 읽는 뷰)
+ * - 모든 노드가 읽기 모델 버전이 오르면(InventoryVersionChangedEvent) 그 버전으로 갱신을 요청하고,
+ *   뷰가 그 버전보다 오래됐을 때 락을 잡은 한 노드만 실제로 갱신함 (크롤러 직접 적재, 다른 노드 적재도 따라감)
+ * - 변경 로그에 남지 않는 극장 배치 뒤에는 requestRefresh() 로 버전과 관계없이 갱신함
+ * - 갱신은 노드마다 한 번에 하나만 돌고, 도는 중에 온 요청은 가장 높은 버전 하나로 묶여 끝난 뒤 한 번 더 갱신함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveEventViewRefresher {
+
+    private static final long NONE = -1;
+    /** 버전 확인 없이 갱신 */
+    private static final long FORCE = Long.MAX_VALUE;
+
+    private final ActiveEventTheaterRepository activeEventTheaterRepository;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong pending = new AtomicLong(NONE);
+
+    /**
+     * 읽기 모델 갱신 직후. 발행한 스레드(적재 콜백/버스 수신)를 막지 않도록 넘김
+     */
+    @EventListener
+    public void onInventoryVersionChanged(InventoryVersionChangedEvent event) {
+        request(event.version());
+    }
+
+    public void requestRefresh() {
+        request(FORCE);
+    }
+
+    private void request(long version) {
+        pending.accumulateAndGet(version, Math::max);
+        if (running.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("active-event-view-refresh").start(this::drain);
+        }
+    }
+
+    void drain() {
+        do {
+            try {
+                long version;
+                while ((version = pending.getAndSet(NONE)) != NONE) {
+                    refresh(version);
+                }
+            } finally {
+                running.set(false);
+            }
+            // running 을 내리기 직전에 들어온 요청은 여기서 이어 받음
+        } while (pending.get() != NONE && running.compareAndSet(false, true));
+    }
+
+    private void refresh(long version) {
+        long started = System.nanoTime();
+        try {
+            if (version == FORCE) {
+                activeEventTheaterRepository.refresh();
+            } else if (!activeEventTheaterRepository.refreshIfBehind(version)) {
+                log.debug("진행 중 이벤트 뷰가 이미 버전 {} 이상이거나 다른 노드가 갱신 중이라 건너뜀", version);
+                return;
+            }
+            log.info("진행 중 이벤트 뷰 갱신 완료 ({}ms)", (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            // 뷰는 이전 내용을 그대로 보여 주고, 다음 버전 변경 때 다시 갱신함
+            log.warn("진행 중 이벤트 뷰 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.project.cinecatch.domain.event.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.project.cinecatch.domain.event.repository.InventoryIngestionRepository.EventRow;
+import com.project.cinecatch.domain.event.repository.InventoryIngestionRepository.LocationRow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 크롤러 스냅샷 스트리밍 파서 (Jackson 토큰 단위, 트리를 만들지 않음)
+ * - 입력: 이벤트 객체의 JSON 배열(crawler.py 출력) 또는 한 줄에 이벤트 하나인 NDJSON
+ * - (이벤트, 극장, 상태) 행으로 펼쳐 batchSize 개씩 Sink 에 넘기므로, 메모리는 스냅샷 크기와 무관하게 배치 하나 분량
+ * - crawler.py 는 event_no 를 regions 앞에 쓰므로 보통 바로 흘려보내고, 순서가 반대인 이벤트만 그 이벤트의 극장 목록을 잠시 모아둠
+ */
+public class CrawlSnapshotReader {
+
+    private static final DateTimeFormatter SNAPSHOT_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * 배치는 전달 후 재사용되므로 Sink 는 받은 리스트를 보관하면 안 됨
+     */
+    public interface Sink {
+        void events(List<EventRow> batch);
+
+        void locations(List<LocationRow> batch);
+    }
+
+    public record Stats(int events, long locations) {}
+
+    private final JsonFactory jsonFactory;
+    private final int batchSize;
+    private final LocalDateTime now;
+
+    private final List<EventRow> eventBatch;
+    private final List<LocationRow> locationBatch;
+    private int eventCount;
+    private long locationCount;
+
+    /**
+     * 배치 버퍼를 들고 있으므로 적재 한 번마다 새로 만듦
+     * @param now 시작/종료일이 비어 있을 때 쓰는 시각 (loader.py 와 동일)
+     */
+    public CrawlSnapshotReader(JsonFactory jsonFactory, int batchSize, LocalDateTime now) {
+        this.jsonFactory = jsonFactory;
+        this.batchSize = batchSize;
+        this.now = now;
+        this.eventBatch = new ArrayList<>(batchSize);
+        this.locationBatch = new ArrayList<>(batchSize);
+    }
+
+    public Stats read(InputStream input, Sink sink) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(input)) {
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+            // NDJSON 은 최상위 값이 공백으로 이어진 것이라 같은 루프로 읽힘
+            while (token != null && token != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IOException("이벤트 객체가 와야 할 위치입니다: " + token + " at " + parser.currentLocation());
+                }
+                readEvent(parser, sink);
+                token = parser.nextToken();
+            }
+        }
+        if (!eventBatch.isEmpty()) {
+            sink.events(eventBatch);
+            eventBatch.clear();
+        }
+        flushLocations(sink);
+        return new Stats(eventCount, locationCount);
+    }
+
+    private void readEvent(JsonParser parser, Sink sink) throws IOException {
+        String eventNo = null;
+        String movieTitle = null;
+        String eventTitle = null;
+        String startDate = null;
+        String endDate = null;
+        // event_no 보다 regions 가 먼저 나온 경우에만 사용 (극장명, 상태 순으로 번갈아 저장)
+        List<String> pending = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "event_no" -> eventNo = parser.getValueAsString();
+                case "movie_title" -> movieTitle = parser.getValueAsString();
+                case "event_title" -> eventTitle = parser.getValueAsString();
+                case "start_date" -> startDate = parser.getValueAsString();
+                case "end_date" -> endDate = parser.getValueAsString();
+                case "regions" -> {
+                    if (value != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                    } else if (eventNo != null) {
+                        readRegions(parser, eventNo, null, sink);
+                    } else {
+                        pending = new ArrayList<>();
+                        readRegions(parser, null, pending, sink);
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (eventNo == null) {
+            return;
+        }
+        if (pending != null) {
+            for (int i = 0; i < pending.size(); i += 2) {
+                addLocation(new LocationRow(eventNo, pending.get(i), pending.get(i + 1)), sink);
+            }
+        }
+        // 영화 제목이 없는 이벤트는 적재하지 않음 (이미 흘려보낸 극장 행은 병합 시 events 에 없어 걸러짐)
+        if (movieTitle == null) {
+            return;
+        }
+        eventBatch.add(new EventRow(eventNo, movieTitle, movieTitle + " - " + eventTitle,
+                parseDate(startDate), parseDate(endDate)));
+        eventCount++;
+        if (eventBatch.size() >= batchSize) {
+            sink.events(eventBatch);
+            eventBatch.clear();
+        }
+    }
+
+    /**
+     * regions: { "지역명": [ { "theater": ..., "status": ... }, ... ], ... }
+     */
+    private void readRegions(JsonParser parser, String eventNo, List<String> pending, Sink sink) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                String theater = null;
+                String status = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "theater" -> theater = parser.getValueAsString();
+                        case "status" -> status = parser.getValueAsString();
+                        default -> parser.skipChildren();
+                    }
+                }
+                if (theater == null || status == null) {
+                    continue;
+                }
+                if (pending != null) {
+                    pending.add(theater);
+                    pending.add(status);
+                } else {
+                    addLocation(new LocationRow(eventNo, theater, status), sink);
+                }
+            }
+        }
+    }
+
+    private void addLocation(LocationRow row, Sink sink) {
+        locationBatch.add(row);
+        locationCount++;
+        if (locationBatch.size() >= batchSize) {
+            flushLocations(sink);
+        }
+    }
+
+    private void flushLocations(Sink sink) {
+        if (!locationBatch.isEmpty()) {
+            sink.locations(locationBatch);
+            locationBatch.clear();
+        }
+    }
+
+    private LocalDateTime parseDate(String value) throws IOException {
+        if (value == null || value.isBlank()) {
+            return now;
+        }
+        try {
+            return LocalDate.parse(value.trim(), SNAPSHOT_DATE).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new IOException("날짜 형식(yyyyMMdd)이 아닙니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.project.cinecatch.domain.event.service;
+
+import com.project.cinecatch.domain.event.repository.EventArchiveRepository;
+import com.project.cinecatch.global.batch.BatchJobRunner;
+import com.project.cinecatch.global.batch.BatchSchedulerConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 종료 이벤트 보관 배치
+ * - 종료 후 retention-days 가 지난 이벤트를 재고/찜과 함께 보관 테이블로 옮겨, 운영 테이블에는 진행 중 + 최근 종료 이벤트만 남김
+ * - batch-size 개 이벤트씩 트랜잭션을 나눠 옮겨 락을 오래 잡지 않음. 지운 이벤트는 삭제 트리거가 EXPIRED 툼스톤으로 남김
+ * - BatchJobRunner 로 돌아 한 노드만 실행하고, 파이썬 적재와도 겹치지 않음 (배치 공용 락)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventArchiveService {
+
+    static final String ARCHIVE_JOB = "event-archive";
+    private static final long ARCHIVE_PERIOD_MS = 86400000;
+
+    private final BatchJobRunner batchJobRunner;
+    private final EventArchiveRepository eventArchiveRepository;
+
+    @Value("${event.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${event.archive.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${event.archive.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedRate = ARCHIVE_PERIOD_MS, initialDelayString = "${event.archive.initial-delay-ms:900000}",
+            scheduler = BatchSchedulerConfig.SCHEDULER)
+    public void archiveEndedEvents() {
+        if (!enabled) {
+            return;
+        }
+        batchJobRunner.run(ARCHIVE_JOB, Duration.ofMillis(ARCHIVE_PERIOD_MS),
+                execution -> archiveEndedBefore(LocalDateTime.now().minusDays(retentionDays)));
+    }
+
+    /**
+     * @return 옮긴 이벤트 수
+     */
+    int archiveEndedBefore(LocalDateTime cutoff) throws InterruptedException {
+        int events = 0;
+        int locations = 0;
+        int subscriptions = 0;
+        EventArchiveRepository.MoveResult moved;
+        do {
+            if (Thread.interrupted()) {
+                // 종료 중: 이미 옮긴 배치는 커밋됐으므로 나머지는 다음 실행에서 옮김
+                throw new InterruptedException();
+            }
+            moved = eventArchiveRepository.moveEndedBefore(cutoff, batchSize);
+            events += moved.events();
+            locations += moved.locations();
+            subscriptions += moved.subscriptions();
+        } while (moved.events() >= batchSize);
+
+        log.info("종료 이벤트 보관 완료 ({} 이전 종료): 이벤트 {}건, 재고 {}건, 찜 {}건", cutoff, events, locations, subscriptions);
+        return events;
+    }
+}
@@ -0,0 +1,216 @@
+package com.project.cinecatch.domain.event.service;
+
+import com.project.cinecatch.domain.event.dto.EventChangesResponse;
+import com.project.cinecatch.domain.event.dto.EventResponse;
+import com.project.cinecatch.domain.event.entity.EventChangeLog;
+import com.project.cinecatch.domain.event.entity.EventLocation;
+import com.project.cinecatch.domain.event.repository.EventChangeLogRepository;
+import com.project.cinecatch.domain.event.repository.EventLocationRepository;
+import com.project.cinecatch.domain.event.repository.EventRepository;
+import com.project.cinecatch.domain.theater.entity.Theater;
+import com.project.cinecatch.domain.theater.repository.TheaterRepository;
+import com.project.cinecatch.global.event.EventExpiredEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 증분 동기화 피드
+ * 클라이언트는 since 커서 이후의 변경만 받아 로컬 사본에 덮어씀 (전체 목록 재다운로드 대신)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EventChangeFeedService {
+
+    private final EventChangeLogRepository eventChangeLogRepository;
+    private final EventRepository eventRepository;
+    private final EventLocationRepository eventLocationRepository;
+    private final TheaterRepository theaterRepository;
+
+    public static final int DEFAULT_LIMIT = 500;
+    public static final int MAX_LIMIT = 2000;
+
+    /**
+     * 현재 커서만 반환 (최초 동기화 시 전체 목록을 받기 전에 먼저 호출)
+     */
+    public EventChangesResponse getLatestCursor() {
+        return empty(eventChangeLogRepository.findWatermark());
+    }
+
+    /**
+     * since 커서(워터마크) 이후 끝난 트랜잭션의 변경을 접어서 반환
+     * 커서가 트랜잭션 단위라 페이지는 트랜잭션 경계에서 자르고, 트랜잭션 하나가 limit 보다 크면 그 트랜잭션을 나눠 읽어 전부 접음
+     */
+    public EventChangesResponse getChanges(long since, Integer limit) {
+        int pageSize = limit != null ? Math.max(1, Math.min(limit, MAX_LIMIT)) : DEFAULT_LIMIT;
+
+        long until = eventChangeLogRepository.findWatermark();
+        if (until <= since) {
+            // 복제본마다 워터마크가 조금씩 다를 수 있으므로 커서는 뒤로 돌리지 않음
+            return empty(since);
+        }
+
+        List<EventChangeLog> changes = eventChangeLogRepository.findCommittedChanges(since, until, pageSize + 1);
+        if (changes.isEmpty()) {
+            return empty(until);
+        }
+
+        // 커밋된 순서(txid, seq)대로 접어서 이벤트별 최종 상태만 남김
+        ChangeFold fold = new ChangeFold();
+        long cursor = until;
+        boolean hasMore = changes.size() > pageSize;
+        if (!hasMore) {
+            fold.addAll(changes);
+        } else {
+            long boundaryTxid = changes.get(pageSize).getTxid();
+            List<EventChangeLog> wholeTransactions = changes.subList(0, pageSize).stream()
+                    .filter(change -> change.getTxid() < boundaryTxid)
+                    .toList();
+            if (!wholeTransactions.isEmpty()) {
+                fold.addAll(wholeTransactions);
+                cursor = boundaryTxid;
+            } else {
+                // 첫 트랜잭션 하나가 limit 을 넘으면 커서를 트랜잭션 중간에 둘 수 없으므로 끝까지 이어 읽음
+                cursor = boundaryTxid + 1;
+                List<EventChangeLog> page = changes;
+                while (true) {
+                    fold.addAll(page);
+                    if (page.size() < pageSize) {
+                        break;
+                    }
+                    EventChangeLog last = page.get(page.size() - 1);
+                    page = eventChangeLogRepository.findCommittedChangesAfter(
+                            last.getTxid(), last.getSeq(), cursor, pageSize);
+                }
+                hasMore = cursor < until;
+            }
+        }
+        Set<String> changedEventIds = fold.changedEventIds;
+        Set<String> expiredEventIds = fold.expiredEventIds;
+
+        List<EventResponse> events = loadEvents(changedEventIds);
+
+        // 전체를 내려주는 이벤트와 만료된 이벤트의 개별 재고 변경은 생략
+        List<LocationDelta> deltas = fold.locationDeltas.values().stream()
+                .filter(delta -> !changedEventIds.contains(delta.change().getEventId()))
+                .filter(delta -> !expiredEventIds.contains(delta.change().getEventId()))
+                .toList();
+
+        return EventChangesResponse.builder()
+                .cursor(cursor)
+                .hasMore(hasMore)
+                .events(events)
+                .locations(toLocationChanges(deltas))
+                .expiredEventIds(new ArrayList<>(expiredEventIds))
+                .build();
+    }
+
+    private EventChangesResponse empty(long cursor) {
+        return EventChangesResponse.builder()
+                .cursor(cursor)
+                .hasMore(false)
+                .events(List.of())
+                .locations(List.of())
+                .expiredEventIds(List.of())
+                .build();
+    }
+
+    /**
+     * 종료된 이벤트 툼스톤 기록 (클라이언트가 로컬 사본에서 지우도록)
+     */
+    @EventListener
+    @Transactional
+    public void onEventExpired(EventExpiredEvent expired) {
+        eventChangeLogRepository.save(EventChangeLog.expired(expired.eventId()));
+        log.debug("이벤트 만료 툼스톤 기록: {}", expired.eventId());
+    }
+
+    private List<EventResponse> loadEvents(Set<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, List<EventLocation>> locationsByEvent = eventLocationRepository.findByEventIdsWithTheater(eventIds)
+                .stream()
+                .collect(Collectors.groupingBy(location -> location.getEvent().getId()));
+
+        return eventRepository.findAllWithMovieByIdIn(eventIds).stream()
+                .map(event -> EventResponse.of(event, locationsByEvent.getOrDefault(event.getId(), List.of())))
+                .toList();
+    }
+
+    private List<EventChangesResponse.LocationChange> toLocationChanges(List<LocationDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> theaterIds = deltas.stream()
+                .map(delta -> delta.change().getTheaterId())
+                .collect(Collectors.toSet());
+        Map<String, Theater> theaters = theaterRepository.findAllById(theaterIds).stream()
+                .collect(Collectors.toMap(Theater::getId, Function.identity()));
+
+        return deltas.stream()
+                .map(delta -> {
+                    EventChangeLog change = delta.change();
+                    Theater theater = theaters.get(change.getTheaterId());
+                    return EventChangesResponse.LocationChange.builder()
+                            .eventId(change.getEventId())
+                            .theaterId(change.getTheaterId())
+                            .theaterName(theater != null ? theater.getName() : null)
+                            .address(theater != null ? theater.getAddress() : null)
+                            .latitude(theater != null && theater.getLocation() != null ? theater.getLocation().getY() : null)
+                            .longitude(theater != null && theater.getLocation() != null ? theater.getLocation().getX() : null)
+                            .oldStatus(delta.oldStatus())
+                            .status(change.getNewStatus())
+                            .changedAt(change.getChangedAt())
+                            .build();
+                })
+                .toList();
+    }
+
+    private record LocationDelta(EventChangeLog change, String oldStatus) {}
+
+    private static final class ChangeFold {
+
+        private final Set<String> changedEventIds = new LinkedHashSet<>();
+        private final Set<String> expiredEventIds = new LinkedHashSet<>();
+        private final Map<String, LocationDelta> locationDeltas = new LinkedHashMap<>();
+
+        void addAll(List<EventChangeLog> changes) {
+            for (EventChangeLog change : changes) {
+                String eventId = change.getEventId();
+                switch (change.getChangeType()) {
+                    case EVENT -> {
+                        changedEventIds.add(eventId);
+                        expiredEventIds.remove(eventId);
+                    }
+                    case LOCATION -> {
+                        // 종료 후에도 크롤러가 재고를 갱신할 수 있으므로 툼스톤은 EVENT(기간 연장)로만 취소됨
+                        String key = eventId + "|" + change.getTheaterId();
+                        LocationDelta previous = locationDeltas.get(key);
+                        String oldStatus = previous != null ? previous.oldStatus() : change.getOldStatus();
+                        locationDeltas.put(key, new LocationDelta(change, oldStatus));
+                    }
+                    case EXPIRED -> {
+                        expiredEventIds.add(eventId);
+                        changedEventIds.remove(eventId);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.project.cinecatch.domain.event.dto.EventResponse;
 import com.project.cinecatch.domain.event.dto.TheaterEventResponse;
 import com.project.cinecatch.domain.event.entity.Event;
 import com.project.cinecatch.domain.event.entity.EventLocation;
+import com.project.cinecatch.domain.event.repository.ActiveEventTheaterRepository;
 import com.project.cinecatch.domain.event.repository.EventLocationRepository;
 import com.project.cinecatch.domain.event.repository.EventRepository;
 import com.project.cinecatch.domain.theater.entity.Theater;
@@ -13,8 +14,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,10 +28,18 @@ public class EventService {
     private final EventRepository eventRepository;
     private final EventLocationRepository eventLocationRepository;
     private final TheaterService theaterService;
+    private final ActiveEventReadModel activeEventReadModel;
+    private final ActiveEventTheaterRepository activeEventTheaterRepository;
 
     private static final double DEFAULT_RADIUS_METERS = 5000.0; // 5km
 
     public List<EventResponse> getAllActiveEvents() {
+        // 적재 후 몇 초 안에 갱신되는 읽기 모델에서 응답하고, 기동 직후 적재 전에만 DB 를 읽음
+        Optional<List<EventResponse>> cached = activeEventReadModel.findActiveEvents(LocalDateTime.now());
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         List<Event> events = eventRepository.findActiveEvents(LocalDateTime.now());
         return events.stream()
                 .map(event -> {
@@ -50,17 +61,23 @@ public class EventService {
                 .map(Theater::getId)
                 .collect(Collectors.toList());
 
-        List<EventLocation> locations = eventLocationRepository.findActiveEventsByTheaterIds(theaterIds);
-
-        Map<Event, List<EventLocation>> eventLocationMap = locations.stream()
-                .collect(Collectors.groupingBy(EventLocation::getEvent));
+        // 이벤트/영화/극장/재고를 미리 조인해 둔 구체화 뷰에서 읽음 (시작일 최신순)
+        Map<String, List<ActiveEventTheaterRepository.Row>> rowsByEvent = activeEventTheaterRepository
+                .findByTheaterIds(theaterIds, LocalDateTime.now()).stream()
+                .collect(Collectors.groupingBy(ActiveEventTheaterRepository.Row::eventId,
+                        LinkedHashMap::new, Collectors.toList()));
 
-        return eventLocationMap.entrySet().stream()
-                .map(entry -> EventResponse.of(entry.getKey(), entry.getValue()))
+        return rowsByEvent.values().stream()
+                .map(this::toEventResponse)
                 .collect(Collectors.toList());
     }
 
     public EventResponse getEventDetail(String eventId) {
+        Optional<EventResponse> cached = activeEventReadModel.findEvent(eventId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new IllegalArgumentException("Event not found: " + eventId));
 
@@ -97,14 +114,42 @@ public class EventService {
      * 특정 극장에서 진행 중인 이벤트 목록 조회
      */
     public List<TheaterEventResponse> getEventsByTheaterId(String theaterId) {
-        List<EventLocation> locations = eventLocationRepository.findByTheaterIdWithEvent(theaterId);
-
-        // 현재 시간 이후에 끝나는 이벤트만 필터링 (진행 중인 이벤트)
-        LocalDateTime now = LocalDateTime.now();
+        // 아직 끝나지 않은 이벤트만 조회 (end_at >= 현재 시각, 다른 진행 중 조회와 같은 기준)
+        return activeEventTheaterRepository.findByTheaterId(theaterId, LocalDateTime.now()).stream()
+                .map(row -> TheaterEventResponse.builder()
+                        .eventId(row.eventId())
+                        .title(row.eventTitle())
+                        .movieTitle(row.movieTitle())
+                        .type(row.eventType() != null ? row.eventType() : "UNKNOWN")
+                        .status(row.status())
+                        .imageUrl(row.movieImage())
+                        .startAt(row.startAt())
+                        .endAt(row.endAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
 
-        return locations.stream()
-                .filter(loc -> loc.getEvent().getEndAt().isAfter(now))
-                .map(TheaterEventResponse::of)
+    private EventResponse toEventResponse(List<ActiveEventTheaterRepository.Row> rows) {
+        ActiveEventTheaterRepository.Row first = rows.get(0);
+        List<EventResponse.TheaterInventory> theaters = rows.stream()
+                .map(row -> EventResponse.TheaterInventory.builder()
+                        .theaterId(row.theaterId())
+                        .theaterName(row.theaterName())
+                        .address(row.address())
+                        .latitude(row.latitude())
+                        .longitude(row.longitude())
+                        .status(row.status())
+                        .build())
                 .collect(Collectors.toList());
+
+        return EventResponse.builder()
+                .eventId(first.eventId())
+                .movieTitle(first.movieTitle())
+                .goodsTitle(first.eventTitle())
+                .imageUrl(first.movieImage())
+                .startAt(first.startAt())
+                .endAt(first.endAt())
+                .theaters(theaters)
+                .build();
     }
 }
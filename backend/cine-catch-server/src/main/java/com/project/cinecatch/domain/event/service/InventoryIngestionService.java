@@ -0,0 +1,96 @@
+package com.project.cinecatch.domain.event.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cinecatch.domain.event.dto.InventoryIngestionResponse;
+import com.project.cinecatch.domain.event.repository.InventoryIngestionRepository;
+import com.project.cinecatch.global.event.InventoryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 크롤링 재고 스냅샷 적재
+ * loader.py 의 (극장, 이벤트) 쌍마다 SELECT 2번 + UPDATE/INSERT 대신, 스냅샷을 COPY 로 올리고 집합 단위로 병합함
+ * - 스냅샷은 CrawlSnapshotReader 로 흘려 읽으며 batch-size 행씩 바로 COPY 하므로, 요청 본문 전체를 메모리에 올리지 않음
+ * - 트랜잭션 안에서 읽으므로 소켓이 아니라 다 받아 둔 스트림(IngestionController 의 임시 파일)을 넘겨야 함
+ * - 변경분은 커밋 후 InventoryChangedEvent 로 알림/SSE 팬아웃에 넘김
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryIngestionService {
+
+    private final InventoryIngestionRepository inventoryIngestionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ingestion.batch-size:5000}")
+    private int batchSize;
+
+    @Transactional
+    public InventoryIngestionResponse ingest(InputStream snapshot) {
+        long startedAt = System.nanoTime();
+
+        inventoryIngestionRepository.createStagingTables();
+        StagingSink sink = new StagingSink();
+        CrawlSnapshotReader.Stats stats;
+        try {
+            stats = new CrawlSnapshotReader(objectMapper.getFactory(), batchSize, LocalDateTime.now())
+                    .read(snapshot, sink);
+        } catch (IOException e) {
+            // 런타임 예외로 바꿔 지금까지 올린 스테이징도 함께 롤백되게 함
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "스냅샷을 읽을 수 없습니다: " + e.getMessage());
+        }
+        long parsedAt = System.nanoTime();
+
+        int changedEvents = inventoryIngestionRepository.upsertMoviesAndEvents();
+        int unmatchedTheaters = inventoryIngestionRepository.countUnmatchedTheaters();
+        List<InventoryChangedEvent.Change> changes = inventoryIngestionRepository.mergeLocations();
+
+        if (!changes.isEmpty() || changedEvents > 0) {
+            eventPublisher.publishEvent(new InventoryChangedEvent(changes, changedEvents));
+        }
+
+        log.info("재고 스냅샷 적재 {}ms (읽기+COPY {}ms): 이벤트 {}건(변경 {}건), 재고 {}건, 재고 변동 {}건, 미등록 극장 {}곳",
+                (System.nanoTime() - startedAt) / 1_000_000, (parsedAt - startedAt) / 1_000_000,
+                stats.events(), changedEvents, stats.locations(), changes.size(), unmatchedTheaters);
+
+        return InventoryIngestionResponse.builder()
+                .events(stats.events())
+                .locations(stats.locations())
+                .changedEvents(changedEvents)
+                .unmatchedTheaters(unmatchedTheaters)
+                .changes(changes)
+                .build();
+    }
+
+    /**
+     * 파서가 넘기는 배치를 바로 임시 테이블에 COPY (seq 는 스냅샷 안 순서라 배치 사이에도 이어짐)
+     */
+    private class StagingSink implements CrawlSnapshotReader.Sink {
+        private long eventSeq;
+        private long locationSeq;
+
+        @Override
+        public void events(List<InventoryIngestionRepository.EventRow> batch) {
+            inventoryIngestionRepository.copyEvents(batch, eventSeq);
+            eventSeq += batch.size();
+        }
+
+        @Override
+        public void locations(List<InventoryIngestionRepository.LocationRow> batch) {
+            inventoryIngestionRepository.copyLocations(batch, locationSeq);
+            locationSeq += batch.size();
+        }
+    }
+}
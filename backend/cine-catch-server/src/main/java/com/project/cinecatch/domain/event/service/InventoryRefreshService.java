@@ -0,0 +1,138 @@
+package com.project.cinecatch.domain.event.service;
+
+import com.project.cinecatch.domain.event.dto.DataVersionResponse;
+import com.project.cinecatch.domain.event.repository.EventChangeLogRepository;
+import com.project.cinecatch.global.cache.InvalidationType;
+import com.project.cinecatch.global.event.CacheInvalidatedEvent;
+import com.project.cinecatch.global.event.InventoryChangedEvent;
+import com.project.cinecatch.global.event.InventoryVersionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 적재 후 읽기 모델 갱신 / 대상 무효화
+ * - 데이터 버전은 event_change_log 워터마크 (크롤러 직접 적재든 적재 API 든 트리거가 기록하고, 끝난 트랜잭션까지만 반영함)
+ * - 적재 완료 콜백(/api/internal/ingestion/complete), 적재 API 커밋, 무효화 버스의 EVENT 알림(다른 노드/크롤러 적재),
+ *   주기적 버전 확인 중 먼저 오는 쪽이 갱신함
+ * - 갱신 후 InventoryVersionChangedEvent 로 새 버전과 바뀐 이벤트/극장을 알림 (ActiveEventViewRefresher 가 받아 극장별/주변 목록의 구체화 뷰를 갱신함)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryRefreshService {
+
+    private final ActiveEventReadModel activeEventReadModel;
+    private final EventChangeLogRepository eventChangeLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 갱신 중 DB 를 읽으므로 synchronized 대신 락을 씀 (가상 스레드 고정 방지)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile long appliedVersion = -1;
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refreshLock.lock();
+        try {
+            appliedVersion = activeEventReadModel.loadAll();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 마지막으로 반영한 버전 이후 변경만 반영 (바뀐 게 없으면 DB 조회 한 번으로 끝남)
+     */
+    public DataVersionResponse refresh() {
+        refreshLock.lock();
+        try {
+            if (appliedVersion < 0) {
+                appliedVersion = activeEventReadModel.loadAll();
+                return DataVersionResponse.builder().version(appliedVersion).build();
+            }
+
+            ActiveEventReadModel.ChangeSet changeSet = activeEventReadModel.applyChangesAfter(appliedVersion);
+            appliedVersion = changeSet.version();
+            if (!changeSet.isEmpty()) {
+                log.info("읽기 모델 갱신: 버전 {}, 이벤트 {}건, 극장 {}곳, 만료 {}건",
+                        changeSet.version(), changeSet.eventIds().size(), changeSet.theaterIds().size(),
+                        changeSet.expiredEventIds().size());
+                eventPublisher.publishEvent(new InventoryVersionChangedEvent(changeSet.version(),
+                        changeSet.eventIds(), changeSet.theaterIds(), changeSet.expiredEventIds()));
+            }
+            return DataVersionResponse.builder()
+                    .version(changeSet.version())
+                    .changedEvents(changeSet.eventIds().size())
+                    .changedTheaters(changeSet.theaterIds().size())
+                    .expiredEvents(changeSet.expiredEventIds().size())
+                    .build();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 콜백을 놓치거나 다른 노드가 적재한 경우를 위한 안전망. 반영한 워터마크 이후 끝난 변경이 있는지만 확인함
+     */
+    @Scheduled(fixedDelayString = "${inventory.refresh.poll-ms:5000}", initialDelayString = "${inventory.refresh.poll-ms:5000}")
+    public void pollVersion() {
+        if (appliedVersion < 0) {
+            return;
+        }
+        try {
+            if (eventChangeLogRepository.existsCommittedSince(appliedVersion)) {
+                refresh();
+            }
+        } catch (RuntimeException e) {
+            log.warn("데이터 버전 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 적재 API 커밋 직후 갱신. 커밋 콜백 안에서는 새 트랜잭션을 열 수 없으므로 가상 스레드로 넘김
+     */
+    @TransactionalEventListener
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        requestRefresh();
+    }
+
+    /**
+     * 변경 로그가 쓰인 트랜잭션마다 오는 버전 알림. 버스 수신 스레드를 막지 않도록 넘김
+     */
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.type() == InvalidationType.EVENT) {
+            requestRefresh();
+        }
+    }
+
+    /**
+     * 갱신 요청이 몰려도 대기 중인 갱신은 하나만 둠 (갱신은 항상 마지막 반영 버전 이후를 모두 읽음)
+     */
+    private void requestRefresh() {
+        if (!refreshRequested.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("inventory-refresh").start(() -> {
+            refreshRequested.set(false);
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                log.warn("읽기 모델 갱신 실패 (다음 버전 확인에서 다시 시도): {}", e.getMessage());
+            }
+        });
+    }
+
+    public long appliedVersion() {
+        return appliedVersion;
+    }
+}
@@ -1,6 +1,7 @@
 package com.project.cinecatch.domain.member.controller;
 
 import com.project.cinecatch.domain.member.service.EventFavoriteService;
+import com.project.cinecatch.global.security.JwtPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -21,25 +22,25 @@ public class EventFavoriteController {
     @GetMapping("/event-ids")
     @Operation(summary = "찜한 이벤트 ID 목록 조회")
     public ResponseEntity<Set<String>> getFavoriteEventIds(
-            @AuthenticationPrincipal String email) {
-        return ResponseEntity.ok(eventFavoriteService.getFavoriteEventIds(email));
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        return ResponseEntity.ok(eventFavoriteService.getFavoriteEventIds(principal.memberId()));
     }
 
     @PostMapping("/{eventId}")
     @Operation(summary = "이벤트 찜 추가")
     public ResponseEntity<Void> addFavorite(
-            @AuthenticationPrincipal String email,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable String eventId) {
-        eventFavoriteService.addFavorite(email, eventId);
+        eventFavoriteService.addFavorite(principal.memberId(), eventId);
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping("/{eventId}")
     @Operation(summary = "이벤트 찜 해제")
     public ResponseEntity<Void> removeFavorite(
-            @AuthenticationPrincipal String email,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable String eventId) {
-        eventFavoriteService.removeFavorite(email, eventId);
+        eventFavoriteService.removeFavorite(principal.memberId(), eventId);
         return ResponseEntity.noContent().build();
     }
 }
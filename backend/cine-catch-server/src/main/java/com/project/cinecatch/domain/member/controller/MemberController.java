@@ -3,15 +3,23 @@ package com.project.cinecatch.domain.member.controller;
 import com.project.cinecatch.domain.member.dto.FcmTokenRequest;
 import com.project.cinecatch.domain.member.dto.LoginRequest;
 import com.project.cinecatch.domain.member.dto.MemberRequest;
+import com.project.cinecatch.domain.member.dto.QuietHoursRequest;
+import com.project.cinecatch.domain.member.dto.RefreshTokenRequest;
 import com.project.cinecatch.domain.member.dto.TokenResponse;
 import com.project.cinecatch.domain.member.service.MemberService;
+import com.project.cinecatch.global.security.JwtPrincipal;
+import com.project.cinecatch.global.security.LoginRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/members")
@@ -19,52 +27,91 @@ import java.util.Map;
 public class MemberController {
 
     private final MemberService memberService;
+    private final LoginRateLimiter loginRateLimiter;
 
-    // 1. 회원가입 API
+    // 1. 회원가입 API (해시가 끝나면 비동기로 응답)
     @PostMapping("/signup")
-    public ResponseEntity<String> signUp(@Valid @RequestBody MemberRequest request) {
-        memberService.signUp(request);
-        return ResponseEntity.ok("회원가입이 완료되었습니다.");
+    public CompletableFuture<ResponseEntity<String>> signUp(@Valid @RequestBody MemberRequest request) {
+        return memberService.signUp(request)
+                .thenApply(done -> ResponseEntity.ok("회원가입이 완료되었습니다."));
     }
 
-    // 2. 로그인 API (성공 시 JWT 토큰 반환)
+    // 2. 로그인 API (성공 시 JWT 토큰 반환, IP별 시도 횟수 제한)
     @PostMapping("/login")
-    public ResponseEntity<TokenResponse> login(@RequestBody LoginRequest request) {
+    public CompletableFuture<ResponseEntity<TokenResponse>> login(@RequestBody LoginRequest request,
+                                                                  HttpServletRequest httpRequest) {
+        // 프록시 뒤에서는 RemoteIpValve 가 X-Forwarded-For 의 클라이언트 IP 로 바꿔 둠 (server.forward-headers-strategy)
+        if (!loginRateLimiter.tryAcquire(httpRequest.getRemoteAddr())) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
         // 서비스에서 로그인 로직 처리 후 토큰 생성
-        TokenResponse token = memberService.login(request);
-        return ResponseEntity.ok(token);
+        return memberService.login(request).thenApply(ResponseEntity::ok);
+    }
+
+    // 2-1. 토큰 재발급 (리프레시 토큰은 한 번만 쓸 수 있음)
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(memberService.refresh(request.getRefreshToken()));
+    }
+
+    // 2-2. 로그아웃 (현재 액세스 토큰과 전달된 리프레시 토큰 폐기)
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestBody(required = false) RefreshTokenRequest request
+    ) {
+        memberService.logout(principal, request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.ok("로그아웃되었습니다.");
     }
 
     // 3. FCM 토큰 저장 API
     @PostMapping("/fcm-token")
     public ResponseEntity<String> updateFcmToken(
-            @AuthenticationPrincipal String email,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @Valid @RequestBody FcmTokenRequest request
     ) {
-        memberService.updateFcmToken(email, request.getFcmToken());
+        memberService.updateFcmToken(principal.memberId(), request.getFcmToken());
         return ResponseEntity.ok("FCM 토큰이 저장되었습니다.");
     }
 
     // 4. 알림 설정 조회
     @GetMapping("/notification-settings")
     public ResponseEntity<Map<String, Boolean>> getNotificationSettings(
-            @AuthenticationPrincipal String email
+            @AuthenticationPrincipal JwtPrincipal principal
     ) {
-        boolean enabled = memberService.getNotificationEnabled(email);
+        boolean enabled = memberService.getNotificationEnabled(principal.memberId());
         return ResponseEntity.ok(Map.of("enabled", enabled));
     }
 
     // 5. 알림 설정 변경
     @PutMapping("/notification-settings")
     public ResponseEntity<String> updateNotificationSettings(
-            @AuthenticationPrincipal String email,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @RequestBody Map<String, Boolean> request
     ) {
         Boolean enabled = request.get("enabled");
         if (enabled == null) {
             return ResponseEntity.badRequest().body("enabled 필드는 필수입니다.");
         }
-        memberService.updateNotificationEnabled(email, enabled);
+        memberService.updateNotificationEnabled(principal.memberId(), enabled);
         return ResponseEntity.ok("알림 설정이 변경되었습니다.");
     }
-}
\ No newline at end of file
+
+    // 6. 방해 금지 시간대 조회
+    @GetMapping("/quiet-hours")
+    public ResponseEntity<QuietHoursRequest> getQuietHours(
+            @AuthenticationPrincipal JwtPrincipal principal
+    ) {
+        return ResponseEntity.ok(memberService.getQuietHours(principal.memberId()));
+    }
+
+    // 7. 방해 금지 시간대 변경 (start, end 모두 null 이면 해제)
+    @PutMapping("/quiet-hours")
+    public ResponseEntity<String> updateQuietHours(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestBody QuietHoursRequest request
+    ) {
+        memberService.updateQuietHours(principal.memberId(), request);
+        return ResponseEntity.ok("방해 금지 시간대가 변경되었습니다.");
+    }
+}
@@ -3,6 +3,7 @@ package com.project.cinecatch.domain.member.controller;
 import com.project.cinecatch.domain.member.dto.SubscriptionRequest;
 import com.project.cinecatch.domain.member.dto.SubscriptionResponse;
 import com.project.cinecatch.domain.member.service.SubscriptionService;
+import com.project.cinecatch.global.security.JwtPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -25,31 +26,31 @@ public class SubscriptionController {
     @GetMapping
     @Operation(summary = "내 구독 목록 조회", description = "로그인한 사용자의 구독 영화관 목록을 조회합니다")
     public ResponseEntity<List<SubscriptionResponse>> getMySubscriptions(
-            @AuthenticationPrincipal String email) {
-        return ResponseEntity.ok(subscriptionService.getMySubscriptions(email));
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        return ResponseEntity.ok(subscriptionService.getMySubscriptions(principal.memberId()));
     }
 
     @GetMapping("/theater-ids")
     @Operation(summary = "구독한 영화관 ID 목록 조회", description = "로그인한 사용자가 구독한 영화관의 ID 목록을 조회합니다")
     public ResponseEntity<Set<String>> getSubscribedTheaterIds(
-            @AuthenticationPrincipal String email) {
-        return ResponseEntity.ok(subscriptionService.getSubscribedTheaterIds(email));
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        return ResponseEntity.ok(subscriptionService.getSubscribedTheaterIds(principal.memberId()));
     }
 
     @PostMapping
     @Operation(summary = "영화관 구독", description = "영화관을 구독합니다")
     public ResponseEntity<SubscriptionResponse> subscribe(
-            @AuthenticationPrincipal String email,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @Valid @RequestBody SubscriptionRequest request) {
-        return ResponseEntity.ok(subscriptionService.subscribe(email, request));
+        return ResponseEntity.ok(subscriptionService.subscribe(principal.memberId(), request));
     }
 
     @DeleteMapping("/{theaterId}")
     @Operation(summary = "영화관 구독 해제", description = "영화관 구독을 해제합니다")
     public ResponseEntity<Void> unsubscribe(
-            @AuthenticationPrincipal String email,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable String theaterId) {
-        subscriptionService.unsubscribe(email, theaterId);
+        subscriptionService.unsubscribe(principal.memberId(), theaterId);
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,23 @@
+package com.project.cinecatch.domain.member.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+/**
+ * 방해 금지 시간대 설정 (start, end 모두 null 이면 해제)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuietHoursRequest {
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime start;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime end;
+}
@@ -11,4 +11,6 @@ public class TokenResponse {
     private String grantType;     // 보통 "Bearer"라고 보냄
     private String accessToken;   // 실제 권한을 주는 토큰
     private Long accessTokenExpiresIn; // 만료 시간
+    private String refreshToken;  // 액세스 토큰 재발급용 (API 호출에는 못 씀)
+    private Long refreshTokenExpiresIn;
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.UUID;
 
 @Entity
@@ -36,6 +37,12 @@ public class Member {
     @Column(name = "notification_enabled", nullable = false)
     private boolean notificationEnabled = true;
 
+    @Column(name = "quiet_hours_start")
+    private LocalTime quietHoursStart;
+
+    @Column(name = "quiet_hours_end")
+    private LocalTime quietHoursEnd;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -55,4 +62,26 @@ public class Member {
     public void updateNotificationEnabled(boolean enabled) {
         this.notificationEnabled = enabled;
     }
-}
\ No newline at end of file
+
+    public void updateQuietHours(LocalTime start, LocalTime end) {
+        this.quietHoursStart = start;
+        this.quietHoursEnd = end;
+    }
+
+    public boolean hasQuietHours() {
+        return quietHoursStart != null && quietHoursEnd != null && !quietHoursStart.equals(quietHoursEnd);
+    }
+
+    /**
+     * 현재 시각이 방해 금지 시간대인지 확인 (23:00~07:00 처럼 자정을 넘는 구간 포함)
+     */
+    public boolean isInQuietHours(LocalTime now) {
+        if (!hasQuietHours()) {
+            return false;
+        }
+        if (quietHoursStart.isBefore(quietHoursEnd)) {
+            return !now.isBefore(quietHoursStart) && now.isBefore(quietHoursEnd);
+        }
+        return !now.isBefore(quietHoursStart) || now.isBefore(quietHoursEnd);
+    }
+}
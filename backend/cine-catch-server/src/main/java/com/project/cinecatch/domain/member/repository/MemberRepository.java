@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,7 +23,17 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
     // 3. 닉네임 중복 체크도 필요하다면 추가함~함
     boolean existsByNickname(String nickname);
 
+    // 4. 토큰 클레임의 회원 ID 로 바로 갱신함 (조회 후 dirty checking 대신 UPDATE 한 번)
     @Modifying
+    @Query("UPDATE Member m SET m.fcmToken = :fcmToken WHERE m.id = :memberId")
+    int updateFcmToken(@Param("memberId") UUID memberId, @Param("fcmToken") String fcmToken);
+
+    @Modifying
+    @Query("UPDATE Member m SET m.notificationEnabled = :enabled WHERE m.id = :memberId")
+    int updateNotificationEnabled(@Param("memberId") UUID memberId, @Param("enabled") boolean enabled);
+
+    @Modifying
+    @Transactional
     @Query("UPDATE Member m SET m.fcmToken = null WHERE m.fcmToken IN :tokens")
     void clearInvalidFcmTokens(@Param("tokens") List<String> tokens);
 }
\ No newline at end of file
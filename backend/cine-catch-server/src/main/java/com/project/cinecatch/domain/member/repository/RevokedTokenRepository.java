@@ -0,0 +1,39 @@
+package com.project.cinecatch.domain.member.repository;
+
+import com.project.cinecatch.domain.member.entity.RevokedToken;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * 이미 폐기된 토큰이면 0 반환 (여러 인스턴스가 같은 리프레시 토큰을 동시에 받아도 한 곳만 성공)
+     * 네이티브 DML 은 대상 테이블을 알려주지 않으면 Hibernate 가 2차 캐시 전체를 비우므로 native.spaces 를 지정함
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "revoked_tokens"))
+    @Transactional
+    @Query(value = "INSERT INTO revoked_tokens (token_id, member_id, expires_at) " +
+            "VALUES (:tokenId, :memberId, :expiresAt) ON CONFLICT (token_id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("tokenId") String tokenId,
+                       @Param("memberId") UUID memberId,
+                       @Param("expiresAt") Instant expiresAt);
+
+    List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -7,10 +7,13 @@ import com.project.cinecatch.domain.member.entity.Member;
 import com.project.cinecatch.domain.member.repository.EventFavoriteRepository;
 import com.project.cinecatch.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Set;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -21,38 +24,32 @@ public class EventFavoriteService {
     private final MemberRepository memberRepository;
     private final EventRepository eventRepository;
 
-    public Set<String> getFavoriteEventIds(String email) {
-        Member member = getMemberByEmail(email);
-        return eventFavoriteRepository.findEventIdsByMemberId(member.getId());
+    public Set<String> getFavoriteEventIds(UUID memberId) {
+        return eventFavoriteRepository.findEventIdsByMemberId(memberId);
     }
 
     @Transactional
-    public void addFavorite(String email, String eventId) {
-        Member member = getMemberByEmail(email);
+    public void addFavorite(UUID memberId, String eventId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new IllegalArgumentException("Event not found: " + eventId));
 
-        if (eventFavoriteRepository.existsByMemberIdAndEventId(member.getId(), eventId)) {
+        if (eventFavoriteRepository.existsByMemberIdAndEventId(memberId, eventId)) {
             throw new IllegalStateException("Already favorited this event");
         }
 
+        // 토큰이 유효해도 탈퇴한 회원일 수 있으므로 프록시로 참조하지 않고 조회함 (없으면 FK 위반으로 500 이 됨)
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "회원을 찾을 수 없습니다."));
         EventSubscription subscription = EventSubscription.create(member, event);
         eventFavoriteRepository.save(subscription);
     }
 
     @Transactional
-    public void removeFavorite(String email, String eventId) {
-        Member member = getMemberByEmail(email);
-
-        if (!eventFavoriteRepository.existsByMemberIdAndEventId(member.getId(), eventId)) {
+    public void removeFavorite(UUID memberId, String eventId) {
+        if (!eventFavoriteRepository.existsByMemberIdAndEventId(memberId, eventId)) {
             throw new IllegalArgumentException("Favorite not found");
         }
 
-        eventFavoriteRepository.deleteByMemberIdAndEventId(member.getId(), eventId);
-    }
-
-    private Member getMemberByEmail(String email) {
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("Member not found: " + email));
+        eventFavoriteRepository.deleteByMemberIdAndEventId(memberId, eventId);
     }
 }
@@ -2,18 +2,27 @@ package com.project.cinecatch.domain.member.service;
 
 import com.project.cinecatch.domain.member.dto.LoginRequest;
 import com.project.cinecatch.domain.member.dto.MemberRequest;
+import com.project.cinecatch.domain.member.dto.QuietHoursRequest;
 import com.project.cinecatch.domain.member.dto.TokenResponse;
 import com.project.cinecatch.domain.member.entity.Member;
 import com.project.cinecatch.domain.member.repository.MemberRepository;
+import com.project.cinecatch.global.security.JwtPrincipal;
 import com.project.cinecatch.global.security.JwtTokenProvider;
+import com.project.cinecatch.global.security.LegacyMemberIdResolver;
+import com.project.cinecatch.global.security.PasswordHashingExecutor;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.PrecisionModel;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -21,63 +30,128 @@ import org.springframework.stereotype.Service;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor; // BCrypt 는 요청 스레드가 아닌 전용 풀에서 실행
     private final JwtTokenProvider jwtTokenProvider; // 토큰 만드는 클래스
+    private final TokenRevocationService tokenRevocationService;
+    private final LegacyMemberIdResolver legacyMemberIdResolver; // 재가입으로 바뀐 회원 ID 를 이전 토큰 캐시에서 제거
     private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
 
-    public void signUp(MemberRequest request) {
-        Member member = Member.builder()
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .nickname(request.getNickname())
-                .build();
-
-        memberRepository.save(member);
+    public CompletableFuture<Void> signUp(MemberRequest request) {
+        return passwordHashingExecutor.encode(request.getPassword())
+                .thenAccept(encodedPassword -> memberRepository.save(Member.builder()
+                        .email(request.getEmail())
+                        .password(encodedPassword)
+                        .nickname(request.getNickname())
+                        .build()))
+                .thenRun(() -> legacyMemberIdResolver.evict(request.getEmail()));
     }
 
-    public TokenResponse login(LoginRequest request) {
+    /**
+     * 조회는 트랜잭션 없이 끝내고 해시 비교는 전용 풀에서 함 (비교가 끝날 때까지 커넥션을 잡지 않음)
+     * 없는 이메일도 더미 해시와 비교해 틀린 비밀번호와 같은 시간이 걸리게 함
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public CompletableFuture<TokenResponse> login(LoginRequest request) {
         // 1. 이메일로 유저 찾기
-        Member member = memberRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new RuntimeException("가입되지 않은 이메일입니다."));
+        Optional<Member> found = memberRepository.findByEmail(request.getEmail());
+        if (found.isEmpty()) {
+            return passwordHashingExecutor.matchesNothing(request.getPassword())
+                    .thenApply(matched -> {
+                        throw new RuntimeException("가입되지 않은 이메일입니다.");
+                    });
+        }
+        Member member = found.get();
 
         // 2. 비밀번호 일치 확인 (암호화된 비번은 matches로 비교해야 함~함)
-        if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
-            throw new RuntimeException("비밀번호가 일치하지 않습니다.");
+        return passwordHashingExecutor.matches(request.getPassword(), member.getPassword())
+                .thenApply(matched -> {
+                    if (!matched) {
+                        throw new RuntimeException("비밀번호가 일치하지 않습니다.");
+                    }
+                    // 3. 토큰 생성 및 반환
+                    return jwtTokenProvider.createToken(member.getId(), member.getEmail(), member.getRole());
+                });
+    }
+
+    /**
+     * 리프레시 토큰으로 토큰 재발급 (회전: 쓴 리프레시 토큰은 바로 폐기되어 한 번만 쓸 수 있음)
+     */
+    public TokenResponse refresh(String refreshToken) {
+        JwtPrincipal principal = jwtTokenProvider.resolveRefreshToken(refreshToken);
+        if (principal == null || !tokenRevocationService.revoke(principal)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다.");
         }
 
-        // 3. 토큰 생성 및 반환
-        return jwtTokenProvider.createToken(member.getEmail(), member.getRole());
+        // 권한이 바뀌었을 수 있으므로 회원 정보는 다시 읽음
+        Member member = memberRepository.findById(principal.memberId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "회원을 찾을 수 없습니다."));
+        return jwtTokenProvider.createToken(member.getId(), member.getEmail(), member.getRole());
+    }
+
+    /**
+     * 로그아웃 - 현재 액세스 토큰과 (있으면) 같은 회원의 리프레시 토큰을 폐기
+     */
+    public void logout(JwtPrincipal principal, String refreshToken) {
+        tokenRevocationService.revoke(principal);
+        if (refreshToken == null) {
+            return;
+        }
+        JwtPrincipal refresh = jwtTokenProvider.resolveRefreshToken(refreshToken);
+        if (refresh != null && refresh.memberId().equals(principal.memberId())) {
+            tokenRevocationService.revoke(refresh);
+        }
     }
 
     /**
      * FCM 토큰 저장/업데이트
      */
-    public void updateFcmToken(String email, String fcmToken) {
-        Member member = memberRepository.findByEmail(email)
+    public void updateFcmToken(UUID memberId, String fcmToken) {
+        if (memberRepository.updateFcmToken(memberId, fcmToken) == 0) {
+            throw new RuntimeException("회원을 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 알림 설정 변경
+     */
+    public void updateNotificationEnabled(UUID memberId, boolean enabled) {
+        if (memberRepository.updateNotificationEnabled(memberId, enabled) == 0) {
+            throw new RuntimeException("회원을 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 알림 설정 조회
+     */
+    public boolean getNotificationEnabled(UUID memberId) {
+        Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다."));
 
-        member.updateFcmToken(fcmToken);
-        memberRepository.save(member);
+        return member.isNotificationEnabled();
     }
 
     /**
-     * 알림 설정 변경
+     * 방해 금지 시간대 변경
      */
-    public void updateNotificationEnabled(String email, boolean enabled) {
-        Member member = memberRepository.findByEmail(email)
+    public void updateQuietHours(UUID memberId, QuietHoursRequest request) {
+        if ((request.getStart() == null) != (request.getEnd() == null)) {
+            throw new IllegalArgumentException("start와 end는 함께 지정해야 합니다.");
+        }
+
+        Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다."));
 
-        member.updateNotificationEnabled(enabled);
+        member.updateQuietHours(request.getStart(), request.getEnd());
         memberRepository.save(member);
     }
 
     /**
-     * 알림 설정 조회
+     * 방해 금지 시간대 조회
      */
-    public boolean getNotificationEnabled(String email) {
-        Member member = memberRepository.findByEmail(email)
+    public QuietHoursRequest getQuietHours(UUID memberId) {
+        Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다."));
 
-        return member.isNotificationEnabled();
+        return new QuietHoursRequest(member.getQuietHoursStart(), member.getQuietHoursEnd());
     }
 }
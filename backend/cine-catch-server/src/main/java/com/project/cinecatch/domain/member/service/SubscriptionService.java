@@ -9,11 +9,14 @@ import com.project.cinecatch.domain.member.repository.SubscriptionRepository;
 import com.project.cinecatch.domain.theater.entity.Theater;
 import com.project.cinecatch.domain.theater.repository.TheaterRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -24,47 +27,40 @@ public class SubscriptionService {
     private final MemberRepository memberRepository;
     private final TheaterRepository theaterRepository;
 
-    public List<SubscriptionResponse> getMySubscriptions(String email) {
-        Member member = getMemberByEmail(email);
-        return subscriptionRepository.findByMemberId(member.getId())
+    public List<SubscriptionResponse> getMySubscriptions(UUID memberId) {
+        return subscriptionRepository.findByMemberId(memberId)
                 .stream()
                 .map(SubscriptionResponse::from)
                 .toList();
     }
 
-    public Set<String> getSubscribedTheaterIds(String email) {
-        Member member = getMemberByEmail(email);
-        return subscriptionRepository.findTheaterIdsByMemberId(member.getId());
+    public Set<String> getSubscribedTheaterIds(UUID memberId) {
+        return subscriptionRepository.findTheaterIdsByMemberId(memberId);
     }
 
     @Transactional
-    public SubscriptionResponse subscribe(String email, SubscriptionRequest request) {
-        Member member = getMemberByEmail(email);
+    public SubscriptionResponse subscribe(UUID memberId, SubscriptionRequest request) {
         Theater theater = theaterRepository.findById(request.getTheaterId())
                 .orElseThrow(() -> new IllegalArgumentException("Theater not found: " + request.getTheaterId()));
 
-        if (subscriptionRepository.existsByMemberIdAndTheaterId(member.getId(), theater.getId())) {
+        if (subscriptionRepository.existsByMemberIdAndTheaterId(memberId, theater.getId())) {
             throw new IllegalStateException("Already subscribed to this theater");
         }
 
+        // 토큰이 유효해도 탈퇴한 회원일 수 있으므로 프록시로 참조하지 않고 조회함 (없으면 FK 위반으로 500 이 됨)
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "회원을 찾을 수 없습니다."));
         TheaterSubscription subscription = TheaterSubscription.create(member, theater);
         TheaterSubscription saved = subscriptionRepository.save(subscription);
         return SubscriptionResponse.from(saved);
     }
 
     @Transactional
-    public void unsubscribe(String email, String theaterId) {
-        Member member = getMemberByEmail(email);
-
-        if (!subscriptionRepository.existsByMemberIdAndTheaterId(member.getId(), theaterId)) {
+    public void unsubscribe(UUID memberId, String theaterId) {
+        if (!subscriptionRepository.existsByMemberIdAndTheaterId(memberId, theaterId)) {
             throw new IllegalArgumentException("Subscription not found");
         }
 
-        subscriptionRepository.deleteByMemberIdAndTheaterId(member.getId(), theaterId);
-    }
-
-    private Member getMemberByEmail(String email) {
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("Member not found: " + email));
+        subscriptionRepository.deleteByMemberIdAndTheaterId(memberId, theaterId);
     }
 }
@@ -0,0 +1,100 @@
+package com.project.cinecatch.domain.member.service;
+
+import com.project.cinecatch.domain.member.entity.RevokedToken;
+import com.project.cinecatch.domain.member.repository.RevokedTokenRepository;
+import com.project.cinecatch.global.cache.InvalidationBus;
+import com.project.cinecatch.global.cache.InvalidationType;
+import com.project.cinecatch.global.event.CacheInvalidatedEvent;
+import com.project.cinecatch.global.event.TokenRevokedEvent;
+import com.project.cinecatch.global.security.JwtPrincipal;
+import com.project.cinecatch.global.security.RevokedTokenStore;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 토큰 폐기 - revoked_tokens 테이블이 원본이고, 필터는 RevokedTokenStore(메모리)만 봄
+ * 기동 시 만료된 행은 지우고 남은 행으로 메모리 목록을 다시 만듦
+ * 다른 노드의 메모리 목록에는 폐기를 넣은 트랜잭션이 커밋된 뒤 무효화 버스(TOKEN_REVOKED, "jti@만료 epoch second")로 알림
+ * 버스가 보관 기간보다 오래 끊겼다 붙으면(TOKEN_REVOKED '*') 기동 때처럼 DB 에서 다시 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RevokedTokenStore revokedTokenStore;
+    private final InvalidationBus invalidationBus;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    void load() {
+        Instant now = Instant.now();
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        List<RevokedToken> active = revokedTokenRepository.findByExpiresAtAfter(now);
+        active.forEach(token -> revokedTokenStore.revoke(token.getTokenId(), token.getExpiresAt()));
+        log.info("폐기 토큰 목록 로드: {}건 (만료 {}건 정리)", active.size(), deleted);
+    }
+
+    /**
+     * 새로 폐기되면 true. 이미 폐기된 토큰이거나 jti 가 없는 이전 토큰이면 false
+     */
+    public boolean revoke(JwtPrincipal principal) {
+        if (principal.tokenId() == null || revokedTokenStore.isRevoked(principal.tokenId())) {
+            return false;
+        }
+        // DB 가 먼저 성공해야 폐기로 인정 (다른 인스턴스가 먼저 폐기했으면 0)
+        int inserted = revokedTokenRepository.insertIfAbsent(
+                principal.tokenId(), principal.memberId(), principal.expiresAt());
+        revokedTokenStore.revoke(principal.tokenId(), principal.expiresAt());
+        if (inserted > 0) {
+            eventPublisher.publishEvent(new TokenRevokedEvent(principal.tokenId(), principal.expiresAt()));
+        }
+        return inserted > 0;
+    }
+
+    /**
+     * 폐기가 커밋된 뒤 전파. 호출한 트랜잭션(로그아웃 등)에 묶이지 않도록 가상 스레드에서 따로 넣음
+     * (트랜잭션 안에서 넣다가 실패하면 그 트랜잭션까지 깨지므로)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTokenRevoked(TokenRevokedEvent event) {
+        Thread.ofVirtual().name("token-revocation-publish").start(() -> publish(event));
+    }
+
+    void publish(TokenRevokedEvent event) {
+        try {
+            invalidationBus.publish(InvalidationType.TOKEN_REVOKED,
+                    event.tokenId() + "@" + event.expiresAt().getEpochSecond());
+        } catch (RuntimeException e) {
+            // 다른 노드는 재기동 전까지 모를 수 있으나, 폐기 자체는 DB 에 남았으므로 실패로 보지 않음
+            log.warn("토큰 폐기 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.type() != InvalidationType.TOKEN_REVOKED) {
+            return;
+        }
+        if (event.isAll()) {
+            load();
+            return;
+        }
+        int separator = event.entityId().lastIndexOf('@');
+        if (separator < 0) {
+            return;
+        }
+        String tokenId = event.entityId().substring(0, separator);
+        Instant expiresAt = Instant.ofEpochSecond(Long.parseLong(event.entityId().substring(separator + 1)));
+        revokedTokenStore.revoke(tokenId, expiresAt);
+    }
+}
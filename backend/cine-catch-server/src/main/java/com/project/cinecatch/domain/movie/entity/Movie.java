@@ -3,10 +3,15 @@ package com.project.cinecatch.domain.movie.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+// 참조 데이터: 크롤러가 DB 를 직접 갱신하고 애플리케이션에서는 수정하지 않음 (배치 후 ReferenceDataCacheInvalidator 가 비움)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Getter
 @NoArgsConstructor
 @Table(name = "movies")
@@ -2,6 +2,7 @@ package com.project.cinecatch.domain.notification.controller;
 
 import com.project.cinecatch.domain.notification.entity.NotificationHistory;
 import com.project.cinecatch.domain.notification.service.NotificationHistoryService;
+import com.project.cinecatch.global.security.JwtPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -20,9 +21,9 @@ public class NotificationHistoryController {
 
     @GetMapping
     public ResponseEntity<List<NotificationHistoryResponse>> getNotifications(
-            @AuthenticationPrincipal String email
+            @AuthenticationPrincipal JwtPrincipal principal
     ) {
-        List<NotificationHistory> notifications = notificationHistoryService.getNotifications(email);
+        List<NotificationHistory> notifications = notificationHistoryService.getNotifications(principal.memberId());
         List<NotificationHistoryResponse> response = notifications.stream()
                 .map(NotificationHistoryResponse::from)
                 .toList();
@@ -31,18 +32,18 @@ public class NotificationHistoryController {
 
     @PutMapping("/{id}/read")
     public ResponseEntity<String> markAsRead(
-            @AuthenticationPrincipal String email,
+            @AuthenticationPrincipal JwtPrincipal principal,
             @PathVariable UUID id
     ) {
-        notificationHistoryService.markAsRead(email, id);
+        notificationHistoryService.markAsRead(principal.memberId(), id);
         return ResponseEntity.ok("읽음 처리되었습니다.");
     }
 
     @GetMapping("/unread-count")
     public ResponseEntity<Map<String, Integer>> getUnreadCount(
-            @AuthenticationPrincipal String email
+            @AuthenticationPrincipal JwtPrincipal principal
     ) {
-        int count = notificationHistoryService.getUnreadCount(email);
+        int count = notificationHistoryService.getUnreadCount(principal.memberId());
         return ResponseEntity.ok(Map.of("count", count));
     }
 
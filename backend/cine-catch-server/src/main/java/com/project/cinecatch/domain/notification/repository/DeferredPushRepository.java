@@ -0,0 +1,93 @@
+package com.project.cinecatch.domain.notification.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cinecatch.global.service.PushMessageSpec;
+import com.project.cinecatch.global.service.PushMessageType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 방해 금지 시간대 보류 알림 (V21__create_deferred_push.sql)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeferredPushRepository {
+
+    private static final TypeReference<Map<String, String>> DATA_TYPE = new TypeReference<>() {};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public record DeferredPush(long id, String fcmToken, PushMessageSpec message) {}
+
+    public void save(Instant releaseAt, String fcmToken, PushMessageSpec message) {
+        jdbcTemplate.update("""
+                        INSERT INTO deferred_push (release_at, fcm_token, type, title, body, collapse_key, expires_at, data)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?::jsonb)
+                        """,
+                Timestamp.from(releaseAt), fcmToken, message.type().name(), message.title(), message.body(),
+                message.collapseKey(), message.expiresAt() != null ? Timestamp.from(message.expiresAt()) : null,
+                toJson(message.data()));
+    }
+
+    /**
+     * 발송 시각이 지난 알림을 오래된 순으로 최대 limit 건 꺼내며 release_at 을 leaseUntil 로 미뤄 둠 (한 문장이라 바로 커밋됨)
+     * 다른 노드가 꺼내는 중인 행은 건너뛰고, 발송을 마친 행은 deleteByIds 로 지움
+     * 지우지 못한 행(발송 실패, 발송 중 노드 종료)은 leaseUntil 이 지나면 다시 꺼내짐
+     */
+    public List<DeferredPush> claimReleasedBefore(Instant now, int limit, Instant leaseUntil) {
+        return jdbcTemplate.query("""
+                        UPDATE deferred_push SET release_at = ?
+                        WHERE id IN (SELECT id FROM deferred_push WHERE release_at <= ?
+                                     ORDER BY release_at, id LIMIT ? FOR UPDATE SKIP LOCKED)
+                        RETURNING id, fcm_token, type, title, body, collapse_key, expires_at, data
+                        """,
+                (rs, rowNum) -> {
+                    Timestamp expiresAt = rs.getTimestamp("expires_at");
+                    return new DeferredPush(rs.getLong("id"), rs.getString("fcm_token"), new PushMessageSpec(
+                            PushMessageType.valueOf(rs.getString("type")),
+                            rs.getString("title"),
+                            rs.getString("body"),
+                            rs.getString("collapse_key"),
+                            expiresAt != null ? expiresAt.toInstant() : null,
+                            fromJson(rs.getString("data"))));
+                },
+                Timestamp.from(leaseUntil), Timestamp.from(now), limit);
+    }
+
+    public void deleteByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("DELETE FROM deferred_push WHERE id = ANY(?)");
+            ps.setArray(1, con.createArrayOf("bigint", ids.toArray()));
+            return ps;
+        });
+    }
+
+    private String toJson(Map<String, String> data) {
+        try {
+            return objectMapper.writeValueAsString(data != null ? data : Map.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("보류 알림 데이터 직렬화 실패", e);
+        }
+    }
+
+    private Map<String, String> fromJson(String json) {
+        try {
+            return Map.copyOf(objectMapper.readValue(json, DATA_TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("보류 알림 데이터 역직렬화 실패", e);
+        }
+    }
+}
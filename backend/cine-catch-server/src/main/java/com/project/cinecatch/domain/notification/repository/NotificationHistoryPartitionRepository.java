@@ -0,0 +1,92 @@
+package com.project.cinecatch.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * notification_history 월 파티션 관리 (notification_history_pYYYYMM, V18__partition_notification_history.sql)
+ * 기본 파티션은 없음 (V24__drop_notification_history_default_partition.sql)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationHistoryPartitionRepository {
+
+    private static final String PREFIX = "notification_history_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 새로 만들었으면 true (이미 있으면 false)
+     */
+    @Transactional
+    public boolean createPartition(YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT create_notification_history_partition(?)", Boolean.class, Date.valueOf(month.atDay(1))));
+    }
+
+    /**
+     * 붙어 있는 파티션과, 떼어 낸 뒤 지우지 못하고 남은 월 테이블까지 모두 돌려줌 (다음 정리에서 마저 지우도록)
+     */
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList("""
+                        SELECT c.relname FROM pg_class c
+                        WHERE c.relkind = 'r'
+                          AND c.relnamespace = (SELECT relnamespace FROM pg_class WHERE oid = 'notification_history'::regclass)
+                          AND c.relname LIKE 'notification\\_history\\_p%'
+                        """, String.class).stream()
+                .map(NotificationHistoryPartitionRepository::toMonth)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 파티션을 떼어 낸 뒤 지움
+     * - DETACH ... CONCURRENTLY 는 부모 테이블을 막지 않고 진행 중인 조회가 끝나길 기다리지만 트랜잭션 안에서는 못 돌므로,
+     *   트랜잭션 없이(자동 커밋) 커넥션 하나에서 차례로 실행함
+     * - 떼어 내다 중단돼 대기 상태로 남은 파티션은 FINALIZE 로 마무리함
+     * - 떼어 낸 테이블은 더 이상 조회되지 않으므로 DROP 은 그 테이블에만 락을 잡음 (그래도 오래 기다리지 않게 lock_timeout 을 둠)
+     */
+    public void dropPartition(YearMonth month) {
+        String name = PREFIX + month.format(SUFFIX);
+        Boolean detachPending = jdbcTemplate.query("""
+                        SELECT i.inhdetachpending FROM pg_inherits i
+                        WHERE i.inhrelid = to_regclass(?) AND i.inhparent = 'notification_history'::regclass
+                        """, rs -> rs.next() ? rs.getBoolean(1) : null, name);
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                if (detachPending != null) {
+                    statement.execute("ALTER TABLE notification_history DETACH PARTITION " + name
+                            + (detachPending ? " FINALIZE" : " CONCURRENTLY"));
+                }
+                statement.execute("SET lock_timeout = '5s'");
+                try {
+                    statement.execute("DROP TABLE IF EXISTS " + name);
+                } finally {
+                    statement.execute("RESET lock_timeout");
+                }
+            }
+            return null;
+        });
+    }
+
+    private static YearMonth toMonth(String relname) {
+        // 이름 규칙에 맞는 월 파티션만
+        if (!relname.matches(PREFIX + "\\d{6}")) {
+            return null;
+        }
+        return YearMonth.parse(relname.substring(PREFIX.length()), SUFFIX);
+    }
+}
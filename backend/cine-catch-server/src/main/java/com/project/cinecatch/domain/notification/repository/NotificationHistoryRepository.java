@@ -2,18 +2,35 @@ package com.project.cinecatch.domain.notification.repository;
 
 import com.project.cinecatch.domain.notification.entity.NotificationHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * notification_history 는 created_at 월별 파티션이라, 조회마다 createdAt >= since 를 걸어 보관 기간 안의 파티션만 읽음
+ */
 @Repository
 public interface NotificationHistoryRepository extends JpaRepository<NotificationHistory, UUID> {
 
-    List<NotificationHistory> findByMemberIdOrderByCreatedAtDesc(UUID memberId);
+    @Query("SELECT n FROM NotificationHistory n WHERE n.member.id = :memberId AND n.createdAt >= :since ORDER BY n.createdAt DESC")
+    List<NotificationHistory> findRecentByMemberId(@Param("memberId") UUID memberId, @Param("since") LocalDateTime since);
 
-    int countByMemberIdAndIsReadFalse(UUID memberId);
+    @Query("SELECT count(n) FROM NotificationHistory n WHERE n.member.id = :memberId AND n.isRead = false AND n.createdAt >= :since")
+    int countRecentUnreadByMemberId(@Param("memberId") UUID memberId, @Param("since") LocalDateTime since);
 
-    Optional<NotificationHistory> findByIdAndMemberId(UUID id, UUID memberId);
+    /**
+     * 조회 후 dirty checking 으로 고치면 UPDATE 가 PK 의 id 만으로 나가 모든 파티션을 뒤지므로, createdAt 경계를 건 UPDATE 한 번으로 처리함
+     */
+    @Modifying
+    @Query("UPDATE NotificationHistory n SET n.isRead = true WHERE n.id = :id AND n.member.id = :memberId AND n.createdAt >= :since")
+    int markRecentAsRead(
+            @Param("id") UUID id,
+            @Param("memberId") UUID memberId,
+            @Param("since") LocalDateTime since
+    );
 }
@@ -0,0 +1,87 @@
+package com.project.cinecatch.domain.notification.service;
+
+import com.project.cinecatch.domain.notification.repository.NotificationHistoryPartitionRepository;
+import com.project.cinecatch.global.batch.BatchJobRunner;
+import com.project.cinecatch.global.batch.BatchSchedulerConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 알림 이력 월 파티션 관리 (하루 한 번)
+ * - 이번 달부터 premake-months 달 뒤까지 파티션을 미리 만듦 (기본 파티션이 없으므로 파티션이 없는 달의 행은 저장에 실패함)
+ *   배치가 건너뛰거나 실패해도 비지 않도록 기동할 때도 노드마다 만듦 (없는 달만 만들고, 동시에 만들어도 하나만 만들어짐)
+ * - 모든 행이 retention-months 보다 오래된 달은 DELETE 대신 파티션을 떼어 낸 뒤 지움 (DETACH ... CONCURRENTLY)
+ * - BatchJobRunner 로 돌아 DDL 이 한 노드에서만 실행됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationHistoryPartitionService {
+
+    static final String PARTITION_JOB = "notification-partition";
+    private static final long PARTITION_PERIOD_MS = 86400000;
+
+    private final BatchJobRunner batchJobRunner;
+    private final NotificationHistoryPartitionRepository partitionRepository;
+
+    @Value("${notification.history.retention-months:6}")
+    private int retentionMonths;
+
+    @Value("${notification.history.premake-months:3}")
+    private int premakeMonths;
+
+    @Scheduled(fixedRate = PARTITION_PERIOD_MS, initialDelayString = "${notification.history.partition-initial-delay-ms:600000}",
+            scheduler = BatchSchedulerConfig.SCHEDULER)
+    public void maintainPartitions() {
+        batchJobRunner.run(PARTITION_JOB, Duration.ofMillis(PARTITION_PERIOD_MS),
+                execution -> maintain(LocalDateTime.now()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void premakeOnStartup() {
+        try {
+            int created = premake(LocalDateTime.now());
+            if (created > 0) {
+                log.info("알림 이력 파티션 {}개 생성 (기동 시)", created);
+            }
+        } catch (RuntimeException e) {
+            log.error("기동 시 알림 이력 파티션 생성 실패 (하루 한 번 정리에서 다시 시도)", e);
+        }
+    }
+
+    void maintain(LocalDateTime now) {
+        int created = premake(now);
+
+        // 달 전체가 보관 경계보다 앞선 파티션만 지움 (경계가 걸친 달은 다음 달에 지워짐)
+        YearMonth cutoff = YearMonth.from(now.minusMonths(retentionMonths));
+        int dropped = 0;
+        for (YearMonth month : partitionRepository.findPartitionMonths()) {
+            if (month.isBefore(cutoff)) {
+                partitionRepository.dropPartition(month);
+                dropped++;
+            }
+        }
+
+        log.info("알림 이력 파티션 정리: 생성 {}개, 삭제 {}개 ({} 이전, 보관 {}개월)", created, dropped, cutoff, retentionMonths);
+    }
+
+    private int premake(LocalDateTime now) {
+        YearMonth current = YearMonth.from(now);
+        int created = 0;
+        for (int i = 0; i <= premakeMonths; i++) {
+            if (partitionRepository.createPartition(current.plusMonths(i))) {
+                created++;
+            }
+        }
+        return created;
+    }
+}
@@ -1,13 +1,14 @@
 package com.project.cinecatch.domain.notification.service;
 
 import com.project.cinecatch.domain.member.entity.Member;
-import com.project.cinecatch.domain.member.repository.MemberRepository;
 import com.project.cinecatch.domain.notification.entity.NotificationHistory;
 import com.project.cinecatch.domain.notification.repository.NotificationHistoryRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,31 +18,33 @@ import java.util.UUID;
 public class NotificationHistoryService {
 
     private final NotificationHistoryRepository notificationHistoryRepository;
-    private final MemberRepository memberRepository;
+
+    @Value("${notification.history.retention-months:6}")
+    private int retentionMonths;
 
     public void saveNotification(Member member, String title, String body) {
         NotificationHistory history = NotificationHistory.create(member, title, body);
         notificationHistoryRepository.save(history);
     }
 
-    public List<NotificationHistory> getNotifications(String email) {
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다."));
-        return notificationHistoryRepository.findByMemberIdOrderByCreatedAtDesc(member.getId());
+    public List<NotificationHistory> getNotifications(UUID memberId) {
+        return notificationHistoryRepository.findRecentByMemberId(memberId, visibleSince());
+    }
+
+    public void markAsRead(UUID memberId, UUID notificationId) {
+        if (notificationHistoryRepository.markRecentAsRead(notificationId, memberId, visibleSince()) == 0) {
+            throw new RuntimeException("알림을 찾을 수 없습니다.");
+        }
     }
 
-    public void markAsRead(String email, UUID notificationId) {
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다."));
-        NotificationHistory notification = notificationHistoryRepository
-                .findByIdAndMemberId(notificationId, member.getId())
-                .orElseThrow(() -> new RuntimeException("알림을 찾을 수 없습니다."));
-        notification.markAsRead();
+    public int getUnreadCount(UUID memberId) {
+        return notificationHistoryRepository.countRecentUnreadByMemberId(memberId, visibleSince());
     }
 
-    public int getUnreadCount(String email) {
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다."));
-        return notificationHistoryRepository.countByMemberIdAndIsReadFalse(member.getId());
+    /**
+     * 보관 기간 경계. 파티션은 달 단위로 지워지므로 경계 이전 행이 아직 남아 있어도 보이지 않게 함
+     */
+    private LocalDateTime visibleSince() {
+        return LocalDateTime.now().minusMonths(retentionMonths);
     }
 }
@@ -1,14 +1,23 @@
 package com.project.cinecatch.domain.theater.repository;
 
 import com.project.cinecatch.domain.theater.entity.Theater;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface TheaterRepository extends JpaRepository<Theater, String> {
 
+    String BRAND_QUERY_REGION = "theater-by-brand";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = BRAND_QUERY_REGION)
+    })
     List<Theater> findByBrand(String brand);
 
     List<Theater> findByNameContaining(String name);
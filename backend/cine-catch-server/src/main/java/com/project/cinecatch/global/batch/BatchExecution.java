@@ -0,0 +1,175 @@
+package com.project.cinecatch.global.batch;
+
+import com.project.cinecatch.global.event.BatchStepCompletedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배치 작업 실행 1회의 단계 실행기. 단계마다 이력(batch_run_step)과 batch.step 타이머를 남김
+ * - 시간 제한을 넘긴 프로세스는 자식 프로세스(크롤러가 띄운 브라우저 등)까지 종료 요청 후, 유예 시간 뒤 강제 종료함
+ * - 출력은 ProcessOutputCollector 가 전용 스레드로 읽어 파싱하고, 요약은 이력/메트릭/BatchStepCompletedEvent 로 내보냄
+ * - 작업 상태는 단계 중 가장 나쁜 결과 (시간 초과 > 실패 > 성공)
+ */
+@Slf4j
+public class BatchExecution {
+
+    private static final Duration KILL_GRACE = Duration.ofSeconds(10);
+    private static final Duration OUTPUT_DRAIN = Duration.ofSeconds(5);
+    private static final int TAIL_LINES = 50;
+    private static final int MAX_LINE_LENGTH = 2000;
+
+    /**
+     * inventoryChanges 는 출력에 "총 N건의 재고 변동" 이 없으면 null
+     */
+    public record StepResult(BatchStatus status, Integer exitCode, long durationMs, Integer inventoryChanges) {
+
+        public boolean succeeded() {
+            return status == BatchStatus.SUCCEEDED;
+        }
+    }
+
+    private final BatchRun run;
+    private final BatchRunStepRepository stepRepository;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private BatchStatus status = BatchStatus.SUCCEEDED;
+
+    BatchExecution(BatchRun run, BatchRunStepRepository stepRepository, MeterRegistry meterRegistry,
+                   ApplicationEventPublisher eventPublisher) {
+        this.run = run;
+        this.stepRepository = stepRepository;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public StepResult runStep(String stepName, File workingDir, Duration timeout, List<String> command)
+            throws InterruptedException {
+        Instant startedAt = Instant.now();
+        long started = System.nanoTime();
+        log.info("[{}] 단계 실행: {} (제한 {})", run.getJobName(), stepName, timeout);
+
+        BatchStatus stepStatus;
+        Integer exitCode = null;
+        Process process = null;
+        ProcessOutputCollector output = new ProcessOutputCollector(run.getJobName(), stepName, TAIL_LINES, MAX_LINE_LENGTH);
+        try {
+            ProcessBuilder pb = new ProcessBuilder(command);
+            pb.directory(workingDir);
+            // 파이프로 받으면 파이썬이 stdout 을 블록 버퍼링해 진행 표시가 늦게 오므로 끔
+            pb.environment().put("PYTHONUNBUFFERED", "1");
+            pb.environment().put("PYTHONIOENCODING", "utf-8");
+            process = pb.start();
+            output.start(process);
+            if (process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                exitCode = process.exitValue();
+                stepStatus = exitCode == 0 ? BatchStatus.SUCCEEDED : BatchStatus.FAILED;
+            } else {
+                log.error("[{}] {} 시간 제한({}) 초과, 프로세스 종료", run.getJobName(), stepName, timeout);
+                kill(process);
+                stepStatus = BatchStatus.TIMED_OUT;
+            }
+            output.awaitReaders(OUTPUT_DRAIN);
+        } catch (IOException e) {
+            log.error("[{}] {} 실행 실패: {}", run.getJobName(), stepName, e.getMessage());
+            stepStatus = BatchStatus.FAILED;
+        } catch (InterruptedException e) {
+            // 종료 중 인터럽트: 자식 프로세스를 남기지 않음
+            if (process != null) {
+                process.descendants().forEach(ProcessHandle::destroyForcibly);
+                process.destroyForcibly();
+            }
+            record(stepName, BatchStatus.FAILED, null, startedAt, started, output.finish());
+            throw e;
+        }
+
+        return record(stepName, stepStatus, exitCode, startedAt, started, output.finish());
+    }
+
+    BatchStatus status() {
+        return status;
+    }
+
+    void fail() {
+        worsen(BatchStatus.FAILED);
+    }
+
+    private StepResult record(String stepName, BatchStatus stepStatus, Integer exitCode, Instant startedAt, long started,
+                              ProcessOutputCollector.Summary output) {
+        long durationNanos = System.nanoTime() - started;
+        long durationMs = durationNanos / 1_000_000;
+        worsen(stepStatus);
+
+        Timer.builder("batch.step")
+                .tag("job", run.getJobName())
+                .tag("step", stepName)
+                .tag("status", stepStatus.name())
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        Map<String, Long> phaseDurations = recordOutputMetrics(stepName, output);
+        try {
+            stepRepository.save(BatchRunStep.of(run.getId(), stepName, stepStatus, exitCode, startedAt, durationMs, output));
+        } catch (RuntimeException e) {
+            log.warn("[{}] 단계 이력 저장 실패: {}", run.getJobName(), e.getMessage());
+        }
+        eventPublisher.publishEvent(new BatchStepCompletedEvent(run.getJobName(), run.getId(), stepName,
+                stepStatus.name(), exitCode, durationMs, output.inventoryChanges(), output.errorLines(), phaseDurations));
+
+        log.info("[{}] 단계 종료: {} {} (exit={}, {}ms, 출력 {}줄, 에러 {}줄, 재고 변동 {}, 구간 {})",
+                run.getJobName(), stepName, stepStatus, exitCode, durationMs,
+                output.lines(), output.errorLines(), output.inventoryChanges(), phaseDurations);
+        return new StepResult(stepStatus, exitCode, durationMs, output.inventoryChanges());
+    }
+
+    private Map<String, Long> recordOutputMetrics(String stepName, ProcessOutputCollector.Summary output) {
+        String jobName = run.getJobName();
+        if (output.inventoryChanges() != null) {
+            meterRegistry.counter("batch.inventory.changes", "job", jobName).increment(output.inventoryChanges());
+        }
+        if (output.errorLines() > 0) {
+            meterRegistry.counter("batch.step.errors", "job", jobName, "step", stepName).increment(output.errorLines());
+        }
+
+        Map<String, Long> phaseDurations = new LinkedHashMap<>();
+        for (BatchStepPhase phase : output.phases()) {
+            phaseDurations.put(phase.getName(), phase.getDurationMs());
+            // 태그에는 제목 없이 "[k/n]" 만 써서 시계열 수를 묶어 둠
+            String tag = phase.getName().substring(0, phase.getName().indexOf(']') + 1);
+            Timer.builder("batch.step.phase")
+                    .tag("job", jobName)
+                    .tag("step", stepName)
+                    .tag("phase", tag)
+                    .register(meterRegistry)
+                    .record(phase.getDurationMs(), TimeUnit.MILLISECONDS);
+        }
+        return phaseDurations;
+    }
+
+    private void worsen(BatchStatus candidate) {
+        if (candidate == BatchStatus.TIMED_OUT
+                || (candidate == BatchStatus.FAILED && status == BatchStatus.SUCCEEDED)) {
+            status = candidate;
+        }
+    }
+
+    private void kill(Process process) throws InterruptedException {
+        List<ProcessHandle> descendants = process.descendants().toList();
+        descendants.forEach(ProcessHandle::destroy);
+        process.destroy();
+        if (!process.waitFor(KILL_GRACE.toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly();
+        }
+        // 부모가 먼저 끝나도 자식은 남을 수 있으므로 따로 확인
+        descendants.stream().filter(ProcessHandle::isAlive).forEach(ProcessHandle::destroyForcibly);
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.cinecatch.global.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배치 작업 실행 틀: 리더 락 -> 주기 확인 -> 실행 이력(batch_run) 기록 -> 단계 실행 -> 결과/소요 시간 기록
+ * - 다른 노드가 같은 작업을 실행 중이면 건너뜀
+ * - 노드마다 스케줄이 따로 돌므로, 이번 주기 구간(epoch 기준으로 주기 단위로 자른 구간)에 이미 시작했거나 성공한 실행이 있으면 건너뜀
+ *   (실패한 실행만 있으면 같은 주기 안에서 다른 노드가 다시 시도함)
+ * - 건너뛰면 batch.run.skipped 만 올림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchJobRunner {
+
+    @FunctionalInterface
+    public interface BatchJob {
+        void run(BatchExecution execution) throws Exception;
+    }
+
+    private static final String NODE_ID = ManagementFactory.getRuntimeMXBean().getName();
+    private static final EnumSet<BatchStatus> DONE_OR_RUNNING = EnumSet.of(BatchStatus.RUNNING, BatchStatus.SUCCEEDED);
+
+    private final BatchLeaderLock batchLeaderLock;
+    private final BatchRunRepository batchRunRepository;
+    private final BatchRunStepRepository batchRunStepRepository;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @param period 스케줄 주기 (이 주기 구간마다 클러스터 전체에서 한 번만 실행함)
+     * @return 이 노드에서 실행했으면 최종 상태, 건너뛰었으면 empty
+     */
+    public Optional<BatchStatus> run(String jobName, Duration period, BatchJob job) {
+        Optional<BatchLeaderLock.Lease> lease;
+        try {
+            lease = batchLeaderLock.tryAcquire(jobName);
+        } catch (SQLException e) {
+            log.error("[{}] 배치 락 획득 실패, 이번 실행 건너뜀: {}", jobName, e.getMessage());
+            return Optional.empty();
+        }
+        if (lease.isEmpty()) {
+            log.info("[{}] 다른 노드에서 실행 중이라 건너뜀", jobName);
+            meterRegistry.counter("batch.run.skipped", "job", jobName, "reason", "running").increment();
+            return Optional.empty();
+        }
+
+        BatchLeaderLock.Lease held = lease.get();
+        try (held) {
+            // 락을 잡은 뒤에 확인하므로 다른 노드가 막 끝낸 실행도 보임
+            Instant periodStart = periodStart(Instant.now(), period);
+            if (batchRunRepository.existsByJobNameAndStatusInAndStartedAtGreaterThanEqual(jobName, DONE_OR_RUNNING, periodStart)) {
+                log.info("[{}] 이번 주기({} 부터)에 이미 실행돼 건너뜀", jobName, periodStart);
+                meterRegistry.counter("batch.run.skipped", "job", jobName, "reason", "done").increment();
+                return Optional.empty();
+            }
+
+            BatchRun run = batchRunRepository.save(BatchRun.start(jobName, NODE_ID));
+            BatchExecution execution = new BatchExecution(run, batchRunStepRepository, meterRegistry, eventPublisher);
+            try {
+                job.run(execution);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("[{}] 종료 중 인터럽트로 중단", jobName);
+                execution.fail();
+            } catch (Exception e) {
+                log.error("[{}] 배치 실행 중 에러 발생", jobName, e);
+                execution.fail();
+            }
+
+            run.finish(execution.status());
+            batchRunRepository.save(run);
+            Timer.builder("batch.run")
+                    .tag("job", jobName)
+                    .tag("status", run.getStatus().name())
+                    .register(meterRegistry)
+                    .record(run.getDurationMs(), TimeUnit.MILLISECONDS);
+            log.info("[{}] 배치 종료: {} ({}ms)", jobName, run.getStatus(), run.getDurationMs());
+            return Optional.of(run.getStatus());
+        }
+    }
+
+    static Instant periodStart(Instant now, Duration period) {
+        long periodMs = period.toMillis();
+        return Instant.ofEpochMilli(Math.floorDiv(now.toEpochMilli(), periodMs) * periodMs);
+    }
+}
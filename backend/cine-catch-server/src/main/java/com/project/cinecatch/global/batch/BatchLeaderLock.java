@@ -0,0 +1,96 @@
+package com.project.cinecatch.global.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * PostgreSQL 세션 advisory lock 으로 배치 리더 선출 (여러 백엔드 인스턴스 중 한 곳만 실행)
+ * - 작업별 락은 try 로 잡아, 다른 노드가 같은 작업을 돌리는 중이면 이번 실행은 건너뜀
+ * - 작업별 락을 잡은 뒤 공용 락을 기다려 잡으므로 파이썬 배치끼리는 클러스터 전체에서 하나씩만 돔
+ * - 락은 커넥션 풀 밖의 전용 커넥션에 묶여 있어, 몇십 분짜리 배치가 풀 커넥션을 붙잡지 않고 노드가 죽으면 커넥션이 끊기면서 자동으로 풀림
+ * - 두 정수 키의 첫 키를 배치 네임스페이스로 고정해 다른 advisory lock 과 겹치지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchLeaderLock {
+
+    /** 두 정수 키 중 첫 번째 (배치 락 네임스페이스) */
+    private static final int NAMESPACE = 0x42415443; // "BATC"
+    private static final String SHARED_LOCK = "python-batch";
+
+    private final DataSourceProperties dataSourceProperties;
+
+    /**
+     * 락을 잡았으면 Lease 반환 (닫으면 풀림), 다른 노드가 실행 중이면 empty
+     */
+    public Optional<Lease> tryAcquire(String jobName) throws SQLException {
+        Connection connection = connect();
+        try {
+            if (!query(connection, "SELECT pg_try_advisory_lock(?, hashtext(?))", jobName)) {
+                connection.close();
+                return Optional.empty();
+            }
+            // 다른 파이썬 배치가 끝날 때까지 대기 (단계별 시간 제한이 있어 무한정 기다리지 않음)
+            query(connection, "SELECT pg_advisory_lock(?, hashtext(?)) IS NOT NULL", SHARED_LOCK);
+            return Optional.of(new Lease(connection));
+        } catch (SQLException | RuntimeException e) {
+            // 커넥션을 닫으면 세션 락도 함께 풀림
+            connection.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 세션 락은 primary 에서만 의미가 있으므로 (복제본 라우팅과 무관하게) primary 에 따로 연결함
+     */
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", dataSourceProperties.determineUsername());
+        String password = dataSourceProperties.determinePassword();
+        if (password != null) {
+            properties.setProperty("password", password);
+        }
+        properties.setProperty("ApplicationName", "cinecatch-batch-lock");
+        properties.setProperty("tcpKeepAlive", "true");
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+
+    private boolean query(Connection connection, String sql, String key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, NAMESPACE);
+            statement.setString(2, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    public static final class Lease implements AutoCloseable {
+        private final Connection connection;
+
+        private Lease(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void close() {
+            try (connection; PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock_all()")) {
+                statement.execute();
+            } catch (SQLException e) {
+                // 커넥션이 이미 끊겼으면 서버 쪽에서 락도 풀린 상태
+                log.warn("배치 락 해제 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
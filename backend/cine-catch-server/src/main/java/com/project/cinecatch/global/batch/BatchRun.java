@@ -0,0 +1,57 @@
+package com.project.cinecatch.global.batch;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 배치 작업 실행 1회 (리더 락을 잡은 노드만 기록함)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "batch_run")
+public class BatchRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", length = 50, nullable = false)
+    private String jobName;
+
+    @Column(name = "node_id", nullable = false)
+    private String nodeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private BatchStatus status;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    public static BatchRun start(String jobName, String nodeId) {
+        BatchRun run = new BatchRun();
+        run.jobName = jobName;
+        run.nodeId = nodeId;
+        run.status = BatchStatus.RUNNING;
+        run.startedAt = Instant.now();
+        return run;
+    }
+
+    public void finish(BatchStatus status) {
+        this.status = status;
+        this.finishedAt = Instant.now();
+        this.durationMs = Duration.between(startedAt, finishedAt).toMillis();
+    }
+}
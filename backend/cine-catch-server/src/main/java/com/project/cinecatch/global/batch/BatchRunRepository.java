@@ -0,0 +1,12 @@
+package com.project.cinecatch.global.batch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
+import java.util.Collection;
+
+public interface BatchRunRepository extends JpaRepository<BatchRun, Long> {
+
+    boolean existsByJobNameAndStatusInAndStartedAtGreaterThanEqual(String jobName, Collection<BatchStatus> statuses,
+                                                                  Instant startedAt);
+}
@@ -0,0 +1,74 @@
+package com.project.cinecatch.global.batch;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배치 작업 안의 단계(파이썬 스크립트 프로세스 하나) 실행 결과
+ * 출력에서 파싱한 재고 변동 건수/에러 줄 수/구간별 소요 시간을 함께 남기고, 성공하지 못한 단계는 마지막 출력도 남김
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "batch_run_step")
+public class BatchRunStep {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "step_name", length = 100, nullable = false)
+    private String stepName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private BatchStatus status;
+
+    @Column(name = "exit_code")
+    private Integer exitCode;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "duration_ms", nullable = false)
+    private long durationMs;
+
+    @Column(name = "inventory_changes")
+    private Integer inventoryChanges;
+
+    @Column(name = "error_lines", nullable = false)
+    private int errorLines;
+
+    @Column(name = "output_tail", columnDefinition = "TEXT")
+    private String outputTail;
+
+    @ElementCollection
+    @CollectionTable(name = "batch_run_step_phase", joinColumns = @JoinColumn(name = "step_id"))
+    @OrderColumn(name = "phase_order")
+    private List<BatchStepPhase> phases = new ArrayList<>();
+
+    public static BatchRunStep of(Long runId, String stepName, BatchStatus status, Integer exitCode,
+                                  Instant startedAt, long durationMs, ProcessOutputCollector.Summary output) {
+        BatchRunStep step = new BatchRunStep();
+        step.runId = runId;
+        step.stepName = stepName;
+        step.status = status;
+        step.exitCode = exitCode;
+        step.startedAt = startedAt;
+        step.durationMs = durationMs;
+        step.inventoryChanges = output.inventoryChanges();
+        step.errorLines = output.errorLines();
+        step.outputTail = status != BatchStatus.SUCCEEDED && !output.tail().isEmpty() ? output.tail() : null;
+        step.phases = new ArrayList<>(output.phases());
+        return step;
+    }
+}
@@ -0,0 +1,6 @@
+package com.project.cinecatch.global.batch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BatchRunStepRepository extends JpaRepository<BatchRunStep, Long> {
+}
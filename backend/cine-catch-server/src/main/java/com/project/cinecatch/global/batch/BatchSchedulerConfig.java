@@ -0,0 +1,39 @@
+package com.project.cinecatch.global.batch;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 배치 전용 스케줄러 (@Scheduled(scheduler = BatchSchedulerConfig.SCHEDULER))
+ * 기본 스케줄러와 분리해 오래 걸리는 크롤링이 다른 @Scheduled 작업을 막지 않게 하고, 작업마다 스레드 하나씩 쓰도록 작업 수만큼 둠
+ * 같은 작업은 이전 실행이 끝나야 다음 실행이 시작됨 (fixedRate 라도 겹치지 않음)
+ * TaskScheduler 빈이 하나라도 있으면 Boot 가 기본 스케줄러를 만들지 않으므로 기본 스케줄러(taskScheduler)도 여기서 함께 등록함
+ */
+@Configuration
+public class BatchSchedulerConfig {
+
+    public static final String SCHEDULER = "batchTaskScheduler";
+
+    /**
+     * scheduler 를 지정하지 않은 @Scheduled 작업용 기본 스케줄러
+     * Boot 빌더로 만들어 spring.threads.virtual.enabled=true 이면 실행마다 가상 스레드를 씀 (배치 플랫폼 스레드 풀을 같이 쓰지 않음)
+     */
+    @Bean("taskScheduler")
+    public SimpleAsyncTaskScheduler taskScheduler(SimpleAsyncTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(SCHEDULER)
+    public ThreadPoolTaskScheduler batchTaskScheduler(@Value("${batch.scheduler.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("batch-");
+        // 종료 시 실행 중인 배치는 인터럽트해 자식 프로세스를 정리하게 함
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+}
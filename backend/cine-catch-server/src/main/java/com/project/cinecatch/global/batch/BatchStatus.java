@@ -0,0 +1,5 @@
+package com.project.cinecatch.global.batch;
+
+public enum BatchStatus {
+    RUNNING, SUCCEEDED, FAILED, TIMED_OUT
+}
@@ -0,0 +1,24 @@
+package com.project.cinecatch.global.batch;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 단계 안의 구간 하나 (진행 표시 "[k/n] ..." 부터 다음 표시 또는 프로세스 종료까지)
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BatchStepPhase {
+
+    @Column(length = 200, nullable = false)
+    private String name;
+
+    @Column(name = "duration_ms", nullable = false)
+    private long durationMs;
+}
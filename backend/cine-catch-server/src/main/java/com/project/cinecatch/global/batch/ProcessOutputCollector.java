@@ -0,0 +1,180 @@
+package com.project.cinecatch.global.batch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 배치 프로세스 stdout/stderr 수집기
+ * - 스트림마다 전용 스레드가 줄 단위로 읽어 서버 로그에 [작업/단계] 접두어로 남기고, 진행 표시/변동 건수/에러 줄을 파싱함
+ * - 출력 전체를 쌓지 않음: 한 줄은 maxLineLength 까지만, 보관은 마지막 tailLines 줄과 구간 최대 MAX_PHASES 개뿐
+ * - 파이프를 계속 비워야 출력이 많은 프로세스가 쓰기에서 멈추지 않음
+ */
+@Slf4j
+class ProcessOutputCollector {
+
+    static final int MAX_PHASES = 20;
+
+    // "📡 [1/4] CGV 이벤트 크롤링 시작..." (n 이 MAX_PHASES 이하일 때만 구간으로 봄)
+    private static final Pattern PHASE = Pattern.compile("^[^\\[\\p{L}\\p{N}]*\\[(\\d+)/(\\d+)]\\s*(.*)$");
+    private static final Pattern INVENTORY_CHANGES = Pattern.compile("총 (\\d+)건의 재고 변동");
+    private static final String NO_INVENTORY_CHANGES = "변동 사항이 없습니다";
+    private static final Pattern ERROR_LINE = Pattern.compile("^\\s*(❌|🚨|Traceback|\\w*Error:)");
+
+    public record Summary(
+            Integer inventoryChanges,
+            int errorLines,
+            long lines,
+            List<BatchStepPhase> phases,
+            String tail
+    ) {
+
+        static Summary empty() {
+            return new Summary(null, 0, 0, List.of(), "");
+        }
+    }
+
+    private final String jobName;
+    private final String stepName;
+    private final int tailLines;
+    private final int maxLineLength;
+    private final List<Thread> readers = new ArrayList<>(2);
+
+    private final Deque<String> tail;
+    private final List<BatchStepPhase> phases = new ArrayList<>();
+    private String currentPhase;
+    private long currentPhaseStarted;
+    private Integer inventoryChanges;
+    private int errorLines;
+    private long lines;
+
+    ProcessOutputCollector(String jobName, String stepName, int tailLines, int maxLineLength) {
+        this.jobName = jobName;
+        this.stepName = stepName;
+        this.tailLines = tailLines;
+        this.maxLineLength = maxLineLength;
+        this.tail = new ArrayDeque<>(tailLines);
+    }
+
+    void start(Process process) {
+        readers.add(startReader(process.getInputStream(), false));
+        readers.add(startReader(process.getErrorStream(), true));
+    }
+
+    /**
+     * 프로세스가 끝난 뒤 남은 출력을 다 읽을 때까지 대기
+     * 손자 프로세스가 파이프를 물고 남아 있으면 timeout 후 포기함 (읽기 스레드는 데몬)
+     */
+    void awaitReaders(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (Thread reader : readers) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining > 0) {
+                reader.join(Duration.ofNanos(remaining));
+            }
+            if (reader.isAlive()) {
+                log.warn("[{}] {} 출력 읽기가 끝나지 않아 남은 출력은 버림", jobName, stepName);
+                reader.interrupt();
+            }
+        }
+    }
+
+    synchronized Summary finish() {
+        closePhase(System.nanoTime());
+        return new Summary(inventoryChanges, errorLines, lines, List.copyOf(phases), String.join("\n", tail));
+    }
+
+    synchronized void accept(String line, boolean stderr) {
+        lines++;
+        if (tail.size() == tailLines) {
+            tail.removeFirst();
+        }
+        tail.addLast(line);
+
+        if (stderr) {
+            log.warn("[{}/{}] {}", jobName, stepName, line);
+        } else {
+            log.info("[{}/{}] {}", jobName, stepName, line);
+        }
+
+        if (ERROR_LINE.matcher(line).find()) {
+            errorLines++;
+        }
+
+        Matcher changes = INVENTORY_CHANGES.matcher(line);
+        if (changes.find()) {
+            inventoryChanges = Integer.parseInt(changes.group(1));
+        } else if (line.contains(NO_INVENTORY_CHANGES)) {
+            inventoryChanges = 0;
+        }
+
+        Matcher phase = PHASE.matcher(line);
+        if (phase.matches() && Integer.parseInt(phase.group(2)) <= MAX_PHASES && phases.size() < MAX_PHASES) {
+            long now = System.nanoTime();
+            closePhase(now);
+            String title = phase.group(3).strip();
+            String name = "[" + phase.group(1) + "/" + phase.group(2) + "]" + (title.isEmpty() ? "" : " " + title);
+            currentPhase = name.length() > 200 ? name.substring(0, 200) : name;
+            currentPhaseStarted = now;
+        }
+    }
+
+    private void closePhase(long now) {
+        if (currentPhase != null) {
+            phases.add(new BatchStepPhase(currentPhase, (now - currentPhaseStarted) / 1_000_000));
+            currentPhase = null;
+        }
+    }
+
+    private Thread startReader(InputStream stream, boolean stderr) {
+        return Thread.ofPlatform()
+                .daemon()
+                .name("batch-" + jobName + (stderr ? "-stderr" : "-stdout"))
+                .start(() -> read(stream, stderr));
+    }
+
+    private void read(InputStream stream, boolean stderr) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            StringBuilder line = new StringBuilder();
+            boolean truncated = false;
+            int ch;
+            while ((ch = reader.read()) != -1) {
+                if (ch == '\n') {
+                    emit(line, truncated, stderr);
+                    line.setLength(0);
+                    truncated = false;
+                } else if (ch != '\r') {
+                    if (line.length() < maxLineLength) {
+                        line.append((char) ch);
+                    } else {
+                        truncated = true;
+                    }
+                }
+            }
+            if (!line.isEmpty()) {
+                emit(line, truncated, stderr);
+            }
+        } catch (IOException e) {
+            // 강제 종료로 파이프가 닫힌 경우
+            log.debug("[{}] {} 출력 읽기 종료: {}", jobName, stepName, e.getMessage());
+        }
+    }
+
+    private void emit(StringBuilder line, boolean truncated, boolean stderr) {
+        if (line.isEmpty()) {
+            return;
+        }
+        accept(truncated ? line + "…" : line.toString(), stderr);
+    }
+}
@@ -1,115 +1,127 @@
 package com.project.cinecatch.global.batch;
 
+import com.project.cinecatch.domain.event.service.ActiveEventViewRefresher;
+import com.project.cinecatch.domain.event.service.InventoryRefreshService;
+import com.project.cinecatch.global.service.EventEndingReminderService;
+import com.project.cinecatch.global.service.ReferenceDataCacheInvalidator;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Paths;
-
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 파이썬 크롤링/적재 배치 스케줄
+ * - 배치 전용 스케줄러에서 돌고, BatchJobRunner 가 리더 락(노드 하나만 실행)과 실행 이력을 맡음
+ * - 단계(스크립트)마다 batch.timeout.* 시간 제한이 있어 멈춘 크롤링이 이후 실행을 막지 않음
+ */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class PythonBatchRunner {
 
-    private String getPythonPath() {
-        return "python3"; // 시스템이 알아서 찾음
-    }
+    static final String THEATER_JOB = "theater";
+    static final String EVENT_JOB = "event";
+    private static final long THEATER_PERIOD_MS = 86400000;
+    private static final long EVENT_PERIOD_MS = 3600000;
 
-    @Scheduled(fixedRate = 86400000, initialDelay = 1000)
-    public void runPythonCrawlerEveryDay() {
-        log.info(">>>>>> [Scheduled] 24시간 주기 영화관 배치 시작");
+    private final BatchJobRunner batchJobRunner;
+    private final EventEndingReminderService eventEndingReminderService;
+    private final ReferenceDataCacheInvalidator referenceDataCacheInvalidator;
+    private final InventoryRefreshService inventoryRefreshService;
+    private final ActiveEventViewRefresher activeEventViewRefresher;
 
-        try {
-            String userDir = System.getProperty("user.dir");
-            File current = new File(userDir);
-            File pythonModuleDir = null;
+    @Value("${batch.timeout.theater-loader:30m}")
+    private Duration theaterLoaderTimeout;
 
-            //경로 찾기
-            if (new File(current, "event-crawler").exists()) {
-                pythonModuleDir = new File(current, "event-crawler");
-            } else if (new File(current.getParentFile(), "event-crawler").exists()) {
-                pythonModuleDir = new File(current.getParentFile(), "event-crawler");
-            }
+    @Value("${batch.timeout.crawler:40m}")
+    private Duration crawlerTimeout;
 
-            if (pythonModuleDir == null) {
-                log.error("폴더를 찾을 수 없음");
-                return;
-            }
+    @Value("${batch.timeout.loader:15m}")
+    private Duration loaderTimeout;
 
-            File scriptFile = new File(pythonModuleDir, "cgv_place_db_loader.py");
+    private String getPythonPath() {
+        return "python3"; // 시스템이 알아서 찾음
+    }
 
-            ProcessBuilder pb = new ProcessBuilder("python3", scriptFile.getAbsolutePath());
-            pb.directory(pythonModuleDir);
-            pb.inheritIO();
+    // 첫 실행은 기동 직후 트래픽/JIT 워밍업과 겹치지 않도록 batch.*.initial-delay-ms 만큼 미룸
+    @Scheduled(fixedRate = THEATER_PERIOD_MS, initialDelayString = "${batch.theater.initial-delay-ms:300000}",
+            scheduler = BatchSchedulerConfig.SCHEDULER)
+    public void runPythonCrawlerEveryDay() {
+        Optional<BatchStatus> status = batchJobRunner.run(
+                THEATER_JOB, Duration.ofMillis(THEATER_PERIOD_MS), this::runTheaterBatch);
+        if (status.isPresent()) {
+            // 성공/실패와 관계없이 일부라도 적재됐을 수 있으므로 모든 노드의 캐시를 비움
+            referenceDataCacheInvalidator.invalidateAll();
+            // 진행 중 이벤트 뷰에 극장명/주소/좌표가 들어 있으므로 다시 만듦 (극장 변경은 변경 로그에 남지 않아 버전과 관계없이)
+            activeEventViewRefresher.requestRefresh();
+        }
+    }
 
-            Process process = pb.start();
-            int exitCode = process.waitFor();
-            log.info(">>>>>> [Scheduled] 영화관 배치 종료 (Exit Code: {})", exitCode);
+    private void runTheaterBatch(BatchExecution execution) throws InterruptedException {
+        log.info(">>>>>> [Scheduled] 24시간 주기 영화관 배치 시작");
 
-        } catch (Exception e) {
-            log.error(">>>>>> 스케줄러 실행 중 에러 발생", e);
+        File pythonModuleDir = getPythonModuleDir(new File(System.getProperty("user.dir")));
+        if (pythonModuleDir == null) {
+            execution.fail();
+            return;
         }
+
+        BatchExecution.StepResult result = runScript(execution, pythonModuleDir, "cgv_place_db_loader.py", theaterLoaderTimeout);
+        log.info(">>>>>> [Scheduled] 영화관 배치 종료 ({}, Exit Code: {})", result.status(), result.exitCode());
     }
 
     // 매시 정각마다 실행 (0분 0초)
-    @Scheduled(fixedRate = 3600000, initialDelay = 1000)
+    @Scheduled(fixedRate = EVENT_PERIOD_MS, initialDelayString = "${batch.event.initial-delay-ms:60000}",
+            scheduler = BatchSchedulerConfig.SCHEDULER)
     public void runEventUpdateBatch() {
-        log.info(">>>>>> [Scheduled] 이벤트 정보 업데이트 배치 시작(1시간 주기)");
-
-        try {
-            String userDir = System.getProperty("user.dir");
-            File current = new File(userDir);
-
-            // 경로 찾기
-            File pythonModuleDir = getPythonModuleDir(current);
-            if (pythonModuleDir == null) return;
-
-            // 파이썬 인터프리터 경로
-            String pythonPath = getPythonPath();
-
-            // STEP 1: 크롤링 (crawler.py)
-            boolean crawlerSuccess = runProcess(pythonPath, pythonModuleDir, "crawler.py");
+        Optional<BatchStatus> status = batchJobRunner.run(EVENT_JOB, Duration.ofMillis(EVENT_PERIOD_MS), this::runEventBatch);
+        if (status.isPresent()) {
+            referenceDataCacheInvalidator.invalidateAll();
+            // 실패했어도 일부는 적재됐을 수 있으므로 변경 로그 기준으로 읽기 모델을 맞춤 (버전이 오르면 구체화 뷰도 뒤따라 갱신됨)
+            inventoryRefreshService.refresh();
+        }
+    }
 
-            if (crawlerSuccess) {
-                log.info(">>>>>> STEP 1 성공: 크롤링 완료, 로딩 시작");
+    private void runEventBatch(BatchExecution execution) throws InterruptedException {
+        log.info(">>>>>> [Scheduled] 이벤트 정보 업데이트 배치 시작(1시간 주기)");
 
-                // STEP 2: DB 적재 (main.py)
-                boolean loaderSuccess = runProcess(pythonPath, pythonModuleDir, "main.py");
+        // 경로 찾기
+        File pythonModuleDir = getPythonModuleDir(new File(System.getProperty("user.dir")));
+        if (pythonModuleDir == null) {
+            execution.fail();
+            return;
+        }
 
-                if (loaderSuccess) {
-                    log.info(">>>>>> STEP 2 성공: DB 적재까지 모두 완료");
-                } else {
-                    log.error(">>>>>> STEP 2 실패: DB 적재 중 에러 발생");
-                }
-            } else {
-                log.error(">>>>>> STEP 1 실패: 크롤링이 실패, 로딩 스킵");
-            }
+        // STEP 1: 크롤링 (crawler.py)
+        BatchExecution.StepResult crawler = runScript(execution, pythonModuleDir, "crawler.py", crawlerTimeout);
+        if (!crawler.succeeded()) {
+            log.error(">>>>>> STEP 1 실패({}): 크롤링이 실패, 로딩 스킵", crawler.status());
+            return;
+        }
+        log.info(">>>>>> STEP 1 성공: 크롤링 완료, 로딩 시작");
 
-        } catch (Exception e) {
-            log.error(">>>>>> 배치 실행 중 치명적 에러 발생", e);
+        // STEP 2: DB 적재 (main.py)
+        BatchExecution.StepResult loader = runScript(execution, pythonModuleDir, "main.py", loaderTimeout);
+        if (!loader.succeeded()) {
+            log.error(">>>>>> STEP 2 실패({}): DB 적재 중 에러 발생", loader.status());
+            return;
         }
+        log.info(">>>>>> STEP 2 성공: DB 적재까지 모두 완료 (재고 변동 {}건)", loader.inventoryChanges());
+
+        // 적재된 이벤트 기준으로 종료 임박 알림 타이머 갱신
+        eventEndingReminderService.syncActiveEvents();
     }
 
-    // 프로세스 실행 공통 메서드
-    private boolean runProcess(String pythonPath, File workingDir, String scriptName) {
-        try {
-            File scriptFile = new File(workingDir, scriptName);
-            log.info("실행 중: {}", scriptName);
-
-            ProcessBuilder pb = new ProcessBuilder(pythonPath, scriptFile.getAbsolutePath());
-            pb.directory(workingDir);
-            pb.inheritIO();
-
-            Process process = pb.start();
-            int exitCode = process.waitFor();
-            return exitCode == 0;
-        } catch (Exception e) {
-            log.error("{} 실행 중 에러: {}", scriptName, e.getMessage());
-            return false;
-        }
+    private BatchExecution.StepResult runScript(BatchExecution execution, File workingDir, String scriptName,
+                                                Duration timeout) throws InterruptedException {
+        File scriptFile = new File(workingDir, scriptName);
+        return execution.runStep(scriptName, workingDir, timeout, List.of(getPythonPath(), scriptFile.getAbsolutePath()));
     }
 
     private File getPythonModuleDir(File current) {
@@ -118,6 +130,4 @@ public class PythonBatchRunner {
         log.error("event-crawler 폴더를 찾을 수 없음~함!");
         return null;
     }
-
-
-}
\ No newline at end of file
+}
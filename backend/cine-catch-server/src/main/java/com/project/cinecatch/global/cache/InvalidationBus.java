@@ -0,0 +1,280 @@
+package com.project.cinecatch.global.cache;
+
+import com.project.cinecatch.global.event.CacheInvalidatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 기반 노드 간 캐시 무효화 버스
+ * - 보내기: cache_invalidation 에 행을 넣으면 트리거가 커밋 시점에 NOTIFY 함 (호출한 트랜잭션이 롤백되면 나가지 않음)
+ *   놓쳐도 되는 메시지(재고 상태 델타 등)는 행 없이 NOTIFY 만 보냄 (broadcast)
+ * - 받기: 풀 밖의 전용 커넥션 하나로 LISTEN 하고, 받은 메시지는 CacheInvalidatedEvent 로 넘김
+ * - 연결이 끊기면 점점 늘어나는 간격으로 재접속하고, 직전 연결의 워터마크 이후 트랜잭션이 넣은 행을 다시 읽어 놓친 메시지를 처리함
+ *   워터마크는 LISTEN 직후 스냅샷의 xmin 이라, 그보다 뒤에 끝난 트랜잭션의 메시지는 NOTIFY 로 받았거나 다시 읽는 범위에 들어감
+ *   (seq 는 커밋 순서가 아니므로 쓰지 않음. 무효화는 여러 번 처리해도 같으므로 겹쳐 받은 메시지는 그대로 처리함)
+ *   보관 기간보다 오래 끊겨 있었으면 놓친 범위를 알 수 없으므로 종류별 전체 무효화로 대신함 (폐기 토큰은 DB 에서 다시 읽음)
+ * - 생성부터 처리까지 걸린 시간은 cache.invalidation.lag(mode=live|catchup) 로 남김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvalidationBus {
+
+    static final String CHANNEL = "cache_invalidation";
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cache.invalidation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.invalidation.heartbeat-ms:30000}")
+    private int heartbeatMillis;
+
+    @Value("${cache.invalidation.retention-hours:24}")
+    private int retentionHours;
+
+    private volatile boolean running;
+    private volatile long watermark = -1;
+    private volatile Connection connection;
+    private Thread listener;
+
+    /**
+     * 무효화 메시지 발행. 진행 중인 트랜잭션이 있으면 그 트랜잭션이 커밋될 때 전달됨
+     */
+    public void publish(InvalidationType type, String entityId) {
+        jdbcTemplate.update("INSERT INTO cache_invalidation (entity_type, entity_id) VALUES (?, ?)",
+                type.name(), entityId);
+    }
+
+    /**
+     * 테이블에 남기지 않는 메시지 발행 (seq 0). 연결이 끊겨 있던 노드는 다시 읽지 못하므로 놓쳐도 되는 메시지에만 씀
+     * 여러 건을 NOTIFY 한 번의 왕복으로 보냄. 버스를 끈 단일 노드에서는 자기 노드에만 바로 전달함
+     */
+    public void broadcast(InvalidationType type, List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (!enabled) {
+            entityIds.forEach(entityId -> handle(new InvalidationMessage(0, type, now, entityId), false));
+            return;
+        }
+        String[] payloads = entityIds.stream()
+                .map(entityId -> "0|" + type.name() + "|" + now + "|" + entityId)
+                .toArray(String[]::new);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT pg_notify(?, payload) FROM unnest(?) AS payload")) {
+                statement.setString(1, CHANNEL);
+                statement.setArray(2, connection.createArrayOf("text", payloads));
+                statement.execute();
+            }
+            return null;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("캐시 무효화 버스 비활성화 (cache.invalidation.enabled=false)");
+            return;
+        }
+        running = true;
+        listener = Thread.ofPlatform().daemon().name("invalidation-listener").start(this::listenLoop);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+        Connection current = connection;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException ignored) {
+                // 종료 중
+            }
+        }
+    }
+
+    /**
+     * 오래된 메시지 정리 (재접속 따라잡기는 보관 기간 안에서만 가능)
+     */
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 600_000)
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM cache_invalidation WHERE created_at < now() - make_interval(hours => ?)", retentionHours);
+        if (deleted > 0) {
+            log.info("만료된 캐시 무효화 메시지 {}건 정리", deleted);
+        }
+    }
+
+    public long watermark() {
+        return watermark;
+    }
+
+    private void listenLoop() {
+        long backoffMillis = 1000;
+        long disconnectedAt = 0;
+        while (running) {
+            try (Connection conn = connect()) {
+                connection = conn;
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // LISTEN 을 먼저 걸고 워터마크를 잡으므로 그 뒤에 끝나는 트랜잭션의 메시지는 NOTIFY 로 받음
+                long connectedWatermark = currentWatermark(conn);
+                if (watermark < 0) {
+                    log.info("캐시 무효화 버스 연결 (워터마크 {})", connectedWatermark);
+                } else {
+                    catchUp(conn, System.currentTimeMillis() - disconnectedAt);
+                }
+                watermark = connectedWatermark;
+                disconnectedAt = 0;
+                backoffMillis = 1000;
+                listen(conn);
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                if (disconnectedAt == 0) {
+                    disconnectedAt = System.currentTimeMillis();
+                }
+                log.warn("캐시 무효화 버스 연결 끊김, {}ms 후 재접속: {}", backoffMillis, e.getMessage());
+                meterRegistry.counter("cache.invalidation.reconnects").increment();
+            } finally {
+                connection = null;
+            }
+
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                break;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF.toMillis());
+        }
+    }
+
+    private void listen(Connection conn) throws SQLException {
+        PGConnection pgConnection = conn.unwrap(PGConnection.class);
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(heartbeatMillis);
+            if (notifications == null || notifications.length == 0) {
+                // 반쯤 끊긴 TCP 연결은 읽기만으로는 드러나지 않으므로 주기적으로 왕복해 봄
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                try {
+                    handle(InvalidationMessage.parse(notification.getParameter()), false);
+                } catch (RuntimeException e) {
+                    log.warn("캐시 무효화 메시지 처리 실패: {} ({})", notification.getParameter(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void catchUp(Connection conn, long disconnectedMillis) throws SQLException {
+        if (disconnectedMillis >= TimeUnit.HOURS.toMillis(retentionHours)) {
+            log.warn("캐시 무효화 버스가 보관 기간보다 오래 끊겨 있었음, 전체 무효화로 대신함");
+            long now = System.currentTimeMillis();
+            // TOKEN_REVOKED 전체는 폐기 목록을 revoked_tokens 에서 다시 읽게 함 (EVENT_STATUS 전체는 받는 쪽이 무시함)
+            for (InvalidationType type : InvalidationType.values()) {
+                handle(new InvalidationMessage(0, type, now, InvalidationMessage.ALL), true);
+            }
+            return;
+        }
+
+        int replayed = 0;
+        try (PreparedStatement statement = conn.prepareStatement("""
+                SELECT seq, entity_type, (extract(epoch FROM created_at) * 1000)::bigint, entity_id
+                FROM cache_invalidation WHERE txid >= CAST(CAST(? AS text) AS xid8) ORDER BY txid, seq""")) {
+            statement.setLong(1, watermark);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    handle(new InvalidationMessage(rs.getLong(1), InvalidationType.valueOf(rs.getString(2)),
+                            rs.getLong(3), rs.getString(4)), true);
+                    replayed++;
+                }
+            }
+        }
+        // EVENT 는 테이블에 남지 않으므로 재접속할 때마다 변경 로그 기준으로 맞추게 함
+        handle(new InvalidationMessage(0, InvalidationType.EVENT, System.currentTimeMillis(), InvalidationMessage.ALL), true);
+        log.info("캐시 무효화 버스 재접속, 놓친 메시지 {}건 처리 (워터마크 {})", replayed, watermark);
+    }
+
+    void handle(InvalidationMessage message, boolean catchUp) {
+        long lagMillis = Math.max(0, System.currentTimeMillis() - message.createdAtMillis());
+        Timer.builder("cache.invalidation.lag")
+                .tag("type", message.type().name())
+                .tag("mode", catchUp ? "catchup" : "live")
+                .register(meterRegistry)
+                .record(lagMillis, TimeUnit.MILLISECONDS);
+        log.debug("캐시 무효화 수신: {} {} (seq {}, 지연 {}ms)", message.type(), message.entityId(), message.seq(), lagMillis);
+
+        eventPublisher.publishEvent(new CacheInvalidatedEvent(message.type(), message.entityId(), catchUp));
+    }
+
+    /**
+     * 아직 끝나지 않은 가장 오래된 트랜잭션 id. 이보다 작은 txid 의 행은 모두 커밋(또는 롤백)이 끝남
+     */
+    private long currentWatermark(Connection conn) throws SQLException {
+        try (Statement statement = conn.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint)")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * LISTEN 은 복제본에서 안 되고 풀 커넥션을 계속 붙잡으면 안 되므로 primary 에 따로 연결함
+     */
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", dataSourceProperties.determineUsername());
+        String password = dataSourceProperties.determinePassword();
+        if (password != null) {
+            properties.setProperty("password", password);
+        }
+        properties.setProperty("ApplicationName", "cinecatch-invalidation");
+        properties.setProperty("tcpKeepAlive", "true");
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.cinecatch.global.cache;
+
+/**
+ * NOTIFY 페이로드 "seq|종류|생성 시각(epoch ms)|id" 한 건. seq 0 은 테이블에 남지 않는 알림(EVENT)
+ */
+public record InvalidationMessage(long seq, InvalidationType type, long createdAtMillis, String entityId) {
+
+    public static final String ALL = "*";
+
+    public static InvalidationMessage parse(String payload) {
+        String[] parts = payload.split("\\|", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("잘못된 무효화 메시지: " + payload);
+        }
+        return new InvalidationMessage(Long.parseLong(parts[0]), InvalidationType.valueOf(parts[1]),
+                Long.parseLong(parts[2]), parts[3]);
+    }
+
+    public boolean isAll() {
+        return ALL.equals(entityId);
+    }
+}
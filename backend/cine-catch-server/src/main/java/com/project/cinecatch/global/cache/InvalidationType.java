@@ -0,0 +1,13 @@
+package com.project.cinecatch.global.cache;
+
+/**
+ * 무효화 버스 메시지 종류
+ * - EVENT: 이벤트/재고 데이터 버전(event_change_log 워터마크) 증가 알림. id 는 항상 전체('*')
+ * - THEATER, MOVIE: 2차 캐시 참조 데이터. id 가 '*' 면 전체
+ * - TOKEN_REVOKED: 폐기된 토큰. id 는 "jti@만료 epoch second", '*' 면 revoked_tokens 에서 목록을 다시 읽음
+ * - EVENT_STATUS: SSE 로 보낼 재고 상태 델타 (EventStatusChangedEvent.toPayload). 테이블에 남지 않아 재접속 때 다시 읽지 않음
+ *   (놓친 델타는 클라이언트가 변경 피드로 맞춤)
+ */
+public enum InvalidationType {
+    EVENT, THEATER, MOVIE, TOKEN_REVOKED, EVENT_STATUS
+}
@@ -3,15 +3,20 @@ package com.project.cinecatch.global.config;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
-import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.ClassPathResource;
 
 import java.io.IOException;
 import java.io.InputStream;
 
+/**
+ * Firebase 초기화는 자격 증명 파일 읽기 + 파싱이라 기동 경로에서 빼고 백그라운드에서 진행함
+ * 초기화가 끝나기 전 발송 요청은 PushNotificationService 에서 "미초기화"로 건너뜀
+ */
 @Slf4j
 @Configuration
 public class FirebaseConfig {
@@ -19,8 +24,13 @@ public class FirebaseConfig {
     @Value("${firebase.credentials.path:firebase-service-account.json}")
     private String firebaseCredentialsPath;
 
-    @PostConstruct
+    @EventListener(ApplicationStartedEvent.class)
+    public void initializeInBackground() {
+        Thread.ofVirtual().name("firebase-init").start(this::initialize);
+    }
+
     public void initialize() {
+        long startedAt = System.nanoTime();
         try {
             if (FirebaseApp.getApps().isEmpty()) {
                 InputStream serviceAccount = new ClassPathResource(firebaseCredentialsPath).getInputStream();
@@ -30,7 +40,7 @@ public class FirebaseConfig {
                         .build();
 
                 FirebaseApp.initializeApp(options);
-                log.info("Firebase 초기화 완료");
+                log.info("Firebase 초기화 완료 ({}ms)", (System.nanoTime() - startedAt) / 1_000_000);
             }
         } catch (IOException e) {
             log.error("Firebase 초기화 실패: {}", e.getMessage());
@@ -0,0 +1,81 @@
+package com.project.cinecatch.global.config;
+
+import com.project.cinecatch.global.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 (datasource.replica.urls 가 있을 때만 활성화, 없으면 Boot 기본 단일 데이터소스)
+ * - @Transactional(readOnly = true) 트랜잭션은 복제본, 나머지는 primary 로 보냄
+ * - LazyConnectionDataSourceProxy 가 첫 쿼리 시점까지 실제 커넥션 획득을 미루므로, 트랜잭션의 readOnly 설정을 보고 풀을 고를 수 있음
+ * - 쓰기 트랜잭션 안에서 호출된 readOnly 메서드는 바깥 트랜잭션의 primary 커넥션을 그대로 씀
+ * - -Paot 빌드는 조건을 빌드 시점에 고정하므로 복제본 사용 여부를 바꾸려면 다시 빌드해야 함
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("!'${datasource.replica.urls:}'.isBlank()")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 복제본 풀은 primary 풀 설정(계정, 크기, 타임아웃)을 복사하고 URL 만 바꿈
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSource replicaDataSource(
+            HikariDataSource primaryDataSource,
+            @Value("${datasource.replica.urls}") String urls,
+            @Value("${datasource.replica.max-lag-seconds:10}") double maxLagSeconds,
+            @Value("${datasource.replica.health-check-interval-ms:5000}") long healthCheckIntervalMillis) {
+        List<String> replicaUrls = Arrays.stream(urls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+
+        List<ReplicaDataSource.Replica> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(replicaUrls.get(i));
+            config.setPoolName("replica-" + (i + 1));
+            config.setReadOnly(true);
+            // 복제본이 내려가 있어도 기동은 되도록 (헬스 체크가 살아나면 포함시킴)
+            config.setInitializationFailTimeout(-1);
+            replicas.add(new ReplicaDataSource.Replica(config.getPoolName(), new HikariDataSource(config)));
+        }
+
+        ReplicaDataSource replicaDataSource = new ReplicaDataSource(primaryDataSource, replicas, maxLagSeconds);
+        replicaDataSource.start(healthCheckIntervalMillis);
+        log.info("읽기 복제본 {}개 등록 (max-lag {}초, 헬스 체크 {}ms)",
+                replicas.size(), maxLagSeconds, healthCheckIntervalMillis);
+        return replicaDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
@@ -1,17 +1,24 @@
 package com.project.cinecatch.global.config;
 
+import com.project.cinecatch.global.security.InternalApiTokenFilter;
 import com.project.cinecatch.global.security.JwtAuthenticationFilter;
+import com.project.cinecatch.global.security.PublicRoutes;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -26,20 +33,57 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    /**
+     * 내부 API 전용 체인 (크롤러 -> 백엔드 서버 간 호출)
+     * X-Internal-Token 공유 비밀로만 인증하고, 없거나 틀리면 401. 브라우저에서 부르지 않으므로 CORS 는 열지 않음
+     */
     @Bean
+    @Order(1)
+    public SecurityFilterChain internalSecurityFilterChain(
+            HttpSecurity http, @Value("${internal.api.token:}") String internalApiToken) throws Exception {
+        http
+                .securityMatcher("/api/internal/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole(InternalApiTokenFilter.ROLE))
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .addFilterBefore(new InternalApiTokenFilter(internalApiToken), UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+
+    /**
+     * 공개 경로 전용 체인 (이벤트/극장 조회 등 익명 트래픽이 대부분)
+     * JWT 필터, 보안 컨텍스트 저장/복원, 요청 캐시, 익명 인증 없이 CORS 처리 후 바로 통과시킴
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain publicSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(PublicRoutes.MATCHER)
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .csrf(AbstractHttpConfigurer::disable)
+                .securityContext(AbstractHttpConfigurer::disable)
+                .sessionManagement(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .headers(headers -> headers.cacheControl(HeadersConfigurer.CacheControlConfig::disable));
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(3)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-                        .requestMatchers("/", "/health").permitAll()
-                        .requestMatchers("/api/events/**").permitAll()
-                        .requestMatchers("/api/theaters/**").permitAll()
-                        .requestMatchers("/api/members/signup", "/api/members/login").permitAll()
-                        .requestMatchers("/api/internal/**").permitAll()  // 내부 API (크롤러용)
-                        .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/v3/api-docs.yaml", "/swagger-ui.html").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")  // 메트릭 등 운영용
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -47,6 +91,18 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * JwtAuthenticationFilter 는 @Component 라 서블릿 필터로도 자동 등록되어 모든 요청에서 한 번 더 돎
+     * 보안 체인 안에서만 실행되도록 서블릿 등록은 끔
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(
+            JwtAuthenticationFilter filter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -69,8 +125,12 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * strength 는 새로 만드는 해시에만 적용됨 (기존 해시는 저장된 cost 로 검증)
+     * 값은 BCryptCostBenchmark 의 p99 를 보고 정함
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(); // 이제 PasswordEncoder를 주입받을 수 있음~함!
+    public PasswordEncoder passwordEncoder(@Value("${security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength); // 이제 PasswordEncoder를 주입받을 수 있음~함!
     }
 }
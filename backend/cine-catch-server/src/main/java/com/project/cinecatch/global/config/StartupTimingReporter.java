@@ -0,0 +1,78 @@
+package com.project.cinecatch.global.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기동 소요 시간 요약 로그
+ * - JVM 시작 -> 컨텍스트 refresh / ready / 첫 요청 처리까지의 시간
+ * - 오래 걸린 빈 생성 상위 N개 (Flyway, EntityManagerFactory, springdoc 등이 여기 잡힘)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupTimingReporter {
+
+    private static final int TOP_BEANS = 10;
+
+    private final ApplicationStartup applicationStartup;
+    private final AtomicBoolean firstRequestLogged = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportStartup(ApplicationReadyEvent event) {
+        log.info("[Startup] JVM 시작 -> ready {}ms (SpringApplication.run {}ms)",
+                sinceJvmStart(), event.getTimeTaken().toMillis());
+
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+        // 요약 후 버퍼는 비움 (기동 기록을 힙에 계속 들고 있지 않도록)
+        List<StartupTimeline.TimelineEvent> events = buffering.drainBufferedTimeline().getEvents();
+
+        events.stream()
+                .filter(timeline -> timeline.getStartupStep().getName().equals("spring.context.refresh"))
+                .findFirst()
+                .ifPresent(refresh -> log.info("[Startup] 컨텍스트 refresh {}ms", refresh.getDuration().toMillis()));
+
+        events.stream()
+                .filter(timeline -> timeline.getStartupStep().getName().equals("spring.beans.instantiate"))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(TOP_BEANS)
+                .forEach(timeline -> log.info("[Startup]   {}ms {} (하위 빈 포함)",
+                        timeline.getDuration().toMillis(), beanName(timeline.getStartupStep())));
+    }
+
+    @EventListener
+    public void onRequestHandled(ServletRequestHandledEvent event) {
+        if (!firstRequestLogged.get() && firstRequestLogged.compareAndSet(false, true)) {
+            log.info("[Startup] JVM 시작 -> 첫 요청 처리 {}ms ({})", sinceJvmStart(), event.getRequestUrl());
+        }
+    }
+
+    private long sinceJvmStart() {
+        return Duration.ofMillis(System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime()).toMillis();
+    }
+
+    private String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (tag.getKey().equals("beanName")) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+}
@@ -0,0 +1,72 @@
+package com.project.cinecatch.global.controller;
+
+import com.project.cinecatch.domain.event.dto.DataVersionResponse;
+import com.project.cinecatch.domain.event.dto.InventoryIngestionResponse;
+import com.project.cinecatch.domain.event.service.InventoryIngestionService;
+import com.project.cinecatch.domain.event.service.InventoryRefreshService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/internal/ingestion")
+@RequiredArgsConstructor
+public class IngestionController {
+
+    private final InventoryIngestionService inventoryIngestionService;
+    private final InventoryRefreshService inventoryRefreshService;
+
+    /**
+     * 크롤링 재고 스냅샷 적재 (크롤러에서 호출)
+     * 본문은 이벤트 JSON 배열 또는 한 줄에 이벤트 하나인 NDJSON
+     * 업로드가 느려도 트랜잭션(커넥션)을 잡고 기다리지 않도록, 본문을 임시 파일로 다 받은 뒤에 적재를 시작함
+     */
+    @PostMapping(value = "/inventory", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<InventoryIngestionResponse> ingestInventory(HttpServletRequest request) throws IOException {
+        Path spool = Files.createTempFile("inventory-snapshot-", ".json");
+        try {
+            long bytes = spool(request, spool);
+            log.info("재고 스냅샷 적재 요청: {}바이트", bytes);
+            // 파일도 파서가 흘려 읽으므로 크기와 무관하게 배치 하나 분량만 메모리에 올라감
+            try (InputStream snapshot = Files.newInputStream(spool)) {
+                return ResponseEntity.ok(inventoryIngestionService.ingest(snapshot));
+            }
+        } finally {
+            Files.deleteIfExists(spool);
+        }
+    }
+
+    private long spool(HttpServletRequest request, Path spool) {
+        try (InputStream body = request.getInputStream()) {
+            return Files.copy(body, spool, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "스냅샷 본문을 받지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 적재 완료 콜백 (크롤러가 events/event_location 을 직접 쓴 뒤 호출)
+     * 변경 로그에서 바뀐 이벤트만 골라 읽기 모델을 갱신하고 반영된 데이터 버전을 돌려줌
+     * (버전이 오르면 구체화 뷰 갱신은 ActiveEventViewRefresher 가 뒤에서 이어 돎)
+     */
+    @PostMapping("/complete")
+    public ResponseEntity<DataVersionResponse> complete() {
+        DataVersionResponse response = inventoryRefreshService.refresh();
+        log.info("적재 완료 콜백: 버전 {}, 이벤트 {}건 갱신", response.getVersion(), response.getChangedEvents());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,11 +1,15 @@
 package com.project.cinecatch.global.controller;
 
+import com.project.cinecatch.global.event.EventStatusChangedEvent;
 import com.project.cinecatch.global.service.EventNotificationService;
+import com.project.cinecatch.global.sse.EventStreamHub;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -15,6 +19,7 @@ import java.util.Map;
 public class NotificationController {
 
     private final EventNotificationService eventNotificationService;
+    private final EventStreamHub eventStreamHub;
 
     /**
      * 새 이벤트 알림 발송 (크롤러에서 호출)
@@ -24,9 +29,11 @@ public class NotificationController {
             @RequestBody EventUpdateRequest request
     ) {
         log.info("이벤트 업데이트 알림 요청: 극장={}, 이벤트={}", request.theaterName(), request.eventTitle());
+        publishStatusChange(request.eventId(), request.theaterId(), request.newStatus());
 
         int sentCount = eventNotificationService.notifySubscribers(
                 request.theaterId(),
+                request.eventId(),
                 request.theaterName(),
                 request.eventTitle()
         );
@@ -46,9 +53,11 @@ public class NotificationController {
     ) {
         log.info("상태 변경 알림 요청: 극장={}, 이벤트={}, 새상태={}",
                 request.theaterName(), request.eventTitle(), request.newStatus());
+        publishStatusChange(request.eventId(), request.theaterId(), request.newStatus());
 
         int sentCount = eventNotificationService.notifyStatusChange(
                 request.theaterId(),
+                request.eventId(),
                 request.theaterName(),
                 request.eventTitle(),
                 request.newStatus()
@@ -82,14 +91,27 @@ public class NotificationController {
         ));
     }
 
+    /**
+     * 모든 노드의 실시간 스트림(SSE) 구독자에게 먼저 전달함 (FCM 발송 지연과 무관하게)
+     */
+    private void publishStatusChange(String eventId, String theaterId, String newStatus) {
+        if (eventId == null || newStatus == null) {
+            return;
+        }
+        eventStreamHub.publish(List.of(new EventStatusChangedEvent(eventId, theaterId, newStatus, LocalDateTime.now())));
+    }
+
     record EventUpdateRequest(
             String theaterId,
+            String eventId,
             String theaterName,
-            String eventTitle
+            String eventTitle,
+            String newStatus
     ) {}
 
     record StatusChangeRequest(
             String theaterId,
+            String eventId,
             String theaterName,
             String eventTitle,
             String newStatus
@@ -1,13 +1,20 @@
 package com.project.cinecatch.global.controller;
 
 import com.project.cinecatch.global.dto.ApiInfoResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@RequiredArgsConstructor
 public class RootController {
 
+    private final ApplicationAvailability applicationAvailability;
+
     @GetMapping("/")
     public ResponseEntity<ApiInfoResponse> getApiInfo() {
         ApiInfoResponse response = ApiInfoResponse.builder()
@@ -20,8 +27,12 @@ public class RootController {
         return ResponseEntity.ok(response);
     }
 
+    // 워밍업(WarmupRunner)이 끝나 readiness 가 ACCEPTING_TRAFFIC 이 되기 전까지는 503
     @GetMapping("/health")
     public ResponseEntity<String> healthCheck() {
+        if (applicationAvailability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("WARMING_UP");
+        }
         return ResponseEntity.ok("OK");
     }
 }
\ No newline at end of file
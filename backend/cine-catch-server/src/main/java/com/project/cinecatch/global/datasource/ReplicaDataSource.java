@@ -0,0 +1,182 @@
+package com.project.cinecatch.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션용 복제본 풀 묶음
+ * - 정상 복제본끼리 라운드 로빈으로 커넥션을 나눠 줌
+ * - 전용 스레드가 주기적으로 복제본마다 복제 지연을 확인해, 접속 실패나 max-lag 초과면 제외하고 회복되면 다시 넣음
+ * - 쓸 수 있는 복제본이 없으면 primary 로 대체함 (읽기 요청이 실패하지 않도록)
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    /**
+     * 복제 지연(초). WAL 을 모두 재생했으면 primary 가 한가해도 0 으로 봄 (마지막 재생 시각만 보면 지연이 계속 늘어남)
+     * 복구 모드가 아니면(승격된 경우 등) 0
+     * WAL 수신이 streaming 이 아니면 받은 만큼만 재생하고 멈춰 있어도 0 으로 보이므로 NULL(알 수 없음)을 돌려줌
+     * (pg_stat_wal_receiver.status 는 pg_read_all_stats 권한이 있어야 보이므로, 권한이 없어도 알 수 없음으로 제외됨)
+     */
+    static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+            END
+            """;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaDataSource(DataSource primary, List<Replica> replicas, double maxLagSeconds) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    /**
+     * 복제본 하나. 첫 헬스 체크를 통과하기 전까지는 사용하지 않음
+     */
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile double lagSeconds = -1;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        public double lagSeconds() {
+            return lagSeconds;
+        }
+    }
+
+    public void start(long intervalMillis) {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("복제본 {} 풀 종료 실패: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return opener.open(replica.dataSource);
+            } catch (SQLException e) {
+                // 다음 헬스 체크까지 기다리지 않고 바로 제외함
+                markDown(replica, "커넥션 획득 실패: " + e.getMessage());
+            }
+        }
+        return opener.open(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    void checkHealth() {
+        for (Replica replica : replicas) {
+            double lag;
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                lag = resultSet.getDouble(1);
+                if (resultSet.wasNull()) {
+                    replica.lagSeconds = -1;
+                    markDown(replica, "WAL 수신이 streaming 상태가 아님 (지연 알 수 없음)");
+                    continue;
+                }
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, "헬스 체크 실패: " + e.getMessage());
+                continue;
+            }
+
+            replica.lagSeconds = lag;
+            if (lag > maxLagSeconds) {
+                markDown(replica, String.format("복제 지연 %.1f초 > %.1f초", lag, maxLagSeconds));
+            } else if (!replica.healthy) {
+                replica.healthy = true;
+                log.info("복제본 {} 읽기 라우팅 대상에 포함 (지연 {}초)", replica.name, lag);
+            }
+        }
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (!replica.healthy) {
+            log.debug("복제본 {} 제외 상태 유지: {}", replica.name, reason);
+            return;
+        }
+        replica.healthy = false;
+        log.warn("복제본 {} 읽기 라우팅에서 제외: {}", replica.name, reason);
+        if (replicas.stream().noneMatch(Replica::isHealthy)) {
+            log.warn("정상 복제본이 없어 읽기 전용 트랜잭션도 primary 로 보냄");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.cinecatch.global.event;
+
+import java.util.Map;
+
+/**
+ * 배치 단계(파이썬 프로세스 하나) 종료. 출력에서 파싱한 요약을 담음
+ * inventoryChanges 는 "총 N건의 재고 변동" 출력이 없는 단계면 null, phaseDurationsMs 는 출력 순서대로
+ */
+public record BatchStepCompletedEvent(
+        String jobName,
+        Long runId,
+        String stepName,
+        String status,
+        Integer exitCode,
+        long durationMs,
+        Integer inventoryChanges,
+        int errorLines,
+        Map<String, Long> phaseDurationsMs
+) {
+}
@@ -0,0 +1,14 @@
+package com.project.cinecatch.global.event;
+
+import com.project.cinecatch.global.cache.InvalidationType;
+
+/**
+ * 무효화 버스로 받은 메시지 (자기 노드가 보낸 것도 옴). 처리는 멱등이어야 함
+ * catchUp 이면 재접속 후 놓친 메시지를 다시 읽은 것
+ */
+public record CacheInvalidatedEvent(InvalidationType type, String entityId, boolean catchUp) {
+
+    public boolean isAll() {
+        return "*".equals(entityId);
+    }
+}
@@ -0,0 +1,6 @@
+package com.project.cinecatch.global.event;
+
+/**
+ * 이벤트 종료(endAt 도달) 시 발행됨. 인메모리 조회 캐시는 이 이벤트를 받아 해당 이벤트를 제거해야 함
+ */
+public record EventExpiredEvent(String eventId) {}
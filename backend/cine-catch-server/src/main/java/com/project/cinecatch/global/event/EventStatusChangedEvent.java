@@ -0,0 +1,36 @@
+package com.project.cinecatch.global.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 극장별 이벤트 재고 상태(EventLocation.status) 변경. SSE 스트림 허브가 구독자에게 전달함
+ * 노드 간에는 무효화 버스(EVENT_STATUS)로 "eventId|theaterId|변경 시각|상태" 로 보냄 (없는 id 는 빈 문자열)
+ */
+public record EventStatusChangedEvent(
+        String eventId,
+        String theaterId,
+        String status,
+        LocalDateTime changedAt
+) {
+
+    public String toPayload() {
+        return nullToEmpty(eventId) + "|" + nullToEmpty(theaterId) + "|" + changedAt + "|" + status;
+    }
+
+    public static EventStatusChangedEvent fromPayload(String payload) {
+        String[] parts = payload.split("\\|", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("잘못된 재고 상태 델타: " + payload);
+        }
+        return new EventStatusChangedEvent(emptyToNull(parts[0]), emptyToNull(parts[1]), parts[3],
+                LocalDateTime.parse(parts[2]));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
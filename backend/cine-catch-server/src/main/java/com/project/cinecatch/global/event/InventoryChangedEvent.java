@@ -0,0 +1,32 @@
+package com.project.cinecatch.global.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재고 스냅샷 적재로 바뀐 내용. 적재 트랜잭션이 커밋된 뒤 알림/SSE 팬아웃으로 전달됨
+ * changedEvents 는 새로 생기거나 제목/기간이 바뀐 이벤트 수
+ */
+public record InventoryChangedEvent(
+        List<Change> changes,
+        int changedEvents
+) {
+
+    /**
+     * 극장별 재고 상태 변경 하나. oldStatus 가 null 이면 새로 등록된 재고
+     */
+    public record Change(
+            String eventId,
+            String eventTitle,
+            String theaterId,
+            String theaterName,
+            String oldStatus,
+            String newStatus,
+            LocalDateTime changedAt
+    ) {
+
+        public boolean isNew() {
+            return oldStatus == null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.cinecatch.global.event;
+
+import java.util.Set;
+
+/**
+ * 적재로 데이터 버전(event_change_log 워터마크)이 올라가 읽기 모델을 갱신한 뒤 모든 노드에서 발행됨
+ * ActiveEventViewRefresher 가 받아, 구체화 뷰가 이 버전보다 오래됐으면 한 노드에서 갱신함
+ * 이벤트/극장 단위로 캐시를 두는 쪽은 여기 담긴 대상만 무효화하면 됨
+ */
+public record InventoryVersionChangedEvent(
+        long version,
+        Set<String> eventIds,
+        Set<String> theaterIds,
+        Set<String> expiredEventIds
+) {
+}
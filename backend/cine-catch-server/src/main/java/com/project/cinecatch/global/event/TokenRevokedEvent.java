@@ -0,0 +1,12 @@
+package com.project.cinecatch.global.event;
+
+import java.time.Instant;
+
+/**
+ * 토큰을 revoked_tokens 에 새로 넣음. 넣은 트랜잭션이 커밋된 뒤 다른 노드에 무효화 버스로 알림
+ */
+public record TokenRevokedEvent(
+        String tokenId,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,71 @@
+package com.project.cinecatch.global.scheduler;
+
+import com.project.cinecatch.global.util.HashedTimingWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타이밍 휠 기반 지연 작업 스케줄러
+ * - 작업마다 타이머 스레드를 두지 않고, 전용 스레드 하나가 tick 마다 휠을 돌려 만료된 작업만 실행함
+ * - 기본 @Scheduled 스레드는 배치(PythonBatchRunner)가 오래 점유하므로 별도 스레드를 사용함
+ */
+@Slf4j
+@Component
+public class TimingWheelScheduler {
+
+    @Value("${scheduler.timing-wheel.tick-ms:60000}")
+    private long tickMillis;
+
+    @Value("${scheduler.timing-wheel.size:1024}")
+    private int wheelSize;
+
+    private HashedTimingWheel<Runnable> wheel;
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    void start() {
+        wheel = new HashedTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "timing-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * 지정 시각에 task 실행을 예약함 (O(1)). 반환된 Timeout 으로 취소 가능
+     */
+    public HashedTimingWheel.Timeout<Runnable> schedule(Instant at, Runnable task) {
+        return wheel.schedule(task, at.toEpochMilli());
+    }
+
+    public int pendingCount() {
+        return wheel.size();
+    }
+
+    void tick() {
+        List<Runnable> expired = wheel.advance(System.currentTimeMillis());
+        for (Runnable task : expired) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("타이밍 휠 작업 실행 중 에러 발생", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.cinecatch.global.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * 내부 API(/api/internal/**, 크롤러 전용) 공유 비밀 인증
+ * - 크롤러가 X-Internal-Token 헤더로 internal.api.token 값을 보내면 ROLE_INTERNAL 로 인증함
+ * - 설정된 토큰이 없으면 어떤 요청도 인증하지 않음 (내부 API 전체가 401)
+ */
+public class InternalApiTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Internal-Token";
+    public static final String ROLE = "INTERNAL";
+
+    private final byte[] expectedToken;
+
+    public InternalApiTokenFilter(String expectedToken) {
+        this.expectedToken = expectedToken != null && !expectedToken.isBlank()
+                ? expectedToken.getBytes(StandardCharsets.UTF_8)
+                : null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String token = request.getHeader(HEADER);
+        // 길이가 같을 때 비교 시간이 내용과 무관하도록 MessageDigest.isEqual 로 비교
+        if (expectedToken != null && token != null
+                && MessageDigest.isEqual(expectedToken, token.getBytes(StandardCharsets.UTF_8))) {
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    "crawler", null, List.of(new SimpleGrantedAuthority("ROLE_" + ROLE)));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -20,6 +20,15 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final LegacyMemberIdResolver legacyMemberIdResolver;
+
+    /**
+     * 공개 경로는 별도 체인에서 처리되지만, 필터가 다른 경로로 등록되더라도 토큰을 보지 않도록 함
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicRoutes.matches(request);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -28,15 +37,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            String email = jwtTokenProvider.getEmailFromToken(token);
-            String role = jwtTokenProvider.getRoleFromToken(token);
-
+        JwtPrincipal principal = StringUtils.hasText(token) ? jwtTokenProvider.resolvePrincipal(token) : null;
+        if (principal != null && principal.memberId() == null) {
+            // memberId 클레임 도입 전에 발급된 토큰 (만료되면 더 이상 들어오지 않음)
+            principal = legacyMemberIdResolver.resolve(principal);
+        }
+        if (principal != null) {
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
-                            email,
+                            principal,
                             null,
-                            List.of(new SimpleGrantedAuthority("ROLE_" + role))
+                            List.of(new SimpleGrantedAuthority("ROLE_" + principal.role()))
                     );
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
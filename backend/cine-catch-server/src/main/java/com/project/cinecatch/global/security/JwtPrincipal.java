@@ -0,0 +1,28 @@
+package com.project.cinecatch.global.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 서명 검증이 끝난 토큰에서 꺼낸 인증 정보 (불변)
+ * 컨트롤러에서 @AuthenticationPrincipal JwtPrincipal 로 받음
+ *
+ * @param memberId memberId 클레임이 없는 이전 토큰은 필터에서 이메일로 채움
+ * @param tokenId  jti 클레임 (폐기 확인용, jti 도입 전 토큰은 null)
+ */
+public record JwtPrincipal(
+        UUID memberId,
+        String email,
+        String role,
+        String tokenId,
+        Instant expiresAt
+) {
+
+    public JwtPrincipal withMemberId(UUID memberId) {
+        return new JwtPrincipal(memberId, email, role, tokenId, expiresAt);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
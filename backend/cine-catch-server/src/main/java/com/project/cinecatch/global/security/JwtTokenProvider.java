@@ -4,79 +4,128 @@ import com.project.cinecatch.domain.member.dto.TokenResponse;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final String TYPE_CLAIM = "typ";
+    private static final String TYPE_REFRESH = "refresh";
+
+    private final RevokedTokenStore revokedTokenStore;
+
     // 1. 보안을 위해 아주 긴 비밀키가 필요함~함 (application.properties에 설정 추천)
     @Value("${jwt.secret:vmfhaltmskdlstkfkdgodyroqkfwkdbalroqkfwkdbal}")
     private String secretKey;
 
-    private final long tokenValidityInMilliseconds = 1000L * 60 * 60 * 24; // 우선 24시간으로 설정함~함
+    // 액세스 토큰은 짧게, 대신 리프레시 토큰으로 재발급 (폐기 목록이 오래 쌓이지 않도록)
+    @Value("${jwt.access-token-validity-ms:1800000}")
+    private long accessTokenValidityInMilliseconds = 1000L * 60 * 30;
+
+    @Value("${jwt.refresh-token-validity-ms:1209600000}")
+    private long refreshTokenValidityInMilliseconds = 1000L * 60 * 60 * 24 * 14;
+
+    // 검증된 토큰 캐시 크기 (0 이면 캐시 안 함)
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+
     private Key key;
+    private JwtParser parser;
+    private VerifiedTokenCache verifiedTokenCache;
 
     @PostConstruct
     protected void init() {
         // 비밀키를 Base64로 인코딩해서 객체화함~함
         byte[] keyBytes = Base64.getEncoder().encode(secretKey.getBytes());
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        // 파서는 스레드 안전하므로 한 번만 만들어 재사용함
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheMaxSize);
     }
 
-    // 2. 토큰 생성 (아까 MemberService에서 호출한 메서드임~함!)
-    public TokenResponse createToken(String email, String role) {
-        Claims claims = Jwts.claims().setSubject(email);
-        claims.put("role", role); // Enum에서 변환된 "USER" 문자열이 여기 저장됨~함
-
+    // 2. 토큰 생성 (아까 MemberService에서 호출한 메서드임~함!) - 액세스 + 리프레시 한 쌍
+    public TokenResponse createToken(UUID memberId, String email, String role) {
         Date now = new Date();
-        Date validity = new Date(now.getTime() + tokenValidityInMilliseconds);
-
-        String accessToken = Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+        Date accessValidity = new Date(now.getTime() + accessTokenValidityInMilliseconds);
+        Date refreshValidity = new Date(now.getTime() + refreshTokenValidityInMilliseconds);
 
         return TokenResponse.builder()
                 .grantType("Bearer")
-                .accessToken(accessToken)
-                .accessTokenExpiresIn(validity.getTime())
+                .accessToken(buildToken(memberId, email, role, null, now, accessValidity))
+                .accessTokenExpiresIn(accessValidity.getTime())
+                .refreshToken(buildToken(memberId, email, role, TYPE_REFRESH, now, refreshValidity))
+                .refreshTokenExpiresIn(refreshValidity.getTime())
                 .build();
     }
 
-    // 3. 토큰 유효성 검증
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+    // 3. 토큰 검증 + 정보 추출을 한 번에 (서명 검증은 토큰당 한 번, 이후엔 캐시. 폐기 여부는 캐시와 무관하게 매번 확인)
+    public JwtPrincipal resolvePrincipal(String token) {
+        Instant now = Instant.now();
+        JwtPrincipal cached = verifiedTokenCache.get(token, now);
+        if (cached != null) {
+            return revokedTokenStore.isRevoked(cached.tokenId()) ? null : cached;
         }
+
+        JwtPrincipal principal = parse(token, false);
+        if (principal == null || revokedTokenStore.isRevoked(principal.tokenId())) {
+            return null;
+        }
+        verifiedTokenCache.put(token, principal, now);
+        return principal;
     }
 
-    // 4. 토큰에서 이메일(subject) 추출
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+    // 4. 리프레시 토큰 검증 (재발급/로그아웃에서만 쓰므로 캐시하지 않음)
+    public JwtPrincipal resolveRefreshToken(String token) {
+        JwtPrincipal principal = parse(token, true);
+        if (principal == null || principal.memberId() == null || revokedTokenStore.isRevoked(principal.tokenId())) {
+            return null;
+        }
+        return principal;
     }
 
-    // 5. 토큰에서 역할(role) 추출
-    public String getRoleFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("role", String.class);
+    private String buildToken(UUID memberId, String email, String role, String type, Date issuedAt, Date validity) {
+        Claims claims = Jwts.claims().setSubject(email);
+        claims.put("memberId", memberId.toString()); // 요청마다 이메일로 회원을 다시 찾지 않도록 함
+        claims.put("role", role); // Enum에서 변환된 "USER" 문자열이 여기 저장됨~함
+        if (type != null) {
+            claims.put(TYPE_CLAIM, type);
+        }
+
+        return Jwts.builder()
+                .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(issuedAt)
+                .setExpiration(validity)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private JwtPrincipal parse(String token, boolean refresh) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            // 리프레시 토큰으로 API 를 호출하거나, 액세스 토큰으로 재발급받지 못하게 함
+            if (TYPE_REFRESH.equals(claims.get(TYPE_CLAIM, String.class)) != refresh) {
+                return null;
+            }
+            String memberId = claims.get("memberId", String.class);
+            return new JwtPrincipal(
+                    memberId != null ? UUID.fromString(memberId) : null,
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    claims.getId(),
+                    claims.getExpiration().toInstant()
+            );
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
     }
-}
\ No newline at end of file
+}
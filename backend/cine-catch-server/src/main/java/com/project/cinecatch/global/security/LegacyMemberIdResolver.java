@@ -0,0 +1,71 @@
+package com.project.cinecatch.global.security;
+
+import com.project.cinecatch.domain.member.entity.Member;
+import com.project.cinecatch.domain.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * memberId 클레임이 없는 이전 토큰용 이메일 -> 회원 ID 조회
+ * 한 번 찾은 결과를 ttl-seconds 동안 캐시해 같은 토큰의 재요청은 DB 를 타지 않음
+ * - 탈퇴 후 같은 이메일로 다시 가입하면 회원 ID 가 바뀌므로, 가입 시 evict 하고 다른 노드는 TTL 로 따라잡음
+ * - 최대 max-size 개까지만 보관하고, 가득 차면 만료된 항목을 정리한 뒤에도 자리가 없으면 캐시하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class LegacyMemberIdResolver {
+
+    private final MemberRepository memberRepository;
+
+    @Value("${jwt.legacy-member-cache.max-size:10000}")
+    private int maxSize = 10000;
+
+    @Value("${jwt.legacy-member-cache.ttl-seconds:600}")
+    private long ttlSeconds = 600;
+
+    private final Map<String, CachedMemberId> memberIds = new ConcurrentHashMap<>();
+
+    /**
+     * memberId 를 채운 principal 반환 (탈퇴 등으로 회원이 없으면 null)
+     */
+    public JwtPrincipal resolve(JwtPrincipal principal) {
+        long now = System.currentTimeMillis();
+        CachedMemberId cached = memberIds.get(principal.email());
+        if (cached != null && cached.expiresAtMillis() > now) {
+            return principal.withMemberId(cached.memberId());
+        }
+
+        UUID memberId = memberRepository.findByEmail(principal.email())
+                .map(Member::getId)
+                .orElse(null);
+        if (memberId == null) {
+            memberIds.remove(principal.email());
+            return null;
+        }
+        if (cached == null && memberIds.size() >= maxSize) {
+            memberIds.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+        }
+        if (cached != null || memberIds.size() < maxSize) {
+            memberIds.put(principal.email(), new CachedMemberId(memberId, now + ttlSeconds * 1000));
+        }
+        return principal.withMemberId(memberId);
+    }
+
+    /**
+     * 이메일의 회원 ID 가 바뀌었을 수 있을 때 (가입 등) 캐시에서 제거
+     */
+    public void evict(String email) {
+        memberIds.remove(email);
+    }
+
+    public int size() {
+        return memberIds.size();
+    }
+
+    private record CachedMemberId(UUID memberId, long expiresAtMillis) {}
+}
@@ -0,0 +1,81 @@
+package com.project.cinecatch.global.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 IP별 토큰 버킷
+ * - IP마다 capacity 개까지 연속 시도 가능하고, 분당 refill-per-minute 개씩 다시 채워짐
+ * - 추적 IP 수가 한도에 닿으면 가득 찬(오래 쉰) 버킷부터 비우고, 그래도 자리가 없으면 제한 없이 통과시킴
+ */
+@Component
+public class LoginRateLimiter {
+
+    @Value("${security.login-rate-limit.capacity:10}")
+    private int capacity;
+
+    @Value("${security.login-rate-limit.refill-per-minute:10}")
+    private int refillPerMinute;
+
+    @Value("${security.login-rate-limit.max-tracked-ips:100000}")
+    private int maxTrackedIps;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public boolean tryAcquire(String clientIp) {
+        return tryAcquire(clientIp, System.nanoTime());
+    }
+
+    boolean tryAcquire(String clientIp, long nowNanos) {
+        Bucket bucket = buckets.get(clientIp);
+        if (bucket == null) {
+            if (buckets.size() >= maxTrackedIps) {
+                buckets.values().removeIf(idle -> idle.isFull(nowNanos));
+                if (buckets.size() >= maxTrackedIps) {
+                    return true;
+                }
+            }
+            bucket = buckets.computeIfAbsent(clientIp, ip -> new Bucket(capacity, nowNanos));
+        }
+        return bucket.tryConsume(nowNanos);
+    }
+
+    int trackedCount() {
+        return buckets.size();
+    }
+
+    private class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        synchronized boolean tryConsume(long now) {
+            refill(now);
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            double refilled = (now - refilledAt) * refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            tokens = Math.min(capacity, tokens + refilled);
+            refilledAt = now;
+        }
+    }
+}
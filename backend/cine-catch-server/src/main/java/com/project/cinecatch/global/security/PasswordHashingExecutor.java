@@ -0,0 +1,107 @@
+package com.project.cinecatch.global.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 실행기
+ * - 해시는 요청 스레드가 아니라 고정 크기 스레드 풀에서 돌아, 로그인 폭주가 Tomcat 스레드를 전부 점유하지 못함
+ * - 대기열이 가득 차면 바로 503 으로 거절함 (대기열에서 오래 기다리는 요청은 어차피 클라이언트 타임아웃에 걸림)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHashingExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+
+    /** 0 이하면 CPU 코어 수 */
+    @Value("${security.password-hashing.threads:0}")
+    private int threads;
+
+    @Value("${security.password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    /** matchesNothing 용. 처음 쓸 때 해시 스레드에서 한 번 만듦 (같은 strength 라 비교 시간이 실제 해시와 같음) */
+    private volatile String dummyHash;
+
+    @PostConstruct
+    void start() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("비밀번호 해시 실행기 시작: 스레드 {}개, 대기열 {}", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 없는 계정 로그인용. 실제 해시와 비교하는 것과 같은 시간을 쓰고 항상 false
+     * (없는 이메일이 바로 실패하면 응답 시간으로 가입 여부가 드러남)
+     */
+    public CompletableFuture<Boolean> matchesNothing(String rawPassword) {
+        return submit(() -> {
+            passwordEncoder.matches(rawPassword, dummyHash());
+            return false;
+        });
+    }
+
+    private String dummyHash() {
+        String hash = dummyHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(UUID.randomUUID().toString());
+            dummyHash = hash;
+        }
+        return hash;
+    }
+
+    public int queuedCount() {
+        return executor.getQueue().size();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해시 대기열 포화로 요청 거절 (대기 {}건)", executor.getQueue().size());
+            return CompletableFuture.failedFuture(
+                    new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해주세요."));
+        }
+    }
+}
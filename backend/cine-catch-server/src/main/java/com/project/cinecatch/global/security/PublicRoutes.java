@@ -0,0 +1,39 @@
+package com.project.cinecatch.global.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * 인증이 필요 없는 경로 목록
+ * SecurityConfig 의 공개 체인과 JwtAuthenticationFilter 가 같은 목록을 보도록 한 곳에 둠
+ */
+public final class PublicRoutes {
+
+    private static final PathPatternRequestMatcher.Builder PATH = PathPatternRequestMatcher.withDefaults();
+
+    public static final RequestMatcher MATCHER = new OrRequestMatcher(
+            PATH.matcher(HttpMethod.OPTIONS, "/**"),
+            PATH.matcher("/"),
+            PATH.matcher("/health"),
+            PATH.matcher("/actuator/health/**"),
+            PATH.matcher("/api/events/**"),
+            PATH.matcher("/api/theaters/**"),
+            PATH.matcher("/api/members/signup"),
+            PATH.matcher("/api/members/login"),
+            PATH.matcher("/api/members/refresh"),
+            PATH.matcher("/swagger-ui/**"),
+            PATH.matcher("/swagger-ui.html"),
+            PATH.matcher("/v3/api-docs/**"),
+            PATH.matcher("/v3/api-docs.yaml")
+    );
+
+    private PublicRoutes() {
+    }
+
+    public static boolean matches(HttpServletRequest request) {
+        return MATCHER.matches(request);
+    }
+}
@@ -0,0 +1,96 @@
+package com.project.cinecatch.global.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 동시 처리 수 제한
+ * - 가상 스레드는 받아들인 요청마다 스레드를 만들어 모두 동시에 들고 있으므로, 커넥션 풀보다 많은 요청이
+ *   커넥션을 기다리다 connection-timeout 으로 실패하고 힙도 가득 참 (loadtest/README.md)
+ * - max-in-flight 개까지만 처리하고, 넘치면 queue-capacity 개까지 queue-timeout-ms 동안 기다리며, 그래도 자리가 없으면 바로 503
+ * - SSE 스트림(대기 연결을 오래 들고 있음)과 헬스 체크(과부하 중에도 응답해야 함)는 제외함
+ * - 보안 체인보다 먼저 돌아 거절할 요청에는 토큰 검증도 하지 않음
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int queueCapacity;
+    private final long queueTimeoutMs;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final MeterRegistry meterRegistry;
+
+    public RequestConcurrencyLimitFilter(
+            @Value("${request.concurrency-limit.max-in-flight:${spring.datasource.hikari.maximum-pool-size:10}}") int maxInFlight,
+            @Value("${request.concurrency-limit.queue-capacity:1000}") int queueCapacity,
+            @Value("${request.concurrency-limit.queue-timeout-ms:5000}") long queueTimeoutMs,
+            MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxInFlight, true);
+        this.queueCapacity = queueCapacity;
+        this.queueTimeoutMs = queueTimeoutMs;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path.equals("/api/events/stream")
+                || path.equals("/health")
+                || path.startsWith("/actuator/health");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!acquire()) {
+            // sendError 는 /error 로 다시 디스패치되어 보안 체인을 타므로 상태만 씀
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    boolean acquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            meterRegistry.counter("http.server.requests.rejected", "reason", "queue-full").increment();
+            return false;
+        }
+        try {
+            if (permits.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            meterRegistry.counter("http.server.requests.rejected", "reason", "timeout").increment();
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.cinecatch.global.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰(jti) 메모리 목록 - 필터에서 DB 조회 없이 확인
+ * - jti 원문 대신 64비트 해시(FNV-1a)와 만료 시각(epoch second)만 보관 (항목당 long 두 개)
+ * - 해시 충돌 시 정상 토큰이 폐기로 보일 확률은 항목 수 / 2^64 수준이라 무시함
+ * - 만료된 항목은 sweep-interval 마다 폐기 시점에 함께 정리 (만료된 토큰은 서명 검증에서 이미 걸러짐)
+ */
+@Component
+public class RevokedTokenStore {
+
+    @Value("${jwt.revocation.sweep-interval-seconds:300}")
+    private long sweepIntervalSeconds;
+
+    private final Map<Long, Long> revoked = new ConcurrentHashMap<>();
+    private volatile long nextSweepAt;
+
+    /**
+     * 새로 폐기되면 true (이미 폐기된 토큰이면 false)
+     */
+    public boolean revoke(String tokenId, Instant expiresAt) {
+        long now = Instant.now().getEpochSecond();
+        sweepIfDue(now);
+        if (expiresAt.getEpochSecond() <= now) {
+            return false;
+        }
+        return revoked.putIfAbsent(hash(tokenId), expiresAt.getEpochSecond()) == null;
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revoked.containsKey(hash(tokenId));
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    private void sweepIfDue(long now) {
+        if (now < nextSweepAt) {
+            return;
+        }
+        nextSweepAt = now + sweepIntervalSeconds;
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    static long hash(String tokenId) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < tokenId.length(); i++) {
+            hash ^= tokenId.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.cinecatch.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증을 통과한 토큰 캐시
+ * - 키는 토큰 원문이 아니라 SHA-256 해시 (메모리 덤프에 토큰이 남지 않도록)
+ * - 토큰 만료 시각이 지나면 조회 시 제거되고, 가득 차면 만료 항목을 먼저 비운 뒤에도 자리가 없을 때는 캐시하지 않음
+ */
+class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, JwtPrincipal> entries = new ConcurrentHashMap<>();
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    JwtPrincipal get(String token, Instant now) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        String key = hash(token);
+        JwtPrincipal principal = entries.get(key);
+        if (principal != null && principal.isExpired(now)) {
+            entries.remove(key, principal);
+            return null;
+        }
+        return principal;
+    }
+
+    void put(String token, JwtPrincipal principal, Instant now) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(cached -> cached.isExpired(now));
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(hash(token), principal);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
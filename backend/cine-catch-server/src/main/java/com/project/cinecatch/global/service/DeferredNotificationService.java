@@ -0,0 +1,135 @@
+package com.project.cinecatch.global.service;
+
+import com.project.cinecatch.domain.member.entity.Member;
+import com.project.cinecatch.domain.member.repository.MemberRepository;
+import com.project.cinecatch.domain.notification.repository.DeferredPushRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 방해 금지 시간대 알림 지연 발송
+ * - 깨어나는 시각을 bucket-minutes 단위로 올림한 발송 시각과 함께 deferred_push 에 보관함 (재시작/배포에도 유지)
+ * - drain-ms 마다 발송 시각이 지난 행을 꺼내, 같은 메시지끼리 토큰을 묶어 메시지당 멀티캐스트(500개 단위)로 일괄 발송함
+ * - 꺼낼 때는 행을 지우지 않고 release_at 만 claim-lease-seconds 뒤로 미뤄 두고 (짧은 UPDATE 한 번, 다른 노드는 그 행을 건너뜀)
+ *   트랜잭션 밖에서 FCM 으로 보낸 뒤 보낸 행만 지움
+ * - 일시적인 오류로 못 보낸 행과 발송 도중 노드가 죽어 남은 행은 lease 가 지나면 다시 꺼내 발송함 (최소 한 번)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeferredNotificationService {
+
+    private final PushNotificationService pushNotificationService;
+    private final MemberRepository memberRepository;
+    private final DeferredPushRepository deferredPushRepository;
+
+    @Value("${notification.quiet-hours.zone:Asia/Seoul}")
+    private ZoneId zoneId;
+
+    @Value("${notification.quiet-hours.bucket-minutes:10}")
+    private int bucketMinutes;
+
+    @Value("${notification.quiet-hours.drain-batch-size:5000}")
+    private int drainBatchSize;
+
+    @Value("${notification.quiet-hours.claim-lease-seconds:300}")
+    private long claimLeaseSeconds;
+
+    /**
+     * 회원이 방해 금지 시간대면 알림을 보류하고 true 반환 (즉시 발송 대상이면 false)
+     */
+    public boolean deferIfQuiet(Member member, PushMessageSpec message) {
+        String fcmToken = member.getFcmToken();
+        if (fcmToken == null || fcmToken.isBlank()) {
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now(zoneId);
+        if (!member.isInQuietHours(now.toLocalTime())) {
+            return false;
+        }
+
+        deferredPushRepository.save(releaseAt(wakeUpAt(member.getQuietHoursEnd(), now)), fcmToken, message);
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.quiet-hours.drain-ms:60000}")
+    public void flushDue() {
+        flush(Instant.now());
+    }
+
+    /**
+     * 발송 시각이 now 이전인 보류 알림을 최대 drain-batch-size 건 발송함
+     * 남은 행은 다음 주기에, 보내지 못한 행은 lease 가 지난 뒤 이어서 발송함
+     */
+    void flush(Instant now) {
+        List<DeferredPushRepository.DeferredPush> due = deferredPushRepository.claimReleasedBefore(
+                now, drainBatchSize, now.plusSeconds(claimLeaseSeconds));
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Map<PushMessageSpec, List<DeferredPushRepository.DeferredPush>> bucket = new LinkedHashMap<>();
+        for (DeferredPushRepository.DeferredPush push : due) {
+            bucket.computeIfAbsent(push.message(), spec -> new ArrayList<>()).add(push);
+        }
+
+        int recipients = 0;
+        int successCount = 0;
+        List<String> invalidTokens = new ArrayList<>();
+        List<Long> doneIds = new ArrayList<>();
+        for (Map.Entry<PushMessageSpec, List<DeferredPushRepository.DeferredPush>> entry : bucket.entrySet()) {
+            List<String> tokens = entry.getValue().stream()
+                    .map(DeferredPushRepository.DeferredPush::fcmToken)
+                    .distinct()
+                    .toList();
+            recipients += tokens.size();
+            // 보류 중 만료된 메시지(이벤트 종료 등)는 sendToUsers 에서 걸러짐
+            PushNotificationService.SendResult result = pushNotificationService.sendToUsers(tokens, entry.getKey());
+            successCount += result.successCount();
+            invalidTokens.addAll(result.invalidTokens());
+
+            Set<String> failed = new HashSet<>(result.failedTokens());
+            for (DeferredPushRepository.DeferredPush push : entry.getValue()) {
+                if (!failed.contains(push.fcmToken())) {
+                    doneIds.add(push.id());
+                }
+            }
+        }
+        deferredPushRepository.deleteByIds(doneIds);
+
+        log.info("방해 금지 해제 알림 일괄 발송: 메시지 {}종, 대상 {}명, 성공 {}건, 재시도 {}건",
+                bucket.size(), recipients, successCount, due.size() - doneIds.size());
+
+        if (!invalidTokens.isEmpty()) {
+            log.info("무효 FCM 토큰 {}개 정리", invalidTokens.size());
+            memberRepository.clearInvalidFcmTokens(invalidTokens);
+        }
+    }
+
+    private LocalDateTime wakeUpAt(LocalTime quietHoursEnd, LocalDateTime now) {
+        LocalDateTime wakeUp = now.toLocalDate().atTime(quietHoursEnd);
+        return wakeUp.isAfter(now) ? wakeUp : wakeUp.plusDays(1);
+    }
+
+    private Instant releaseAt(LocalDateTime wakeUpAt) {
+        long epochMinute = wakeUpAt.atZone(zoneId).toEpochSecond() / 60;
+        // 버킷 경계로 올림 (경계 이전에는 절대 발송하지 않고, 같은 버킷의 보류 알림은 한 번에 묶여 나감)
+        long bucketMinute = Math.floorDiv(epochMinute + bucketMinutes - 1, bucketMinutes) * bucketMinutes;
+        return Instant.ofEpochSecond(bucketMinute * 60);
+    }
+}
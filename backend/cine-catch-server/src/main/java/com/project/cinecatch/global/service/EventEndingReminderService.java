@@ -0,0 +1,154 @@
+package com.project.cinecatch.global.service;
+
+import com.project.cinecatch.domain.event.entity.Event;
+import com.project.cinecatch.domain.event.repository.EventRepository;
+import com.project.cinecatch.domain.event.repository.EventTimerClaimRepository;
+import com.project.cinecatch.global.event.EventExpiredEvent;
+import com.project.cinecatch.global.scheduler.TimingWheelScheduler;
+import com.project.cinecatch.global.util.HashedTimingWheel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 찜 이벤트 종료 임박 알림 스케줄러
+ * - 기동 시 진행 중인 이벤트를 읽어 타이밍 휠에 "종료 N시간 전" 알림과 종료 타이머를 등록함
+ * - 크롤링 적재 후 syncActiveEvents() 로 endAt 이 바뀐 이벤트만 다시 등록함
+ * - 타이머는 노드마다 울리지만, event_timer_claim 에 먼저 행을 넣은 한 노드만 알림/종료 처리를 실행함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventEndingReminderService {
+
+    private static final String NODE_ID = ManagementFactory.getRuntimeMXBean().getName();
+    private static final String EXPIRE_TIMER = "EXPIRE";
+
+    private final EventRepository eventRepository;
+    private final EventTimerClaimRepository eventTimerClaimRepository;
+    private final EventNotificationService eventNotificationService;
+    private final TimingWheelScheduler timingWheelScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${notification.ending-soon.hours:24,3}")
+    private List<Integer> reminderHours;
+
+    // 이벤트 시각(endAt)은 극장 기준 시간대로 저장됨 (방해 금지 시간대와 같은 값)
+    @Value("${notification.quiet-hours.zone:Asia/Seoul}")
+    private ZoneId zoneId;
+
+    private final Map<String, ScheduledEvent> scheduledEvents = new ConcurrentHashMap<>();
+
+    // synchronized 안에서 DB 를 조회하면 가상 스레드가 캐리어에 고정되므로 락을 씀
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private record ScheduledEvent(LocalDateTime endAt, List<HashedTimingWheel.Timeout<Runnable>> timeouts) {
+        void cancel() {
+            timeouts.forEach(HashedTimingWheel.Timeout::cancel);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveEvents() {
+        syncActiveEvents();
+    }
+
+    /**
+     * 진행 중인 이벤트 목록과 등록된 타이머를 맞춤 (신규/endAt 변경 이벤트만 재등록)
+     */
+    public void syncActiveEvents() {
+        syncLock.lock();
+        try {
+            doSyncActiveEvents();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void doSyncActiveEvents() {
+        LocalDateTime now = LocalDateTime.now(zoneId);
+        List<Event> activeEvents = eventRepository.findActiveEvents(now);
+
+        Set<String> activeIds = new HashSet<>();
+        int registered = 0;
+        for (Event event : activeEvents) {
+            activeIds.add(event.getId());
+            ScheduledEvent existing = scheduledEvents.get(event.getId());
+            if (existing != null && existing.endAt().equals(event.getEndAt())) {
+                continue;
+            }
+            if (existing != null) {
+                existing.cancel();
+            }
+            scheduledEvents.put(event.getId(), schedule(event, now));
+            registered++;
+        }
+
+        // DB 에서 사라진 이벤트의 타이머 정리
+        scheduledEvents.entrySet().removeIf(entry -> {
+            if (activeIds.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().cancel();
+            return true;
+        });
+
+        log.info("종료 임박 알림 동기화 완료: 진행 중 이벤트 {}건, 신규/변경 등록 {}건, 대기 타이머 {}개",
+                activeEvents.size(), registered, timingWheelScheduler.pendingCount());
+    }
+
+    private ScheduledEvent schedule(Event event, LocalDateTime now) {
+        String eventId = event.getId();
+        String title = event.getTitle();
+        LocalDateTime endAt = event.getEndAt();
+        List<HashedTimingWheel.Timeout<Runnable>> timeouts = new ArrayList<>();
+
+        for (int hours : reminderHours) {
+            LocalDateTime remindAt = endAt.minusHours(hours);
+            if (remindAt.isAfter(now)) {
+                timeouts.add(timingWheelScheduler.schedule(toInstant(remindAt),
+                        () -> remind(eventId, title, endAt, hours)));
+            }
+        }
+        timeouts.add(timingWheelScheduler.schedule(toInstant(endAt), () -> expire(eventId, endAt)));
+
+        return new ScheduledEvent(endAt, timeouts);
+    }
+
+    void remind(String eventId, String eventTitle, LocalDateTime endAt, int hours) {
+        if (!eventTimerClaimRepository.claim(eventId, "REMIND_" + hours, endAt, NODE_ID)) {
+            log.debug("이벤트 '{}' 종료 {}시간 전 알림은 다른 노드가 발송함", eventTitle, hours);
+            return;
+        }
+        int sentCount = eventNotificationService.notifyEventEndingSoon(eventId, eventTitle, endAt, hours);
+        log.info("이벤트 '{}' 종료 {}시간 전 알림 발송: {}건", eventTitle, hours, sentCount);
+    }
+
+    void expire(String eventId, LocalDateTime endAt) {
+        scheduledEvents.remove(eventId);
+        // 만료 툼스톤 등 DB 에 남기는 처리는 한 노드만
+        if (eventTimerClaimRepository.claim(eventId, EXPIRE_TIMER, endAt, NODE_ID)) {
+            eventPublisher.publishEvent(new EventExpiredEvent(eventId));
+        }
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(zoneId).toInstant();
+    }
+}
@@ -1,5 +1,7 @@
 package com.project.cinecatch.global.service;
 
+import com.project.cinecatch.domain.event.entity.Event;
+import com.project.cinecatch.domain.event.repository.EventRepository;
 import com.project.cinecatch.domain.member.entity.EventSubscription;
 import com.project.cinecatch.domain.member.entity.Member;
 import com.project.cinecatch.domain.member.entity.TheaterSubscription;
@@ -13,7 +15,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,78 +32,55 @@ public class EventNotificationService {
     private final MemberRepository memberRepository;
     private final PushNotificationService pushNotificationService;
     private final NotificationHistoryRepository notificationHistoryRepository;
+    private final DeferredNotificationService deferredNotificationService;
+    private final PushMessageShaper pushMessageShaper;
+    private final EventRepository eventRepository;
 
     /**
      * 특정 극장의 구독자들에게 새 이벤트 알림 발송
      */
     @Transactional
-    public int notifySubscribers(String theaterId, String theaterName, String eventTitle) {
-        List<TheaterSubscription> subscriptions = subscriptionRepository.findByTheaterId(theaterId);
-
-        List<Member> eligibleMembers = subscriptions.stream()
-                .map(TheaterSubscription::getMember)
-                .filter(Member::isNotificationEnabled)
-                .collect(Collectors.toList());
-
-        List<String> fcmTokens = eligibleMembers.stream()
-                .map(Member::getFcmToken)
-                .filter(token -> token != null && !token.isBlank())
-                .collect(Collectors.toList());
-
-        if (fcmTokens.isEmpty()) {
-            log.info("극장 {}의 구독자 중 알림 가능한 사용자가 없습니다.", theaterName);
-            return 0;
-        }
+    public int notifySubscribers(String theaterId, String eventId, String theaterName, String eventTitle) {
+        return notifySubscribers(theaterId, eventId, theaterName, eventTitle, findEventEndAt(eventId));
+    }
 
-        log.info("극장 {} 구독자 {}명에게 알림 발송 시작", theaterName, fcmTokens.size());
-        PushNotificationService.SendResult result =
-                pushNotificationService.sendEventUpdateNotification(fcmTokens, theaterName, eventTitle);
+    /**
+     * @param eventEndAt 메시지 만료 기준 (팬아웃에서는 findEventEndAts 로 이벤트별 한 번만 읽어 넘김)
+     */
+    @Transactional
+    public int notifySubscribers(String theaterId, String eventId, String theaterName, String eventTitle,
+                                 LocalDateTime eventEndAt) {
+        List<TheaterSubscription> subscriptions = subscriptionRepository.findByTheaterId(theaterId);
 
-        // 알림 히스토리 저장
         String title = "새 이벤트 알림";
         String body = String.format("%s에서 새 이벤트가 시작되었습니다: %s", theaterName, eventTitle);
-        saveNotificationHistory(eligibleMembers, title, body);
-
-        // 무효 토큰 정리
-        cleanupInvalidTokens(result.invalidTokens());
 
-        return result.successCount();
+        log.info("극장 {} 구독자 대상 새 이벤트 알림 발송", theaterName);
+        return dispatch(
+                subscriptions.stream().map(TheaterSubscription::getMember).toList(),
+                pushMessageShaper.shape(PushMessageType.EVENT_UPDATE, title, body, eventId, eventEndAt));
     }
 
     /**
      * 특정 극장의 구독자들에게 이벤트 상태 변경 알림 발송
      */
     @Transactional
-    public int notifyStatusChange(String theaterId, String theaterName, String eventTitle, String newStatus) {
-        List<TheaterSubscription> subscriptions = subscriptionRepository.findByTheaterId(theaterId);
-
-        List<Member> eligibleMembers = subscriptions.stream()
-                .map(TheaterSubscription::getMember)
-                .filter(Member::isNotificationEnabled)
-                .collect(Collectors.toList());
-
-        List<String> fcmTokens = eligibleMembers.stream()
-                .map(Member::getFcmToken)
-                .filter(token -> token != null && !token.isBlank())
-                .collect(Collectors.toList());
-
-        if (fcmTokens.isEmpty()) {
-            return 0;
-        }
+    public int notifyStatusChange(String theaterId, String eventId, String theaterName, String eventTitle, String newStatus) {
+        return notifyStatusChange(theaterId, eventId, theaterName, eventTitle, newStatus, findEventEndAt(eventId));
+    }
 
-        log.info("극장 {} 구독자 {}명에게 상태 변경 알림 발송", theaterName, fcmTokens.size());
-        PushNotificationService.SendResult result =
-                pushNotificationService.sendStockUpdateNotification(fcmTokens, theaterName, eventTitle, newStatus);
+    @Transactional
+    public int notifyStatusChange(String theaterId, String eventId, String theaterName, String eventTitle, String newStatus,
+                                  LocalDateTime eventEndAt) {
+        List<TheaterSubscription> subscriptions = subscriptionRepository.findByTheaterId(theaterId);
 
-        // 알림 히스토리 저장
         String title = "이벤트 상태 변경";
         String body = String.format("%s - %s 상태가 [%s](으)로 변경되었습니다", theaterName, eventTitle, newStatus);
-        saveNotificationHistory(eligibleMembers, title, body);
 
-        // 무효 토큰 정리
-        cleanupInvalidTokens(result.invalidTokens());
-
-        return result.successCount();
+        log.info("극장 {} 구독자 대상 상태 변경 알림 발송", theaterName);
+        return dispatch(
+                subscriptions.stream().map(TheaterSubscription::getMember).toList(),
+                pushMessageShaper.shape(PushMessageType.STOCK_UPDATE, title, body, eventId, eventEndAt));
     }
 
     /**
@@ -107,29 +90,85 @@ public class EventNotificationService {
     public int notifyEventSubscribers(String eventId, String eventTitle, String newStatus) {
         List<EventSubscription> subscriptions = eventFavoriteRepository.findByEventId(eventId);
 
-        List<Member> eligibleMembers = subscriptions.stream()
-                .map(EventSubscription::getMember)
+        String title = "찜한 이벤트 상태 변경";
+        String body = String.format("찜한 이벤트 '%s'의 상태가 [%s](으)로 변경되었습니다", eventTitle, newStatus);
+
+        log.info("이벤트 '{}' 찜 구독자 대상 상태 변경 알림 발송", eventTitle);
+        return dispatch(
+                subscriptions.stream().map(EventSubscription::getMember).toList(),
+                pushMessageShaper.shape(PushMessageType.FAVORITE_STATUS, title, body, eventId, findEventEndAt(eventId)));
+    }
+
+    /**
+     * 찜(EventSubscription) 이벤트의 구독자들에게 종료 임박 알림 발송
+     */
+    @Transactional
+    public int notifyEventEndingSoon(String eventId, String eventTitle, LocalDateTime eventEndAt, int hoursLeft) {
+        List<EventSubscription> subscriptions = eventFavoriteRepository.findByEventId(eventId);
+
+        String title = "찜한 이벤트 종료 임박";
+        String body = String.format("찜한 이벤트 '%s'이(가) %d시간 후 종료됩니다", eventTitle, hoursLeft);
+
+        log.info("이벤트 '{}' 찜 구독자 대상 종료 임박 알림 발송", eventTitle);
+        return dispatch(
+                subscriptions.stream().map(EventSubscription::getMember).toList(),
+                pushMessageShaper.shape(PushMessageType.ENDING_SOON, title, body, eventId, eventEndAt));
+    }
+
+    /**
+     * 팬아웃 대상 이벤트들의 종료 시각을 한 번에 읽음 (알림마다 이벤트를 다시 조회하지 않도록)
+     */
+    public Map<String, LocalDateTime> findEventEndAts(Collection<String> eventIds) {
+        return eventRepository.findAllById(eventIds).stream()
+                .collect(Collectors.toMap(Event::getId, Event::getEndAt));
+    }
+
+    private LocalDateTime findEventEndAt(String eventId) {
+        return eventId != null
+                ? eventRepository.findById(eventId).map(Event::getEndAt).orElse(null)
+                : null;
+    }
+
+    /**
+     * 알림 허용 회원 중 방해 금지 시간대인 회원은 지연 발송으로 넘기고(배지만 조용히 갱신), 나머지에게 즉시 발송함
+     * 알림 히스토리는 지연 대상까지 포함해 바로 저장함
+     */
+    private int dispatch(List<Member> subscribers, PushMessageSpec message) {
+        List<Member> eligibleMembers = subscribers.stream()
                 .filter(Member::isNotificationEnabled)
                 .collect(Collectors.toList());
 
-        List<String> fcmTokens = eligibleMembers.stream()
-                .map(Member::getFcmToken)
-                .filter(token -> token != null && !token.isBlank())
-                .collect(Collectors.toList());
+        List<String> fcmTokens = new ArrayList<>();
+        List<String> deferredTokens = new ArrayList<>();
+        for (Member member : eligibleMembers) {
+            if (deferredNotificationService.deferIfQuiet(member, message)) {
+                deferredTokens.add(member.getFcmToken());
+                continue;
+            }
+            String token = member.getFcmToken();
+            if (token != null && !token.isBlank()) {
+                fcmTokens.add(token);
+            }
+        }
 
-        if (fcmTokens.isEmpty()) {
-            log.info("이벤트 {}의 찜 구독자 중 알림 가능한 사용자가 없습니다.", eventTitle);
+        if (fcmTokens.isEmpty() && deferredTokens.isEmpty()) {
+            log.info("알림 가능한 사용자가 없습니다.");
             return 0;
         }
 
-        log.info("이벤트 '{}' 찜 구독자 {}명에게 알림 발송", eventTitle, fcmTokens.size());
-        PushNotificationService.SendResult result =
-                pushNotificationService.sendFavoriteEventNotification(fcmTokens, eventTitle, newStatus);
-
         // 알림 히스토리 저장
-        String title = "찜한 이벤트 상태 변경";
-        String body = String.format("찜한 이벤트 '%s'의 상태가 [%s](으)로 변경되었습니다", eventTitle, newStatus);
-        saveNotificationHistory(eligibleMembers, title, body);
+        saveNotificationHistory(eligibleMembers, message.title(), message.body());
+
+        if (!deferredTokens.isEmpty()) {
+            log.info("방해 금지 시간대 회원 {}명 알림 보류", deferredTokens.size());
+            pushNotificationService.sendBadgeUpdate(deferredTokens);
+        }
+        if (fcmTokens.isEmpty()) {
+            return 0;
+        }
+
+        log.info("구독자 {}명에게 알림 발송", fcmTokens.size());
+        PushNotificationService.SendResult result = pushNotificationService.sendToUsers(fcmTokens, message);
 
         // 무효 토큰 정리
         cleanupInvalidTokens(result.invalidTokens());
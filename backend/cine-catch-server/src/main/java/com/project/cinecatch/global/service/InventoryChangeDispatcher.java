@@ -0,0 +1,67 @@
+package com.project.cinecatch.global.service;
+
+import com.project.cinecatch.global.event.EventStatusChangedEvent;
+import com.project.cinecatch.global.event.InventoryChangedEvent;
+import com.project.cinecatch.global.sse.EventStreamHub;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 적재 변경분 팬아웃 (적재 트랜잭션 커밋 후)
+ * - 모든 노드의 SSE 구독자에게 먼저 전달하고, 극장 구독자 FCM 알림은 크롤러가 알림 API 를 호출하던 것과 같은 규칙으로 보냄 (신규 / 상태 변경)
+ * - 커밋 콜백 안에서 쓰면 끝난 트랜잭션에 묶여 알림 이력이 저장되지 않으므로, 가상 스레드 하나에서 순서대로 처리함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryChangeDispatcher {
+
+    private final EventStreamHub eventStreamHub;
+    private final EventNotificationService eventNotificationService;
+    private final EventEndingReminderService eventEndingReminderService;
+
+    @TransactionalEventListener
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        Thread.ofVirtual().name("inventory-dispatch").start(() -> dispatch(event));
+    }
+
+    void dispatch(InventoryChangedEvent event) {
+        eventStreamHub.publish(event.changes().stream()
+                .map(change -> new EventStatusChangedEvent(
+                        change.eventId(), change.theaterId(), change.newStatus(), change.changedAt()))
+                .toList());
+
+        // 메시지 만료 기준(이벤트 종료 시각)은 변경 건마다가 아니라 이벤트별로 한 번만 읽음
+        Map<String, LocalDateTime> eventEndAts = eventNotificationService.findEventEndAts(event.changes().stream()
+                .map(InventoryChangedEvent.Change::eventId)
+                .collect(Collectors.toSet()));
+
+        int sentCount = 0;
+        for (InventoryChangedEvent.Change change : event.changes()) {
+            LocalDateTime eventEndAt = eventEndAts.get(change.eventId());
+            try {
+                sentCount += change.isNew()
+                        ? eventNotificationService.notifySubscribers(
+                                change.theaterId(), change.eventId(), change.theaterName(), change.eventTitle(),
+                                eventEndAt)
+                        : eventNotificationService.notifyStatusChange(
+                                change.theaterId(), change.eventId(), change.theaterName(), change.eventTitle(),
+                                change.newStatus(), eventEndAt);
+            } catch (RuntimeException e) {
+                log.error("재고 변동 알림 실패: 극장={}, 이벤트={}", change.theaterName(), change.eventId(), e);
+            }
+        }
+
+        if (event.changedEvents() > 0) {
+            // 적재된 이벤트 기준으로 종료 임박 알림 타이머 갱신
+            eventEndingReminderService.syncActiveEvents();
+        }
+        log.info("재고 변동 {}건 팬아웃 완료 (알림 {}건 발송)", event.changes().size(), sentCount);
+    }
+}
@@ -0,0 +1,111 @@
+package com.project.cinecatch.global.service;
+
+import com.google.firebase.messaging.AndroidConfig;
+import com.google.firebase.messaging.AndroidNotification;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 종류별로 우선순위, collapse key, TTL, data-only 여부를 정해 FCM 메시지를 만듦
+ */
+@Component
+public class PushMessageShaper {
+
+    /** FCM 이 허용하는 최대 TTL */
+    private static final Duration FCM_MAX_TTL = Duration.ofDays(28);
+
+    /** events.end_at 은 이 시간대 기준 벽시계 시각 (JVM 시간대와 무관하게 해석) */
+    private final ZoneId zoneId;
+
+    public PushMessageShaper(@Value("${notification.quiet-hours.zone:Asia/Seoul}") ZoneId zoneId) {
+        this.zoneId = zoneId;
+    }
+
+    public PushMessageSpec shape(PushMessageType type, String title, String body) {
+        return shape(type, title, body, null, null);
+    }
+
+    /**
+     * @param eventId    collapse key 기준 (null 이면 접지 않음)
+     * @param eventEndAt 이벤트 종료 시각 (null 이면 종류별 최대 TTL 만 적용)
+     */
+    public PushMessageSpec shape(PushMessageType type, String title, String body,
+                                 String eventId, LocalDateTime eventEndAt) {
+        Instant now = Instant.now();
+
+        String collapseKey = null;
+        if (type.isDataOnly()) {
+            collapseKey = type.getCollapsePrefix();
+        } else if (type.getCollapsePrefix() != null && eventId != null) {
+            collapseKey = type.getCollapsePrefix() + ":" + eventId;
+        }
+
+        Instant expiresAt = type.getMaxTtl() != null ? now.plus(type.getMaxTtl()) : null;
+        if (eventEndAt != null) {
+            // 종료된 이벤트 알림은 오프라인 기기에 뒤늦게 도착할 필요가 없음
+            Instant endInstant = eventEndAt.atZone(zoneId).toInstant();
+            if (expiresAt == null || endInstant.isBefore(expiresAt)) {
+                expiresAt = endInstant;
+            }
+        }
+
+        Map<String, String> data = new HashMap<>();
+        data.put("type", type.name());
+        if (eventId != null) {
+            data.put("eventId", eventId);
+        }
+
+        return new PushMessageSpec(type, title, body, collapseKey, expiresAt, Map.copyOf(data));
+    }
+
+    public MulticastMessage toMulticast(PushMessageSpec spec, List<String> fcmTokens, Instant now) {
+        MulticastMessage.Builder builder = MulticastMessage.builder()
+                .addAllTokens(fcmTokens)
+                .putAllData(spec.data())
+                .setAndroidConfig(toAndroidConfig(spec, now));
+
+        if (!spec.type().isDataOnly()) {
+            builder.setNotification(Notification.builder()
+                    .setTitle(spec.title())
+                    .setBody(spec.body())
+                    .build());
+        }
+        return builder.build();
+    }
+
+    AndroidConfig toAndroidConfig(PushMessageSpec spec, Instant now) {
+        AndroidConfig.Builder builder = AndroidConfig.builder()
+                .setPriority(spec.type().isHighPriority() ? AndroidConfig.Priority.HIGH : AndroidConfig.Priority.NORMAL);
+
+        if (spec.collapseKey() != null) {
+            builder.setCollapseKey(spec.collapseKey());
+        }
+        if (spec.expiresAt() != null) {
+            Duration ttl = Duration.between(now, spec.expiresAt());
+            if (ttl.isNegative()) {
+                ttl = Duration.ZERO;
+            }
+            if (ttl.compareTo(FCM_MAX_TTL) > 0) {
+                ttl = FCM_MAX_TTL;
+            }
+            builder.setTtl(ttl.toMillis());
+        }
+        if (!spec.type().isDataOnly()) {
+            builder.setNotification(AndroidNotification.builder()
+                    .setSound("default")
+                    .setTag(spec.collapseKey())
+                    .build());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.cinecatch.global.service;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 발송 직전의 메시지 형태. TTL 은 발송 시점에 expiresAt 으로부터 계산하므로
+ * 지연 발송(방해 금지 시간대) 후에도 만료 시각이 유지됨
+ *
+ * @param collapseKey null 이면 접지 않음
+ * @param expiresAt   null 이면 FCM 기본 TTL
+ */
+public record PushMessageSpec(
+        PushMessageType type,
+        String title,
+        String body,
+        String collapseKey,
+        Instant expiresAt,
+        Map<String, String> data
+) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.cinecatch.global.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 알림 종류별 FCM 발송 정책
+ * - highPriority: 즉시 깨워야 하는 알림만 HIGH, 나머지는 NORMAL (Doze 중 배터리/쿼터 절약)
+ * - maxTtl: 기기가 오프라인일 때 FCM 이 보관하는 최대 시간 (이벤트 종료 시각이 더 이르면 그쪽을 따름)
+ * - collapsePrefix: 같은 이벤트의 알림은 기기에 하나만 남도록 접는 키 접두사
+ * - dataOnly: 알림 표시 없이 앱에 데이터만 전달 (배지 갱신 등)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PushMessageType {
+
+    GENERAL(true, null, null, false),
+    EVENT_UPDATE(false, Duration.ofDays(3), "event", false),
+    STOCK_UPDATE(true, Duration.ofHours(6), "stock", false),
+    FAVORITE_STATUS(true, Duration.ofHours(6), "stock", false),
+    ENDING_SOON(false, Duration.ofHours(24), "ending", false),
+    BADGE_UPDATE(false, Duration.ofHours(1), "badge", true);
+
+    private final boolean highPriority;
+    private final Duration maxTtl;
+    private final String collapsePrefix;
+    private final boolean dataOnly;
+}
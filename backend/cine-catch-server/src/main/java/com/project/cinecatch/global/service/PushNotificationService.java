@@ -2,17 +2,33 @@ package com.project.cinecatch.global.service;
 
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.messaging.*;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class PushNotificationService {
 
-    public record SendResult(int successCount, List<String> invalidTokens) {}
+    private final PushMessageShaper pushMessageShaper;
+
+    /**
+     * @param invalidTokens 다시 보내도 안 되는 토큰 (정리 대상)
+     * @param failedTokens  일시적인 오류로 보내지 못한 토큰 (다시 보내면 될 수 있음)
+     */
+    public record SendResult(int successCount, List<String> invalidTokens, List<String> failedTokens) {
+
+        public SendResult(int successCount, List<String> invalidTokens) {
+            this(successCount, invalidTokens, List.of());
+        }
+    }
+
+    private static final int MAX_MULTICAST_TOKENS = 500;
 
     /**
      * 단일 사용자에게 푸시 알림 발송
@@ -51,6 +67,13 @@ public class PushNotificationService {
      * 여러 사용자에게 푸시 알림 발송 (무효 토큰 감지 포함)
      */
     public SendResult sendToUsers(List<String> fcmTokens, String title, String body) {
+        return sendToUsers(fcmTokens, pushMessageShaper.shape(PushMessageType.GENERAL, title, body));
+    }
+
+    /**
+     * 종류별 정책(우선순위/collapse key/TTL)이 적용된 메시지를 여러 사용자에게 발송
+     */
+    public SendResult sendToUsers(List<String> fcmTokens, PushMessageSpec spec) {
         if (!isFirebaseInitialized()) {
             log.warn("Firebase가 초기화되지 않았습니다. 푸시 알림을 발송할 수 없습니다.");
             return new SendResult(0, List.of());
@@ -60,26 +83,43 @@ public class PushNotificationService {
             return new SendResult(0, List.of());
         }
 
-        try {
-            MulticastMessage message = MulticastMessage.builder()
-                    .addAllTokens(fcmTokens)
-                    .setNotification(Notification.builder()
-                            .setTitle(title)
-                            .setBody(body)
-                            .build())
-                    .setAndroidConfig(AndroidConfig.builder()
-                            .setPriority(AndroidConfig.Priority.HIGH)
-                            .setNotification(AndroidNotification.builder()
-                                    .setSound("default")
-                                    .build())
-                            .build())
-                    .build();
+        Instant now = Instant.now();
+        if (spec.isExpired(now)) {
+            log.info("만료된 알림 발송 생략: {} ({})", spec.title(), spec.type());
+            return new SendResult(0, List.of());
+        }
+
+        int successCount = 0;
+        List<String> invalidTokens = new ArrayList<>();
+        List<String> failedTokens = new ArrayList<>();
+
+        // FCM 멀티캐스트는 요청당 최대 500개 토큰까지 허용함
+        for (int from = 0; from < fcmTokens.size(); from += MAX_MULTICAST_TOKENS) {
+            List<String> chunk = fcmTokens.subList(from, Math.min(from + MAX_MULTICAST_TOKENS, fcmTokens.size()));
+            SendResult chunkResult = sendMulticast(pushMessageShaper.toMulticast(spec, chunk, now), chunk);
+            successCount += chunkResult.successCount();
+            invalidTokens.addAll(chunkResult.invalidTokens());
+            failedTokens.addAll(chunkResult.failedTokens());
+        }
+
+        return new SendResult(successCount, invalidTokens, failedTokens);
+    }
 
+    /**
+     * 알림 표시 없이 앱에 배지(읽지 않은 알림 수) 갱신만 요청하는 data-only 메시지 발송
+     */
+    public SendResult sendBadgeUpdate(List<String> fcmTokens) {
+        return sendToUsers(fcmTokens, pushMessageShaper.shape(PushMessageType.BADGE_UPDATE, null, null));
+    }
+
+    private SendResult sendMulticast(MulticastMessage message, List<String> fcmTokens) {
+        try {
             BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
             log.info("푸시 알림 발송 완료: 성공 {}, 실패 {}",
                     response.getSuccessCount(), response.getFailureCount());
 
             List<String> invalidTokens = new ArrayList<>();
+            List<String> failedTokens = new ArrayList<>();
             List<SendResponse> responses = response.getResponses();
             for (int i = 0; i < responses.size(); i++) {
                 SendResponse sendResponse = responses.get(i);
@@ -89,42 +129,24 @@ public class PushNotificationService {
                             || errorCode == MessagingErrorCode.INVALID_ARGUMENT) {
                         invalidTokens.add(fcmTokens.get(i));
                         log.warn("무효 FCM 토큰 감지: {}", fcmTokens.get(i));
+                    } else if (isRetryable(errorCode)) {
+                        failedTokens.add(fcmTokens.get(i));
                     }
                 }
             }
 
-            return new SendResult(response.getSuccessCount(), invalidTokens);
+            return new SendResult(response.getSuccessCount(), invalidTokens, failedTokens);
         } catch (FirebaseMessagingException e) {
             log.error("푸시 알림 다중 발송 실패: {}", e.getMessage());
-            return new SendResult(0, List.of());
+            return new SendResult(0, List.of(), List.copyOf(fcmTokens));
         }
     }
 
-    /**
-     * 이벤트 업데이트 알림 발송
-     */
-    public SendResult sendEventUpdateNotification(List<String> fcmTokens, String theaterName, String eventTitle) {
-        String title = "새 이벤트 알림";
-        String body = String.format("%s에서 새 이벤트가 시작되었습니다: %s", theaterName, eventTitle);
-        return sendToUsers(fcmTokens, title, body);
-    }
-
-    /**
-     * 이벤트 재고 상태 변경 알림 발송
-     */
-    public SendResult sendStockUpdateNotification(List<String> fcmTokens, String theaterName, String eventTitle, String newStatus) {
-        String title = "이벤트 상태 변경";
-        String body = String.format("%s - %s 상태가 [%s](으)로 변경되었습니다", theaterName, eventTitle, newStatus);
-        return sendToUsers(fcmTokens, title, body);
-    }
-
-    /**
-     * 찜 이벤트 상태 변경 알림 발송
-     */
-    public SendResult sendFavoriteEventNotification(List<String> fcmTokens, String eventTitle, String newStatus) {
-        String title = "찜한 이벤트 상태 변경";
-        String body = String.format("찜한 이벤트 '%s'의 상태가 [%s](으)로 변경되었습니다", eventTitle, newStatus);
-        return sendToUsers(fcmTokens, title, body);
+    private boolean isRetryable(MessagingErrorCode errorCode) {
+        return errorCode == null
+                || errorCode == MessagingErrorCode.UNAVAILABLE
+                || errorCode == MessagingErrorCode.INTERNAL
+                || errorCode == MessagingErrorCode.QUOTA_EXCEEDED;
     }
 
     boolean isFirebaseInitialized() {
@@ -0,0 +1,77 @@
+package com.project.cinecatch.global.service;
+
+import com.project.cinecatch.domain.movie.entity.Movie;
+import com.project.cinecatch.domain.theater.entity.Theater;
+import com.project.cinecatch.domain.theater.repository.TheaterRepository;
+import com.project.cinecatch.global.cache.InvalidationBus;
+import com.project.cinecatch.global.cache.InvalidationMessage;
+import com.project.cinecatch.global.cache.InvalidationType;
+import com.project.cinecatch.global.event.CacheInvalidatedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 참조 데이터(Theater, Movie) 2차 캐시 무효화
+ * 크롤러/적재 스크립트는 Hibernate 를 거치지 않고 DB 를 직접 바꾸므로, 적재가 끝날 때마다 호출해야 함
+ * 다른 노드의 2차 캐시는 무효화 버스로 알려 각 노드가 스스로 비우게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCacheInvalidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final InvalidationBus invalidationBus;
+
+    /**
+     * 이 노드는 바로 비우고, 다른 노드에는 무효화 메시지를 보냄
+     */
+    public void invalidateAll() {
+        evictAll();
+        try {
+            invalidationBus.publish(InvalidationType.THEATER, InvalidationMessage.ALL);
+            invalidationBus.publish(InvalidationType.MOVIE, InvalidationMessage.ALL);
+        } catch (RuntimeException e) {
+            log.warn("참조 데이터 무효화 메시지 발행 실패 (다른 노드는 캐시 만료까지 이전 값을 볼 수 있음): {}", e.getMessage());
+        }
+    }
+
+    public void evictAll() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictEntityData(Theater.class);
+        sessionFactory.getCache().evictEntityData(Movie.class);
+        sessionFactory.getCache().evictQueryRegion(TheaterRepository.BRAND_QUERY_REGION);
+        log.info("참조 데이터 2차 캐시 무효화 (Theater, Movie, {})", TheaterRepository.BRAND_QUERY_REGION);
+    }
+
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        switch (event.type()) {
+            case THEATER -> {
+                if (event.isAll()) {
+                    sessionFactory.getCache().evictEntityData(Theater.class);
+                } else {
+                    sessionFactory.getCache().evictEntityData(Theater.class, event.entityId());
+                }
+                // 브랜드별 목록은 어느 극장이 바뀌어도 달라질 수 있음
+                sessionFactory.getCache().evictQueryRegion(TheaterRepository.BRAND_QUERY_REGION);
+            }
+            case MOVIE -> {
+                if (event.isAll()) {
+                    sessionFactory.getCache().evictEntityData(Movie.class);
+                } else {
+                    sessionFactory.getCache().evictEntityData(Movie.class, event.entityId());
+                }
+            }
+            default -> {
+                return;
+            }
+        }
+        log.debug("무효화 버스로 2차 캐시 비움: {} {}", event.type(), event.entityId());
+    }
+}
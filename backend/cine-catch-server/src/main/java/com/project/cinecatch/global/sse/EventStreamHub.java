@@ -0,0 +1,250 @@
+package com.project.cinecatch.global.sse;
+
+import com.project.cinecatch.global.cache.InvalidationBus;
+import com.project.cinecatch.global.cache.InvalidationType;
+import com.project.cinecatch.global.event.CacheInvalidatedEvent;
+import com.project.cinecatch.global.event.EventStatusChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이벤트 재고 상태 변경 SSE 팬아웃 허브
+ * - SseEmitter(서블릿 비동기) 라 대기 중인 연결은 요청 스레드를 잡지 않음. 연결당 비용은 버퍼와 인덱스 항목뿐
+ * - 변경은 eventId/theaterId 인덱스로 대상 연결만 찾아 각 연결의 버퍼에 넣고, 소수의 writer 스레드가 비움
+ * - 연결마다 writer 는 하나만 돌아 전송 순서가 유지되고, 느린 연결은 자기 버퍼에서 오래된 변경만 잃음
+ * - 변경은 무효화 버스(EVENT_STATUS)로 보내고 버스에서 받아 전달하므로, 적재를 처리하지 않은 노드의 구독자도 받음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventStreamHub {
+
+    private final InvalidationBus invalidationBus;
+
+    @Value("${sse.max-connections:20000}")
+    private int maxConnections;
+
+    @Value("${sse.max-subscriptions:50}")
+    private int maxSubscriptions;
+
+    @Value("${sse.buffer-size:32}")
+    private int bufferSize;
+
+    @Value("${sse.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${sse.heartbeat-ms:25000}")
+    private long heartbeatMillis;
+
+    @Value("${sse.writer-threads:4}")
+    private int writerThreads;
+
+    private final Map<String, Set<StreamConnection>> byEventId = new ConcurrentHashMap<>();
+    private final Map<String, Set<StreamConnection>> byTheaterId = new ConcurrentHashMap<>();
+    private final Set<StreamConnection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private ExecutorService writers;
+    private ScheduledExecutorService heartbeat;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        writers = Executors.newFixedThreadPool(writerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-writer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        heartbeat.shutdownNow();
+        writers.shutdownNow();
+        connections.forEach(connection -> connection.emitter().complete());
+    }
+
+    /**
+     * 구독 연결 생성. eventIds/theaterIds 중 하나에라도 해당하는 변경을 받음
+     */
+    public SseEmitter subscribe(Set<String> eventIds, Set<String> theaterIds) {
+        if (eventIds.isEmpty() && theaterIds.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "eventIds 또는 theaterIds 를 지정해야 합니다.");
+        }
+        if (eventIds.size() + theaterIds.size() > maxSubscriptions) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "한 연결에서 구독 가능한 대상은 최대 " + maxSubscriptions + "개입니다.");
+        }
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "스트림 연결 수가 한도에 도달했습니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        StreamConnection connection = new StreamConnection(emitter, eventIds, theaterIds, bufferSize);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(error -> remove(connection));
+
+        connections.add(connection);
+        eventIds.forEach(id -> attach(byEventId, id, connection));
+        theaterIds.forEach(id -> attach(byTheaterId, id, connection));
+
+        try {
+            // 프록시가 응답 헤더를 바로 내보내도록 첫 주석을 보냄
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            remove(connection);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * 모든 노드의 구독자에게 보냄 (자기 노드도 버스에서 받아 전달함)
+     * 보내지 못해도 호출한 쪽(FCM 알림 등)은 계속함. 놓친 델타는 클라이언트가 변경 피드로 맞춤
+     */
+    public void publish(List<EventStatusChangedEvent> changes) {
+        try {
+            invalidationBus.broadcast(InvalidationType.EVENT_STATUS,
+                    changes.stream().map(EventStatusChangedEvent::toPayload).toList());
+        } catch (RuntimeException e) {
+            log.warn("재고 상태 델타 {}건 전파 실패: {}", changes.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 버스 수신 스레드에서 불림. 버퍼에 넣고 writer 에 넘기기만 함
+     */
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.type() != InvalidationType.EVENT_STATUS || event.isAll()) {
+            return;
+        }
+        deliver(EventStatusChangedEvent.fromPayload(event.entityId()));
+    }
+
+    void deliver(EventStatusChangedEvent change) {
+        Set<StreamConnection> targets = new HashSet<>();
+        if (change.eventId() != null) {
+            targets.addAll(byEventId.getOrDefault(change.eventId(), Set.of()));
+        }
+        if (change.theaterId() != null) {
+            targets.addAll(byTheaterId.getOrDefault(change.theaterId(), Set.of()));
+        }
+
+        for (StreamConnection connection : targets) {
+            connection.offer(change);
+            scheduleDrain(connection);
+        }
+    }
+
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    void sendHeartbeats() {
+        for (StreamConnection connection : connections) {
+            connection.requestHeartbeat();
+            scheduleDrain(connection);
+        }
+    }
+
+    private void scheduleDrain(StreamConnection connection) {
+        if (connection.isClosed() || !connection.tryStartDrain()) {
+            return;
+        }
+        try {
+            writers.execute(() -> drain(connection));
+        } catch (RuntimeException e) {
+            // 종료 중 거부된 경우
+            connection.finishDrain();
+        }
+    }
+
+    private void drain(StreamConnection connection) {
+        try {
+            while (!connection.isClosed() && connection.hasPending()) {
+                int dropped = connection.takeDropped();
+                if (dropped > 0) {
+                    connection.emitter().send(SseEmitter.event()
+                            .name("overflow")
+                            .data(Map.of("dropped", dropped), MediaType.APPLICATION_JSON));
+                }
+                EventStatusChangedEvent change;
+                while ((change = connection.poll()) != null) {
+                    connection.emitter().send(SseEmitter.event()
+                            .name("status")
+                            .data(change, MediaType.APPLICATION_JSON));
+                }
+                if (connection.takeHeartbeat()) {
+                    connection.emitter().send(SseEmitter.event().comment("ping"));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊긴 경우
+            remove(connection);
+            connection.emitter().completeWithError(e);
+        } finally {
+            connection.finishDrain();
+        }
+
+        // finishDrain 직전에 들어온 변경이 있으면 다시 예약
+        if (!connection.isClosed() && connection.hasPending()) {
+            scheduleDrain(connection);
+        }
+    }
+
+    private void remove(StreamConnection connection) {
+        if (!connections.remove(connection)) {
+            return;
+        }
+        connection.markClosed();
+        connectionCount.decrementAndGet();
+        connection.eventIds().forEach(id -> detach(byEventId, id, connection));
+        connection.theaterIds().forEach(id -> detach(byTheaterId, id, connection));
+    }
+
+    private void attach(Map<String, Set<StreamConnection>> index, String id, StreamConnection connection) {
+        // detach 가 빈 집합을 지우는 것과 겹치지 않도록 compute 안에서 추가함
+        index.compute(id, (key, subscribers) -> {
+            Set<StreamConnection> target = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            target.add(connection);
+            return target;
+        });
+    }
+
+    private void detach(Map<String, Set<StreamConnection>> index, String id, StreamConnection connection) {
+        index.computeIfPresent(id, (key, subscribers) -> {
+            subscribers.remove(connection);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
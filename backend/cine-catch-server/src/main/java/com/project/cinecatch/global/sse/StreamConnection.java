@@ -0,0 +1,104 @@
+package com.project.cinecatch.global.sse;
+
+import com.project.cinecatch.global.event.EventStatusChangedEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 연결 하나의 구독 조건과 전송 대기 버퍼
+ * - 버퍼가 가득 차면 가장 오래된 변경을 버림 (느린 클라이언트가 메모리를 잡아두지 않도록)
+ * - 버린 건수는 다음 전송 때 overflow 이벤트로 알려 클라이언트가 다시 조회하게 함
+ */
+final class StreamConnection {
+
+    private final SseEmitter emitter;
+    private final Set<String> eventIds;
+    private final Set<String> theaterIds;
+    private final int capacity;
+
+    private final ArrayDeque<EventStatusChangedEvent> buffer;
+    private int dropped;
+    private boolean heartbeatPending;
+
+    /** 전송 작업이 이미 예약/실행 중인지 (연결당 writer 하나만 돌도록) */
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    StreamConnection(SseEmitter emitter, Set<String> eventIds, Set<String> theaterIds, int capacity) {
+        this.emitter = emitter;
+        this.eventIds = eventIds;
+        this.theaterIds = theaterIds;
+        this.capacity = capacity;
+        this.buffer = new ArrayDeque<>(Math.min(capacity, 16));
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    Set<String> eventIds() {
+        return eventIds;
+    }
+
+    Set<String> theaterIds() {
+        return theaterIds;
+    }
+
+    synchronized void offer(EventStatusChangedEvent change) {
+        if (buffer.size() >= capacity) {
+            buffer.pollFirst();
+            dropped++;
+        }
+        buffer.addLast(change);
+    }
+
+    synchronized void requestHeartbeat() {
+        heartbeatPending = true;
+    }
+
+    synchronized EventStatusChangedEvent poll() {
+        return buffer.pollFirst();
+    }
+
+    /**
+     * 마지막 조회 이후 버려진 건수를 돌려주고 0으로 초기화함
+     */
+    synchronized int takeDropped() {
+        int count = dropped;
+        dropped = 0;
+        return count;
+    }
+
+    synchronized boolean takeHeartbeat() {
+        boolean pending = heartbeatPending;
+        heartbeatPending = false;
+        return pending;
+    }
+
+    synchronized boolean hasPending() {
+        return !buffer.isEmpty() || heartbeatPending || dropped > 0;
+    }
+
+    synchronized int buffered() {
+        return buffer.size();
+    }
+
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void finishDrain() {
+        draining.set(false);
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void markClosed() {
+        closed = true;
+    }
+}
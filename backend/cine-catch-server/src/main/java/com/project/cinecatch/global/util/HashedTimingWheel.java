@@ -0,0 +1,161 @@
+package com.project.cinecatch.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 해시드 타이밍 휠
+ * - 만료 틱을 wheelSize 로 나눈 나머지 슬롯에 넣고, 남은 바퀴 수(rounds)로 먼 미래 만료를 표현함
+ * - 슬롯마다 이중 연결 리스트를 두어 등록/취소 모두 O(1)
+ * - advance 호출 시 지나간 틱의 슬롯만 훑으므로 전체 타이머 수와 무관하게 동작함
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Slot<T>[] wheel;
+
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.wheel = (Slot<T>[]) new Slot<?>[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new Slot<>();
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 만료 시각(epoch millis)에 payload 를 등록함. 이미 지난 시각이면 다음 advance 에서 바로 만료됨
+     */
+    public synchronized Timeout<T> schedule(T payload, long deadlineMillis) {
+        long deadlineTick = Math.max(deadlineMillis / tickMillis, currentTick);
+        Timeout<T> timeout = new Timeout<>(this, payload, deadlineMillis);
+        timeout.rounds = (deadlineTick - currentTick) / wheel.length;
+        wheel[(int) (deadlineTick & mask)].add(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * nowMillis 까지 휠을 돌리고 만료된 payload 를 등록 순서대로 반환함
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+
+        while (currentTick <= targetTick) {
+            Slot<T> slot = wheel[(int) (currentTick & mask)];
+            Timeout<T> node = slot.head;
+            while (node != null) {
+                Timeout<T> next = node.next;
+                if (node.rounds <= 0) {
+                    slot.remove(node);
+                    node.state = Timeout.EXPIRED;
+                    size--;
+                    expired.add(node.payload);
+                } else {
+                    node.rounds--;
+                }
+                node = next;
+            }
+            currentTick++;
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.state != Timeout.PENDING) {
+            return false;
+        }
+        timeout.slot.remove(timeout);
+        timeout.state = Timeout.CANCELLED;
+        size--;
+        return true;
+    }
+
+    public static final class Timeout<T> {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final HashedTimingWheel<T> wheel;
+        private final T payload;
+        private final long deadlineMillis;
+
+        private long rounds;
+        private int state = PENDING;
+        private Slot<T> slot;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(HashedTimingWheel<T> wheel, T payload, long deadlineMillis) {
+            this.wheel = wheel;
+            this.payload = payload;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        public long deadlineMillis() {
+            return deadlineMillis;
+        }
+
+        /**
+         * 아직 만료되지 않은 타이머를 취소함. 이미 만료/취소된 경우 false
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+    }
+
+    private static final class Slot<T> {
+
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        private void add(Timeout<T> timeout) {
+            timeout.slot = this;
+            if (tail == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.slot = null;
+        }
+    }
+}
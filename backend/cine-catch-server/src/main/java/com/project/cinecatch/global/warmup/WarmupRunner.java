@@ -0,0 +1,180 @@
+package com.project.cinecatch.global.warmup;
+
+import com.project.cinecatch.domain.event.service.EventService;
+import com.project.cinecatch.domain.theater.service.TheaterService;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기동 직후 워밍업 (readiness 가 ACCEPTING_TRAFFIC 으로 바뀌기 전에 실행됨)
+ * - ApplicationRunner 가 모두 끝나야 Spring Boot 가 ready 이벤트와 readiness 를 발행하므로, 그 전까지 /health 는 503
+ * - Hikari 풀을 미리 채우고, 주요 도시 좌표 격자에서 주변 이벤트/극장 조회를 반복해 쿼리 플랜과 JIT 를 데움
+ * - duration-ms 를 넘기면 남은 좌표는 건너뛰고 바로 ready 로 넘어감 (워밍업이 배포를 막지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarmupRunner implements ApplicationRunner {
+
+    /** 주요 도시 중심 좌표 (위도, 경도) */
+    private static final double[][] CITY_CENTERS = {
+            {37.5665, 126.9780}, // 서울
+            {35.1796, 129.0756}, // 부산
+            {37.4563, 126.7052}, // 인천
+            {35.8714, 128.6014}, // 대구
+            {36.3504, 127.3845}, // 대전
+            {35.1595, 126.8526}, // 광주
+            {35.5384, 129.3114}, // 울산
+            {37.2636, 127.0286}, // 수원
+            {36.6424, 127.4890}, // 청주
+            {33.4996, 126.5312}, // 제주
+    };
+
+    private final DataSource dataSource;
+    private final EventService eventService;
+    private final TheaterService theaterService;
+
+    @Value("${warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${warmup.duration-ms:30000}")
+    private long durationMillis;
+
+    @Value("${warmup.rounds:3}")
+    private int rounds;
+
+    // 도시마다 grid-size x grid-size 좌표를 grid-step-degrees 간격으로 조회
+    @Value("${warmup.grid-size:3}")
+    private int gridSize;
+
+    @Value("${warmup.grid-step-degrees:0.05}")
+    private double gridStepDegrees;
+
+    /** 0 이하면 풀 최대 크기만큼 */
+    @Value("${warmup.connections:0}")
+    private int connections;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            log.info("[Warmup] 비활성화됨");
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + durationMillis * 1_000_000;
+
+        int opened = openConnections();
+        long poolMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        List<double[]> points = gridPoints();
+        int queries = 0;
+        int failures = 0;
+        int completedRounds = 0;
+        boolean timedOut = false;
+
+        warmup:
+        for (int round = 0; round < rounds; round++) {
+            for (double[] point : points) {
+                if (System.nanoTime() > deadline) {
+                    timedOut = true;
+                    break warmup;
+                }
+                try {
+                    eventService.getNearbyEvents(point[0], point[1], null);
+                    theaterService.getNearbyTheaters(point[0], point[1], null);
+                    queries += 2;
+                } catch (RuntimeException e) {
+                    failures++;
+                    log.debug("[Warmup] 조회 실패 ({}, {}): {}", point[0], point[1], e.getMessage());
+                }
+            }
+            try {
+                theaterService.getAllTheaters();
+                theaterService.getTheatersByBrand("CGV");
+                eventService.getAllActiveEvents();
+                queries += 3;
+            } catch (RuntimeException e) {
+                failures++;
+                log.debug("[Warmup] 전체 조회 실패: {}", e.getMessage());
+            }
+            completedRounds++;
+        }
+
+        log.info("[Warmup] 완료 {}ms: 커넥션 {}개 선점({}ms), 좌표 {}개 x {}/{}회, 쿼리 {}건, 실패 {}건{}",
+                (System.nanoTime() - startedAt) / 1_000_000, opened, poolMillis,
+                points.size(), completedRounds, rounds, queries, failures,
+                timedOut ? " (시간 초과로 중단)" : "");
+    }
+
+    /**
+     * 커넥션을 동시에 잡았다 놓아 풀을 목표 크기까지 채움 (첫 요청들이 커넥션 생성을 기다리지 않도록)
+     */
+    private int openConnections() {
+        DataSource pool = primaryPool();
+        int target = connections;
+        if (target <= 0) {
+            target = pool instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 1;
+        }
+
+        List<Connection> held = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                held.add(pool.getConnection());
+            }
+        } catch (SQLException e) {
+            log.warn("[Warmup] 커넥션 선점 중단 ({}개 확보): {}", held.size(), e.getMessage());
+        } finally {
+            for (Connection connection : held) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // 풀에 반납 실패는 무시
+                }
+            }
+        }
+        return held.size();
+    }
+
+    /**
+     * 복제본 라우팅 중이면 dataSource 는 LazyConnectionDataSourceProxy 라 getConnection 만으로는 실제 커넥션을 열지 않음
+     * 그 뒤의 primary 풀을 직접 채우고, 복제본 풀은 헬스 체크와 readOnly 워밍업 조회로 열림
+     */
+    private DataSource primaryPool() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class);
+            }
+        } catch (SQLException e) {
+            log.debug("[Warmup] 커넥션 풀 확인 실패: {}", e.getMessage());
+        }
+        return dataSource;
+    }
+
+    private List<double[]> gridPoints() {
+        List<double[]> points = new ArrayList<>(CITY_CENTERS.length * gridSize * gridSize);
+        double offset = (gridSize - 1) / 2.0;
+        for (double[] center : CITY_CENTERS) {
+            for (int row = 0; row < gridSize; row++) {
+                for (int col = 0; col < gridSize; col++) {
+                    points.add(new double[]{
+                            center[0] + (row - offset) * gridStepDegrees,
+                            center[1] + (col - offset) * gridStepDegrees
+                    });
+                }
+            }
+        }
+        return points;
+    }
+}
@@ -0,0 +1,3 @@
+-- 방해 금지 시간대 (둘 다 NULL 이면 미사용, start > end 이면 자정을 넘는 구간)
+ALTER TABLE members ADD COLUMN quiet_hours_start TIME;
+ALTER TABLE members ADD COLUMN quiet_hours_end TIME;
@@ -0,0 +1,69 @@
+-- 클라이언트 증분 동기화(/api/events/changes)용 변경 로그
+-- seq 가 커서 역할을 하며, 적재(크롤러)가 events/event_location 을 쓰면 트리거가 기록함
+CREATE SEQUENCE event_change_log_seq;
+
+CREATE TABLE event_change_log (
+    seq         BIGINT       PRIMARY KEY,
+    change_type VARCHAR(20)  NOT NULL,  -- EVENT, LOCATION, EXPIRED
+    event_id    VARCHAR(255) NOT NULL,
+    theater_id  VARCHAR(255),
+    old_status  VARCHAR(50),
+    new_status  VARCHAR(50),
+    changed_at  TIMESTAMP(6) NOT NULL DEFAULT now()
+);
+
+-- seq 는 트랜잭션 단위 advisory lock 을 잡은 뒤 채번함
+-- 쓰기 트랜잭션이 커밋할 때까지 다음 쓰기가 채번하지 못하므로 커밋 순서 = seq 순서가 되고,
+-- 조회 쪽에서 보이는 로그는 항상 빈틈 없는 앞부분이라 커서를 넘긴 뒤 작은 seq 가 늦게 나타나지 않음
+CREATE OR REPLACE FUNCTION assign_event_change_seq() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('event_change_log'));
+    NEW.seq := nextval('event_change_log_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_event_change_log_seq
+    BEFORE INSERT ON event_change_log
+    FOR EACH ROW EXECUTE FUNCTION assign_event_change_seq();
+
+-- 재고 상태가 실제로 바뀐 경우만 기록 (updated_at 만 갱신되는 UPDATE 는 무시)
+CREATE OR REPLACE FUNCTION log_event_location_change() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND NEW.status IS NOT DISTINCT FROM OLD.status THEN
+        RETURN NEW;
+    END IF;
+
+    INSERT INTO event_change_log (change_type, event_id, theater_id, old_status, new_status)
+    VALUES ('LOCATION', NEW.event_id, NEW.theater_id,
+            CASE WHEN TG_OP = 'UPDATE' THEN OLD.status END, NEW.status);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_event_location_change
+    AFTER INSERT OR UPDATE ON event_location
+    FOR EACH ROW EXECUTE FUNCTION log_event_location_change();
+
+-- 이벤트 정보 변경 (조회수만 바뀐 경우 제외), 삭제는 EXPIRED 툼스톤으로 기록
+CREATE OR REPLACE FUNCTION log_event_change() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        INSERT INTO event_change_log (change_type, event_id) VALUES ('EXPIRED', OLD.id);
+        RETURN OLD;
+    END IF;
+
+    IF TG_OP = 'UPDATE'
+        AND (NEW.title, NEW.type, NEW.start_at, NEW.end_at)
+            IS NOT DISTINCT FROM (OLD.title, OLD.type, OLD.start_at, OLD.end_at) THEN
+        RETURN NEW;
+    END IF;
+
+    INSERT INTO event_change_log (change_type, event_id) VALUES ('EVENT', NEW.id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_event_change
+    AFTER INSERT OR UPDATE OR DELETE ON events
+    FOR EACH ROW EXECUTE FUNCTION log_event_change();
@@ -0,0 +1,10 @@
+-- 폐기된 JWT (로그아웃, 리프레시 토큰 회전)
+-- 서버는 기동 시 만료 전 행만 메모리에 올려 요청마다 DB 를 보지 않음
+CREATE TABLE revoked_tokens (
+    token_id   VARCHAR(64) PRIMARY KEY,
+    member_id  UUID,
+    expires_at TIMESTAMPTZ NOT NULL,
+    revoked_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
@@ -0,0 +1,25 @@
+-- 파이썬 배치 실행 이력 (작업 1회 = batch_run 1행, 단계별 프로세스 = batch_run_step)
+-- finished_at 이 비어 있는 RUNNING 행은 실행 중이거나, 실행하던 노드가 중간에 내려간 경우
+CREATE TABLE batch_run (
+    id          BIGSERIAL    PRIMARY KEY,
+    job_name    VARCHAR(50)  NOT NULL,
+    node_id     VARCHAR(255) NOT NULL,
+    status      VARCHAR(20)  NOT NULL,  -- RUNNING, SUCCEEDED, FAILED, TIMED_OUT
+    started_at  TIMESTAMPTZ  NOT NULL,
+    finished_at TIMESTAMPTZ,
+    duration_ms BIGINT
+);
+
+CREATE INDEX idx_batch_run_job_started ON batch_run (job_name, started_at DESC);
+
+CREATE TABLE batch_run_step (
+    id          BIGSERIAL    PRIMARY KEY,
+    run_id      BIGINT       NOT NULL REFERENCES batch_run (id) ON DELETE CASCADE,
+    step_name   VARCHAR(100) NOT NULL,
+    status      VARCHAR(20)  NOT NULL,
+    exit_code   INTEGER,                -- 시간 초과로 강제 종료했거나 실행하지 못했으면 NULL
+    started_at  TIMESTAMPTZ  NOT NULL,
+    duration_ms BIGINT       NOT NULL
+);
+
+CREATE INDEX idx_batch_run_step_run_id ON batch_run_step (run_id);
@@ -0,0 +1,14 @@
+-- 배치 단계 출력 요약: 파이썬 프로세스 stdout/stderr 를 파싱한 결과
+ALTER TABLE batch_run_step
+    ADD COLUMN inventory_changes INTEGER,            -- "총 N건의 재고 변동" (해당 출력이 없는 단계는 NULL)
+    ADD COLUMN error_lines       INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN output_tail       TEXT;               -- 성공하지 못한 단계만 마지막 출력 몇 줄을 남김
+
+-- 단계 안의 구간별 소요 시간 ("[1/4] CGV 이벤트 크롤링 시작..." 같은 진행 표시 사이의 시간)
+CREATE TABLE batch_run_step_phase (
+    step_id     BIGINT       NOT NULL REFERENCES batch_run_step (id) ON DELETE CASCADE,
+    phase_order INTEGER      NOT NULL,
+    name        VARCHAR(200) NOT NULL,
+    duration_ms BIGINT       NOT NULL,
+    PRIMARY KEY (step_id, phase_order)
+);
@@ -0,0 +1,53 @@
+-- 노드 간 캐시 무효화 버스 (LISTEN cache_invalidation)
+-- 행을 넣으면 커밋 시점에 NOTIFY 가 나가고, 연결이 끊겼던 노드는 재접속 후 seq 로 놓친 메시지를 다시 읽음
+CREATE SEQUENCE cache_invalidation_seq;
+
+CREATE TABLE cache_invalidation (
+    seq         BIGINT       PRIMARY KEY,
+    entity_type VARCHAR(30)  NOT NULL,  -- THEATER, MOVIE, TOKEN_REVOKED
+    entity_id   VARCHAR(255) NOT NULL,  -- '*' 면 해당 종류 전체
+    created_at  TIMESTAMPTZ  NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX idx_cache_invalidation_created_at ON cache_invalidation (created_at);
+
+-- event_change_log 와 같은 방식으로 커밋 순서 = seq 순서가 되게 채번함 (재접속 후 seq 이후만 읽어도 빠지는 메시지가 없음)
+CREATE OR REPLACE FUNCTION assign_cache_invalidation_seq() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('cache_invalidation'));
+    NEW.seq := nextval('cache_invalidation_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_cache_invalidation_seq
+    BEFORE INSERT ON cache_invalidation
+    FOR EACH ROW EXECUTE FUNCTION assign_cache_invalidation_seq();
+
+-- 페이로드: seq|종류|생성 시각(epoch ms)|id  (id 는 '|' 를 포함할 수 있어 마지막에 둠)
+CREATE OR REPLACE FUNCTION notify_cache_invalidation() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('cache_invalidation',
+        NEW.seq || '|' || NEW.entity_type || '|'
+            || (extract(epoch FROM NEW.created_at) * 1000)::bigint || '|' || NEW.entity_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_cache_invalidation_notify
+    AFTER INSERT ON cache_invalidation
+    FOR EACH ROW EXECUTE FUNCTION notify_cache_invalidation();
+
+-- 이벤트/재고 변경은 변경 로그 seq 가 이미 버전 역할을 하므로 "버전이 올라갔다" 는 알림만 보냄 (seq 0)
+-- 트랜잭션 안의 같은 페이로드는 PG 가 하나로 합치므로 적재 트랜잭션 하나당 한 번만 나감
+CREATE OR REPLACE FUNCTION notify_event_change_log() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('cache_invalidation',
+        '0|EVENT|' || (extract(epoch FROM transaction_timestamp()) * 1000)::bigint || '|*');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_event_change_log_notify
+    AFTER INSERT ON event_change_log
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_event_change_log();
@@ -0,0 +1,33 @@
+-- 조회 경로 인덱스 (QueryIndexUsageTest 가 리포지토리 쿼리별로 EXPLAIN 해서 사용 여부를 확인함)
+-- 크롤러 적재와 겹쳐도 쓰기를 막지 않도록 CONCURRENTLY 로 만듦 (이 파일에는 트랜잭션 밖에서 돌 수 있는 문장만 둘 것)
+-- 중간에 실패하면 인덱스가 INVALID 로 남고 IF NOT EXISTS 가 그대로 건너뛰므로, 재시도 전에 indisvalid = false 인 인덱스를 지울 것
+
+-- event_location: (theater_id, event_id) 는 event_location_unique 가 이미 있으므로 이벤트 쪽 방향만 추가
+-- findByEventIdWithTheater / findByEventIdsWithTheater / findByEventIdAndTheaterIds
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_event_location_event_theater
+    ON event_location (event_id, theater_id);
+
+-- events: 진행 중(end_at >= now) 조회. now() 는 부분 인덱스 조건에 쓸 수 없어 end_at 범위 인덱스로 둠
+-- 종료된 이벤트가 쌓일수록 진행 중 이벤트 비율이 작아져 범위 스캔이 유리해짐
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_events_end_at
+    ON events (end_at);
+
+-- theater_subscription: 알림 발송(findByTheaterId)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_theater_subscription_theater_id
+    ON theater_subscription (theater_id);
+
+-- theater_subscription: 내 구독(findByMemberId), 구독 여부(existsBy...), 구독 극장 ID 목록(인덱스만으로 응답)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_theater_subscription_user_theater
+    ON theater_subscription (user_id, theater_id);
+
+-- event_subscription: 찜 구독자 알림(findByEventId). (user_id, event_id) 는 UNIQUE 제약이 이미 있음
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_event_subscription_event_id
+    ON event_subscription (event_id);
+
+-- members: 무효 FCM 토큰 정리(fcm_token IN (...)). 토큰 없는 회원은 뺀 부분 인덱스
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_members_fcm_token
+    ON members (fcm_token) WHERE fcm_token IS NOT NULL;
+
+-- members: 로그인/가입 중복 확인(findByEmail, existsByEmail)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_members_email
+    ON members (email);
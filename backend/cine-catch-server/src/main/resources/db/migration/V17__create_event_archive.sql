@@ -0,0 +1,24 @@
+-- 종료 이벤트 보관 테이블 (EventArchiveService 가 종료 후 보관 기간이 지난 이벤트를 재고/찜과 함께 옮김)
+-- 운영 테이블(events/event_location)에는 진행 중 + 최근 종료 이벤트만 남아, 진행 중 조회가 건너뛸 종료 행이 쌓이지 않음
+-- end_at 범위 파티셔닝 대신 보관 테이블로 둔 이유:
+--   end_at 은 크롤러가 기간을 연장하면 바뀌어 파티션 간 행 이동이 생기고,
+--   events.id 를 참조하는 FK(event_location, event_subscription)는 파티션 키(end_at)를 포함한 유일 제약을 요구함
+-- 컬럼은 운영 테이블을 그대로 따르므로, 운영 테이블에 컬럼을 추가하면 보관 테이블과 EventArchiveRepository 에도 추가할 것
+
+CREATE TABLE events_archive (LIKE events INCLUDING DEFAULTS INCLUDING CONSTRAINTS);
+ALTER TABLE events_archive
+    ADD PRIMARY KEY (id),
+    ADD COLUMN archived_at TIMESTAMP(6) NOT NULL DEFAULT now();
+
+CREATE INDEX idx_events_archive_end_at ON events_archive (end_at);
+
+CREATE TABLE event_location_archive (LIKE event_location INCLUDING DEFAULTS INCLUDING CONSTRAINTS);
+ALTER TABLE event_location_archive ADD PRIMARY KEY (id);
+
+CREATE INDEX idx_event_location_archive_event_id ON event_location_archive (event_id);
+
+-- 종료된 이벤트의 찜은 알림 대상이 아니지만 회원 데이터라 지우지 않고 함께 옮김
+CREATE TABLE event_subscription_archive (LIKE event_subscription INCLUDING DEFAULTS INCLUDING CONSTRAINTS);
+ALTER TABLE event_subscription_archive ADD PRIMARY KEY (id);
+
+CREATE INDEX idx_event_subscription_archive_user_id ON event_subscription_archive (user_id);
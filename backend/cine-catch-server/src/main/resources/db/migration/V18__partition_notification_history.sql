@@ -0,0 +1,55 @@
+-- notification_history 월별 범위 파티셔닝 (created_at)
+-- 보관 기간이 지난 달은 DELETE 대신 파티션째 지움 (NotificationHistoryPartitionService)
+-- PK 에는 파티션 키가 들어가야 하므로 (id, created_at). id 는 UUID 라 파티션 간 중복은 신경 쓰지 않음
+
+ALTER TABLE notification_history RENAME TO notification_history_legacy;
+ALTER TABLE notification_history_legacy RENAME CONSTRAINT notification_history_pkey TO notification_history_legacy_pkey;
+
+CREATE TABLE notification_history (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    member_id UUID NOT NULL REFERENCES members(id),
+    title VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+    is_read BOOLEAN NOT NULL DEFAULT false,
+    created_at TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 파티션을 미리 못 만든 달의 행이 적재 실패 대신 들어가는 곳 (평소에는 비어 있음)
+CREATE TABLE notification_history_default PARTITION OF notification_history DEFAULT;
+
+-- 내 알림 목록(최신순), 안 읽은 알림 수. 파티션마다 생기므로 전역 created_at 인덱스는 두지 않음
+CREATE INDEX idx_notification_history_member_created ON notification_history (member_id, created_at DESC);
+CREATE INDEX idx_notification_history_member_unread ON notification_history (member_id, created_at) WHERE is_read = false;
+
+-- 한 달 파티션 생성 (이미 있으면 false)
+-- 기본 파티션에 같은 달 행이 있으면 붙일 수 없으므로, 새 테이블로 옮긴 뒤 ATTACH 함
+CREATE OR REPLACE FUNCTION create_notification_history_partition(month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    from_at TIMESTAMP := date_trunc('month', month);
+    to_at   TIMESTAMP := date_trunc('month', month) + interval '1 month';
+    name    TEXT      := 'notification_history_p' || to_char(month, 'YYYYMM');
+BEGIN
+    IF to_regclass(name) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE notification_history INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', name);
+    EXECUTE format('WITH moved AS (DELETE FROM notification_history_default WHERE created_at >= %L AND created_at < %L RETURNING *)'
+                       || ' INSERT INTO %I SELECT * FROM moved', from_at, to_at, name);
+    EXECUTE format('ALTER TABLE notification_history ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)', name, from_at, to_at);
+    RETURN true;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 기존 행이 있는 달부터 3달 뒤까지 만든 뒤 옮김
+SELECT create_notification_history_partition(month::date)
+FROM generate_series(
+        date_trunc('month', coalesce((SELECT min(created_at) FROM notification_history_legacy), now())),
+        date_trunc('month', now()) + interval '3 months',
+        interval '1 month') AS month;
+
+INSERT INTO notification_history (id, member_id, title, body, is_read, created_at)
+SELECT id, member_id, title, body, is_read, created_at FROM notification_history_legacy;
+
+DROP TABLE notification_history_legacy;
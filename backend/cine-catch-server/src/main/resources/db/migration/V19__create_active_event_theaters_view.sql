@@ -0,0 +1,29 @@
+-- 진행 중 이벤트 x 극장 조회용 구체화 뷰 (극장별/주변 이벤트 목록이 매 요청 4개 테이블을 조인하지 않도록)
+-- 적재 직후 ActiveEventViewRefresher 가 REFRESH ... CONCURRENTLY 로 갱신함 (갱신 중에도 조회가 막히지 않음)
+-- 뷰의 "진행 중" 은 갱신 시각 기준이라, 조회 쪽에서 항상 end_at >= 현재 시각을 다시 걸어 거름
+-- DB 세션 시간대와 앱 시간대가 달라도 빠지는 이벤트가 없도록 하루 여유를 두고 담음
+
+CREATE MATERIALIZED VIEW active_event_theaters AS
+SELECT e.id         AS event_id,
+       e.title      AS event_title,
+       e.type       AS event_type,
+       e.start_at,
+       e.end_at,
+       m.title      AS movie_title,
+       m.image      AS movie_image,
+       t.id         AS theater_id,
+       t.name       AS theater_name,
+       t.address,
+       ST_Y(t.location) AS latitude,
+       ST_X(t.location) AS longitude,
+       el.status,
+       el.updated_at
+FROM events e
+JOIN movies m ON m.id = e.movie_title
+JOIN event_location el ON el.event_id = e.id
+JOIN theaters t ON t.id = el.theater_id
+WHERE e.end_at >= localtimestamp - interval '1 day';
+
+-- CONCURRENTLY 갱신에는 유일 인덱스가 필요함
+CREATE UNIQUE INDEX uq_active_event_theaters_event_theater ON active_event_theaters (event_id, theater_id);
+CREATE INDEX idx_active_event_theaters_theater_id ON active_event_theaters (theater_id);
@@ -0,0 +1,11 @@
+-- 종료 임박 알림/종료 처리 타이머는 모든 노드가 같은 시각에 울리므로, 먼저 이 테이블에 행을 넣은 노드만 실행함
+-- end_at 을 키에 넣어, 크롤러가 종료일을 바꾸면 바뀐 일정으로 다시 울릴 수 있음
+-- 이벤트가 지워지거나(크롤러) 보관 테이블로 옮겨지면 함께 지워짐
+CREATE TABLE event_timer_claim (
+    event_id   VARCHAR(255) NOT NULL REFERENCES events (id) ON DELETE CASCADE,
+    timer      VARCHAR(20)  NOT NULL,  -- REMIND_<시간>, EXPIRE
+    end_at     TIMESTAMP(6) NOT NULL,
+    node_id    VARCHAR(255) NOT NULL,
+    claimed_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+    PRIMARY KEY (event_id, timer, end_at)
+);
@@ -0,0 +1,16 @@
+-- 방해 금지 시간대에 보류한 알림 (재시작/배포 중에도 유실되지 않도록 DB 에 보관)
+-- release_at 은 방해 금지가 끝나는 시각을 버킷 경계로 올린 값이며, 리더 노드가 주기적으로 지난 행을 꺼내 일괄 발송함
+CREATE TABLE deferred_push (
+    id           BIGSERIAL    PRIMARY KEY,
+    release_at   TIMESTAMPTZ  NOT NULL,
+    fcm_token    VARCHAR(512) NOT NULL,
+    type         VARCHAR(30)  NOT NULL,
+    title        VARCHAR(255) NOT NULL,
+    body         TEXT         NOT NULL,
+    collapse_key VARCHAR(255),
+    expires_at   TIMESTAMPTZ,
+    data         JSONB        NOT NULL DEFAULT '{}',
+    created_at   TIMESTAMPTZ  NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_deferred_push_release_at ON deferred_push (release_at);
@@ -0,0 +1,19 @@
+-- event_change_log / cache_invalidation 채번에서 전역 advisory lock 제거 (V11, V15)
+-- 락으로 커밋 순서 = seq 순서를 맞추던 방식은 모든 적재/아카이브 트랜잭션을 커밋까지 한 줄로 세웠으므로,
+-- 대신 행마다 쓴 트랜잭션 id(txid) 를 남기고 읽는 쪽이 끝난 트랜잭션의 행만 읽음
+--   txid < pg_snapshot_xmin(pg_current_snapshot()) 인 트랜잭션은 모두 커밋/롤백이 끝나 뒤늦게 나타나는 행이 없음
+--   커서(워터마크)는 이 xmin 값이고, 같은 범위 안에서는 (txid, seq) 순으로 읽음
+-- 오래 열린 쓰기 트랜잭션이 있으면 xmin 이 그 앞에 머물러 변경 전달이 늦어질 뿐, 빠지는 변경은 없음
+-- 기존 행은 이 마이그레이션의 txid 를 받음 (이전 seq 커서를 가진 클라이언트는 커서를 다시 받아야 함)
+
+DROP TRIGGER trg_event_change_log_seq ON event_change_log;
+DROP FUNCTION assign_event_change_seq();
+ALTER TABLE event_change_log ALTER COLUMN seq SET DEFAULT nextval('event_change_log_seq');
+ALTER TABLE event_change_log ADD COLUMN txid xid8 NOT NULL DEFAULT pg_current_xact_id();
+CREATE INDEX idx_event_change_log_txid_seq ON event_change_log (txid, seq);
+
+DROP TRIGGER trg_cache_invalidation_seq ON cache_invalidation;
+DROP FUNCTION assign_cache_invalidation_seq();
+ALTER TABLE cache_invalidation ALTER COLUMN seq SET DEFAULT nextval('cache_invalidation_seq');
+ALTER TABLE cache_invalidation ADD COLUMN txid xid8 NOT NULL DEFAULT pg_current_xact_id();
+CREATE INDEX idx_cache_invalidation_txid ON cache_invalidation (txid);
@@ -0,0 +1,9 @@
+-- active_event_theaters 를 마지막으로 갱신할 때 반영된 데이터 버전 (event_change_log 워터마크)
+-- 모든 노드가 읽기 모델 버전이 오를 때마다 뷰 갱신을 요청하지만, 이 값보다 새 버전일 때 락을 잡은 한 노드만 갱신함
+CREATE TABLE active_event_view_state (
+    id           SMALLINT     PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+    version      BIGINT       NOT NULL,
+    refreshed_at TIMESTAMP(6) NOT NULL DEFAULT now()
+);
+
+INSERT INTO active_event_view_state (version) VALUES (0);
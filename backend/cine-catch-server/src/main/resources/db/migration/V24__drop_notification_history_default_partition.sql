@@ -0,0 +1,32 @@
+-- 보관 기간이 지난 달은 DETACH PARTITION ... CONCURRENTLY 로 떼어 낸 뒤 지움 (부모 테이블 조회/적재를 막지 않음)
+-- 기본 파티션이 있으면 CONCURRENTLY 로 뗄 수 없으므로 기본 파티션을 없앰
+-- 대신 파티션이 없는 달의 행은 들어갈 곳이 없으므로, 여기서 이번 달부터 3달 뒤까지 만들고
+-- 이후로는 NotificationHistoryPartitionService 가 기동할 때와 하루 한 번 premake-months 달 뒤까지 미리 만들어 둠
+
+-- 기본 파티션에 들어가 있던 행은 그 달 파티션을 만들어 옮김 (create_notification_history_partition 이 기본 파티션에서 옮겨 붙임)
+SELECT create_notification_history_partition(month::date)
+FROM (SELECT DISTINCT date_trunc('month', created_at) AS month FROM notification_history_default) AS months;
+
+DROP TABLE notification_history_default;
+
+-- 한 달 파티션 생성 (이미 있으면 false). 옮길 기본 파티션이 없으므로 바로 파티션으로 만듦
+-- 여러 노드가 동시에 기동해 같은 달을 만들려 해도 하나만 만들도록 트랜잭션 잠금을 잡고 확인함
+CREATE OR REPLACE FUNCTION create_notification_history_partition(month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    from_at TIMESTAMP := date_trunc('month', month);
+    to_at   TIMESTAMP := date_trunc('month', month) + interval '1 month';
+    name    TEXT      := 'notification_history_p' || to_char(month, 'YYYYMM');
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('notification_history_partition'));
+    IF to_regclass(name) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF notification_history FOR VALUES FROM (%L) TO (%L)', name, from_at, to_at);
+    RETURN true;
+END;
+$$ LANGUAGE plpgsql;
+
+-- V18 이 만든 범위는 V18 을 실행한 시점 기준이라 이미 지났을 수 있으므로 이번 달부터 다시 만듦 (premake-months 기본값 3)
+SELECT create_notification_history_partition((date_trunc('month', localtimestamp) + make_interval(months => m))::date)
+FROM generate_series(0, 3) AS m;
@@ -0,0 +1,203 @@
+package com.project.cinecatch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 쿼리별 인덱스 사용 회귀 테스트 (V16__add_hot_path_indexes.sql)
+ * - 마이그레이션이 끝난 PostgreSQL 이 있어야 하므로 QUERY_PLAN_DB_URL 이 있을 때만 돎
+ *   예) QUERY_PLAN_DB_URL=jdbc:postgresql://localhost:5432/cinecatch QUERY_PLAN_DB_USER=cinecatch ./gradlew test --tests '*QueryIndexUsageTest'
+ * - 빈 테이블은 통계가 없어 플래너가 아무 인덱스나 고르므로, 롤백할 트랜잭션 안에서 운영과 비슷한 분포의 데이터를 넣고 ANALYZE 한 뒤
+ *   대상 테이블을 순차 스캔하지 않고 기대한 인덱스를 쓰는지 확인함
+ * - SQL 은 각 JPQL/파생 쿼리를 Hibernate 가 만드는 모양대로 옮긴 것. 리포지토리 쿼리를 바꾸면 여기도 맞출 것
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "QUERY_PLAN_DB_URL", matches = ".+")
+class QueryIndexUsageTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    record QueryPlanCase(String query, String table, String expectedIndex, String sql) {
+
+        @Override
+        public String toString() {
+            return query;
+        }
+    }
+
+    @BeforeAll
+    void connect() {
+        dataSource = new SingleConnectionDataSource(System.getenv("QUERY_PLAN_DB_URL"),
+                System.getenv().getOrDefault("QUERY_PLAN_DB_USER", "cinecatch"),
+                System.getenv().getOrDefault("QUERY_PLAN_DB_PASSWORD", ""), true);
+        dataSource.setAutoCommit(false);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        seed();
+    }
+
+    @AfterAll
+    void disconnect() throws SQLException {
+        try {
+            dataSource.getConnection().rollback();
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    /**
+     * 종료 이벤트가 대부분이고 이벤트당 극장 10곳, 회원당 구독 몇 건인 분포로 채움 (ID 는 qp- 접두어라 기존 데이터와 겹치지 않음)
+     */
+    private void seed() {
+        jdbcTemplate.execute("""
+                INSERT INTO movies (id, title)
+                SELECT 'qp-M' || g, '영화 ' || g FROM generate_series(1, 50) g""");
+        jdbcTemplate.execute("""
+                INSERT INTO theaters (id, name, brand, address, location)
+                SELECT 'qp-T' || g, '극장 ' || g, 'CGV', '주소 ' || g, 'SRID=4326;POINT(127 37.5)'
+                FROM generate_series(1, 200) g""");
+        jdbcTemplate.execute("""
+                INSERT INTO events (id, movie_title, title, type, start_at, end_at, created_at)
+                SELECT 'qp-E' || g, 'qp-M' || (g % 50 + 1), '이벤트 ' || g, 'GOODS',
+                       localtimestamp - interval '60 days',
+                       CASE WHEN g % 20 = 0 THEN localtimestamp + interval '7 days'
+                            ELSE localtimestamp - make_interval(days => g % 365 + 1) END,
+                       localtimestamp
+                FROM generate_series(1, 5000) g""");
+        jdbcTemplate.execute("""
+                INSERT INTO event_location (id, event_id, theater_id, status, updated_at)
+                SELECT 'qp-L' || g || '-' || k, 'qp-E' || g, 'qp-T' || ((g * 7 + k) % 200 + 1), 'AVAILABLE', localtimestamp
+                FROM generate_series(1, 5000) g, generate_series(0, 9) k""");
+        jdbcTemplate.execute("""
+                INSERT INTO members (id, email, password, nickname, role, fcm_token, created_at)
+                SELECT ('00000000-0000-0000-0000-' || lpad(g::text, 12, '0'))::uuid, 'qp' || g || '@example.com',
+                       'password', 'qp' || g, 'USER', CASE WHEN g % 2 = 0 THEN 'qp-token-' || g END, localtimestamp
+                FROM generate_series(1, 5000) g""");
+        jdbcTemplate.execute("""
+                INSERT INTO theater_subscription (id, user_id, theater_id, created_at)
+                SELECT gen_random_uuid(), ('00000000-0000-0000-0000-' || lpad(g::text, 12, '0'))::uuid,
+                       'qp-T' || ((g + k * 37) % 200 + 1), localtimestamp
+                FROM generate_series(1, 5000) g, generate_series(0, 4) k""");
+        jdbcTemplate.execute("""
+                INSERT INTO event_subscription (id, user_id, event_id, created_at)
+                SELECT gen_random_uuid(), ('00000000-0000-0000-0000-' || lpad(g::text, 12, '0'))::uuid,
+                       'qp-E' || ((g + k * 1013) % 5000 + 1), localtimestamp
+                FROM generate_series(1, 5000) g, generate_series(0, 2) k""");
+        jdbcTemplate.execute("REFRESH MATERIALIZED VIEW active_event_theaters");
+        jdbcTemplate.execute("ANALYZE movies, theaters, events, event_location, members, theater_subscription, "
+                + "event_subscription, active_event_theaters");
+    }
+
+    Stream<QueryPlanCase> queries() {
+        return Stream.of(
+                // EventLocationRepository
+                new QueryPlanCase("EventLocationRepository.findByEventIdWithTheater", "event_location",
+                        "idx_event_location_event_theater", """
+                        SELECT el.*, t.* FROM event_location el JOIN theaters t ON t.id = el.theater_id
+                        WHERE el.event_id = 'qp-E1'"""),
+                new QueryPlanCase("EventLocationRepository.findByEventIdsWithTheater", "event_location",
+                        "idx_event_location_event_theater", """
+                        SELECT el.*, t.* FROM event_location el JOIN theaters t ON t.id = el.theater_id
+                        WHERE el.event_id IN ('qp-E1', 'qp-E2', 'qp-E3')"""),
+                new QueryPlanCase("EventLocationRepository.findByEventIdAndTheaterIds", "event_location",
+                        "idx_event_location_event_theater", """
+                        SELECT el.*, t.* FROM event_location el JOIN theaters t ON t.id = el.theater_id
+                        WHERE el.event_id = 'qp-E1' AND el.theater_id IN ('qp-T1', 'qp-T2')"""),
+
+                // ActiveEventTheaterRepository (active_event_theaters 구체화 뷰)
+                new QueryPlanCase("ActiveEventTheaterRepository.findByTheaterId", "active_event_theaters",
+                        "idx_active_event_theaters_theater_id", """
+                        SELECT * FROM active_event_theaters
+                        WHERE theater_id = 'qp-T1' AND end_at > localtimestamp
+                        ORDER BY start_at DESC, event_id"""),
+                new QueryPlanCase("ActiveEventTheaterRepository.findByTheaterIds", "active_event_theaters",
+                        "idx_active_event_theaters_theater_id", """
+                        SELECT * FROM active_event_theaters
+                        WHERE theater_id IN ('qp-T1', 'qp-T2') AND end_at >= localtimestamp
+                        ORDER BY start_at DESC, event_id, theater_id"""),
+
+                // EventRepository
+                new QueryPlanCase("EventRepository.findActiveEvents", "events", "idx_events_end_at", """
+                        SELECT e.*, m.* FROM events e JOIN movies m ON m.id = e.movie_title
+                        WHERE e.end_at >= localtimestamp ORDER BY e.start_at DESC"""),
+                new QueryPlanCase("EventRepository.findByMovieTitleContaining", "events", "idx_events_end_at", """
+                        SELECT e.*, m.* FROM events e JOIN movies m ON m.id = e.movie_title
+                        WHERE m.title LIKE '%영화 1%' AND e.end_at >= localtimestamp"""),
+
+                // SubscriptionRepository
+                new QueryPlanCase("SubscriptionRepository.findByMemberId", "theater_subscription",
+                        "idx_theater_subscription_user_theater", """
+                        SELECT ts.* FROM theater_subscription ts
+                        WHERE ts.user_id = '00000000-0000-0000-0000-000000000001'"""),
+                new QueryPlanCase("SubscriptionRepository.findTheaterIdsByMemberId", "theater_subscription",
+                        "idx_theater_subscription_user_theater", """
+                        SELECT ts.theater_id FROM theater_subscription ts
+                        WHERE ts.user_id = '00000000-0000-0000-0000-000000000001'"""),
+                new QueryPlanCase("SubscriptionRepository.existsByMemberIdAndTheaterId", "theater_subscription",
+                        "idx_theater_subscription_user_theater", """
+                        SELECT ts.id FROM theater_subscription ts
+                        WHERE ts.user_id = '00000000-0000-0000-0000-000000000001' AND ts.theater_id = 'qp-T1'
+                        FETCH FIRST 1 ROWS ONLY"""),
+                new QueryPlanCase("SubscriptionRepository.findByTheaterId", "theater_subscription",
+                        "idx_theater_subscription_theater_id", """
+                        SELECT ts.* FROM theater_subscription ts WHERE ts.theater_id = 'qp-T1'"""),
+
+                // EventFavoriteRepository
+                new QueryPlanCase("EventFavoriteRepository.findEventIdsByMemberId", "event_subscription",
+                        "event_subscription_user_id_event_id_key", """
+                        SELECT es.event_id FROM event_subscription es
+                        WHERE es.user_id = '00000000-0000-0000-0000-000000000001'"""),
+                new QueryPlanCase("EventFavoriteRepository.existsByMemberIdAndEventId", "event_subscription",
+                        "event_subscription_user_id_event_id_key", """
+                        SELECT es.id FROM event_subscription es
+                        WHERE es.user_id = '00000000-0000-0000-0000-000000000001' AND es.event_id = 'qp-E1'
+                        FETCH FIRST 1 ROWS ONLY"""),
+                new QueryPlanCase("EventFavoriteRepository.findByEventId", "event_subscription",
+                        "idx_event_subscription_event_id", """
+                        SELECT es.* FROM event_subscription es WHERE es.event_id = 'qp-E1'"""),
+
+                // MemberRepository
+                new QueryPlanCase("MemberRepository.findByEmail", "members", "idx_members_email", """
+                        SELECT m.* FROM members m WHERE m.email = 'qp1@example.com'"""),
+                new QueryPlanCase("MemberRepository.clearInvalidFcmTokens", "members", "idx_members_fcm_token", """
+                        UPDATE members SET fcm_token = NULL WHERE fcm_token IN ('qp-token-2', 'qp-token-4')""")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void 쿼리가_인덱스로_풀림(QueryPlanCase query) throws Exception {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + query.sql(), String.class);
+        List<JsonNode> nodes = new ArrayList<>();
+        collect(objectMapper.readTree(plan).get(0).get("Plan"), nodes);
+
+        assertThat(nodes)
+                .as("%s 실행 계획:%n%s", query.query(), plan)
+                .noneMatch(node -> "Seq Scan".equals(node.path("Node Type").asText())
+                        && query.table().equals(node.path("Relation Name").asText()))
+                .anyMatch(node -> query.expectedIndex().equals(node.path("Index Name").asText()));
+    }
+
+    private void collect(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, nodes);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.cinecatch.domain.event.service;
+
+import com.project.cinecatch.domain.event.dto.EventResponse;
+import com.project.cinecatch.domain.event.entity.Event;
+import com.project.cinecatch.domain.event.entity.EventChangeLog;
+import com.project.cinecatch.domain.event.repository.EventChangeLogRepository;
+import com.project.cinecatch.domain.event.repository.EventLocationRepository;
+import com.project.cinecatch.domain.event.repository.EventRepository;
+import com.project.cinecatch.domain.movie.entity.Movie;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveEventReadModelTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventLocationRepository eventLocationRepository;
+
+    @Mock
+    private EventChangeLogRepository eventChangeLogRepository;
+
+    @InjectMocks
+    private ActiveEventReadModel readModel;
+
+    private Event event(String id, LocalDateTime endAt) {
+        Movie movie = mock(Movie.class);
+        lenient().when(movie.getTitle()).thenReturn("영화 " + id);
+        Event event = mock(Event.class);
+        lenient().when(event.getId()).thenReturn(id);
+        lenient().when(event.getTitle()).thenReturn("굿즈 " + id);
+        lenient().when(event.getMovie()).thenReturn(movie);
+        lenient().when(event.getStartAt()).thenReturn(endAt.minusDays(7));
+        lenient().when(event.getEndAt()).thenReturn(endAt);
+        return event;
+    }
+
+    private EventChangeLog change(long txid, long seq, EventChangeLog.ChangeType type, String eventId, String theaterId) {
+        EventChangeLog log = mock(EventChangeLog.class);
+        lenient().when(log.getTxid()).thenReturn(txid);
+        lenient().when(log.getSeq()).thenReturn(seq);
+        when(log.getChangeType()).thenReturn(type);
+        when(log.getEventId()).thenReturn(eventId);
+        lenient().when(log.getTheaterId()).thenReturn(theaterId);
+        return log;
+    }
+
+    @Test
+    void applyChangesAfter_바뀐_이벤트만_다시_읽고_만료는_제거() {
+        LocalDateTime endAt = LocalDateTime.now().plusDays(3);
+        List<Event> active = List.of(event("E1", endAt), event("E2", endAt), event("E3", endAt));
+        when(eventChangeLogRepository.findWatermark()).thenReturn(10L, 20L);
+        when(eventRepository.findActiveEvents(any())).thenReturn(active);
+        when(eventLocationRepository.findByEventIdsWithTheater(anyCollection())).thenReturn(List.of());
+        readModel.loadAll();
+
+        List<EventChangeLog> changes = List.of(
+                change(11, 5, EventChangeLog.ChangeType.LOCATION, "E1", "T1"),
+                change(12, 3, EventChangeLog.ChangeType.EXPIRED, "E2", null)
+        );
+        when(eventChangeLogRepository.findCommittedChanges(10L, 20L, ActiveEventReadModel.CHANGE_PAGE_SIZE))
+                .thenReturn(changes);
+        List<Event> reloaded = List.of(event("E1", endAt));
+        when(eventRepository.findAllWithMovieByIdIn(Set.of("E1"))).thenReturn(reloaded);
+
+        ActiveEventReadModel.ChangeSet changeSet = readModel.applyChangesAfter(10L);
+
+        assertThat(changeSet.version()).isEqualTo(20L);
+        assertThat(changeSet.eventIds()).containsExactly("E1");
+        assertThat(changeSet.theaterIds()).containsExactly("T1");
+        assertThat(changeSet.expiredEventIds()).containsExactly("E2");
+        assertThat(readModel.findActiveEvents(LocalDateTime.now()).orElseThrow())
+                .extracting(EventResponse::getEventId)
+                .containsExactlyInAnyOrder("E1", "E3");
+    }
+
+    @Test
+    void findActiveEvents_적재_전이면_empty_종료된_이벤트는_거름() {
+        assertThat(readModel.findActiveEvents(LocalDateTime.now())).isEmpty();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Event> active = List.of(event("E1", now.plusHours(1)), event("E2", now.plusHours(3)));
+        when(eventRepository.findActiveEvents(any())).thenReturn(active);
+        when(eventLocationRepository.findByEventIdsWithTheater(anyCollection())).thenReturn(List.of());
+        readModel.loadAll();
+
+        assertThat(readModel.findActiveEvents(now.plusHours(2)).orElseThrow())
+                .extracting(EventResponse::getEventId)
+                .containsExactly("E2");
+    }
+}
@@ -0,0 +1,79 @@
+package com.project.cinecatch.domain.event.service;
+
+import com.project.cinecatch.domain.event.repository.ActiveEventTheaterRepository;
+import com.project.cinecatch.global.event.InventoryVersionChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveEventViewRefresherTest {
+
+    @Mock
+    private ActiveEventTheaterRepository activeEventTheaterRepository;
+
+    private ActiveEventViewRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        refresher = new ActiveEventViewRefresher(activeEventTheaterRepository);
+    }
+
+    @Test
+    void drain_갱신_중에_온_요청은_끝난_뒤_한_번_더_갱신함() {
+        // 갱신이 도는 상태에서 시작 (새 스레드 없이 drain 을 직접 돌림)
+        ((AtomicBoolean) ReflectionTestUtils.getField(refresher, "running")).set(true);
+        refresher.requestRefresh();
+
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                // 첫 갱신 중에 두 요청이 더 들어옴 -> 한 번으로 묶임
+                refresher.requestRefresh();
+                refresher.requestRefresh();
+            }
+            return null;
+        }).when(activeEventTheaterRepository).refresh();
+
+        refresher.drain();
+
+        verify(activeEventTheaterRepository, times(2)).refresh();
+        assertThat((AtomicBoolean) ReflectionTestUtils.getField(refresher, "running")).isFalse();
+    }
+
+    @Test
+    void drain_갱신이_실패해도_다음_요청을_받음() {
+        ((AtomicBoolean) ReflectionTestUtils.getField(refresher, "running")).set(true);
+        refresher.requestRefresh();
+        doThrow(new IllegalStateException("lock timeout")).when(activeEventTheaterRepository).refresh();
+
+        refresher.drain();
+
+        verify(activeEventTheaterRepository, times(1)).refresh();
+        assertThat((AtomicBoolean) ReflectionTestUtils.getField(refresher, "running")).isFalse();
+    }
+
+    @Test
+    void drain_버전_변경은_가장_높은_버전_하나로_묶어_뷰가_뒤처졌을_때만_갱신함() {
+        ((AtomicBoolean) ReflectionTestUtils.getField(refresher, "running")).set(true);
+        refresher.onInventoryVersionChanged(new InventoryVersionChangedEvent(7L, Set.of("e1"), Set.of("t1"), Set.of()));
+        refresher.onInventoryVersionChanged(new InventoryVersionChangedEvent(5L, Set.of("e2"), Set.of("t2"), Set.of()));
+        when(activeEventTheaterRepository.refreshIfBehind(7L)).thenReturn(false);
+
+        refresher.drain();
+
+        verify(activeEventTheaterRepository).refreshIfBehind(7L);
+        verify(activeEventTheaterRepository, never()).refresh();
+        assertThat((AtomicBoolean) ReflectionTestUtils.getField(refresher, "running")).isFalse();
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.cinecatch.domain.event.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.project.cinecatch.domain.event.repository.InventoryIngestionRepository.EventRow;
+import com.project.cinecatch.domain.event.repository.InventoryIngestionRepository.LocationRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CrawlSnapshotReaderTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    private final List<EventRow> events = new ArrayList<>();
+    private final List<List<LocationRow>> locationBatches = new ArrayList<>();
+
+    private final CrawlSnapshotReader.Sink sink = new CrawlSnapshotReader.Sink() {
+        @Override
+        public void events(List<EventRow> batch) {
+            events.addAll(batch);
+        }
+
+        @Override
+        public void locations(List<LocationRow> batch) {
+            // 배치는 재사용되므로 복사해 둠
+            locationBatches.add(List.copyOf(batch));
+        }
+    };
+
+    @Test
+    void read_NDJSON과_JSON배열을_같은_행으로_펼침() throws IOException {
+        String first = "{\"event_no\": \"1\", \"movie_title\": \"A\", \"event_title\": \"포스터\", \"start_date\": \"20260101\", "
+                + "\"end_date\": \"\", \"regions\": {\"서울\": [{\"theater\": \"강남\", \"status\": \"보유\"}]}}";
+        String second = "{\"event_no\": 2, \"movie_title\": \"B\", \"event_title\": \"배지\", \"extra\": {\"x\": [1]}, "
+                + "\"regions\": {\"부산\": [{\"theater\": \"서면\", \"status\": \"소진\"}, {\"theater\": \"해운대\"}]}}";
+
+        CrawlSnapshotReader.Stats ndjson = read(first + "\n" + second + "\n", 10);
+        List<EventRow> ndjsonEvents = List.copyOf(events);
+        List<List<LocationRow>> ndjsonLocations = List.copyOf(locationBatches);
+        events.clear();
+        locationBatches.clear();
+        CrawlSnapshotReader.Stats array = read("[" + first + "," + second + "]", 10);
+
+        assertThat(array).isEqualTo(ndjson).isEqualTo(new CrawlSnapshotReader.Stats(2, 2));
+        assertThat(events).isEqualTo(ndjsonEvents).containsExactly(
+                new EventRow("1", "A", "A - 포스터", LocalDateTime.of(2026, 1, 1, 0, 0), NOW),
+                new EventRow("2", "B", "B - 배지", NOW, NOW));
+        assertThat(locationBatches).isEqualTo(ndjsonLocations).containsExactly(List.of(
+                new LocationRow("1", "강남", "보유"),
+                new LocationRow("2", "서면", "소진")));
+    }
+
+    @Test
+    void read_batchSize_단위로_나눠_넘김() throws IOException {
+        read("""
+                {"event_no": "1", "movie_title": "A", "regions": {"서울": [
+                  {"theater": "a", "status": "s"}, {"theater": "b", "status": "s"}, {"theater": "c", "status": "s"}],
+                  "경기": [{"theater": "d", "status": "s"}, {"theater": "e", "status": "s"}]}}
+                """, 2);
+
+        assertThat(locationBatches).extracting(List::size).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void read_regions가_event_no보다_먼저_와도_이벤트_번호를_붙임() throws IOException {
+        read("{\"regions\": {\"서울\": [{\"theater\": \"강남\", \"status\": \"보유\"}]}, \"event_no\": \"7\", \"movie_title\": \"A\"}", 10);
+
+        assertThat(locationBatches).containsExactly(List.of(new LocationRow("7", "강남", "보유")));
+    }
+
+    @Test
+    void read_날짜_형식이_틀리면_IOException() {
+        assertThatThrownBy(() -> read("{\"event_no\": \"1\", \"movie_title\": \"A\", \"start_date\": \"2026-01-01\"}", 10))
+                .isInstanceOf(IOException.class);
+    }
+
+    private CrawlSnapshotReader.Stats read(String json, int batchSize) throws IOException {
+        return new CrawlSnapshotReader(new JsonFactory(), batchSize, NOW)
+                .read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), sink);
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.cinecatch.domain.event.service;
+
+import com.project.cinecatch.domain.event.repository.EventArchiveRepository;
+import com.project.cinecatch.global.batch.BatchJobRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventArchiveServiceTest {
+
+    @Mock
+    private BatchJobRunner batchJobRunner;
+
+    @Mock
+    private EventArchiveRepository eventArchiveRepository;
+
+    private EventArchiveService eventArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        eventArchiveService = new EventArchiveService(batchJobRunner, eventArchiveRepository);
+        ReflectionTestUtils.setField(eventArchiveService, "batchSize", 2);
+    }
+
+    @Test
+    void archiveEndedBefore_배치가_덜_찰_때까지_반복해서_옮김() throws Exception {
+        LocalDateTime cutoff = LocalDateTime.of(2026, 9, 1, 0, 0);
+        when(eventArchiveRepository.moveEndedBefore(cutoff, 2)).thenReturn(
+                new EventArchiveRepository.MoveResult(2, 20, 1),
+                new EventArchiveRepository.MoveResult(2, 20, 0),
+                new EventArchiveRepository.MoveResult(1, 10, 0));
+
+        int archived = eventArchiveService.archiveEndedBefore(cutoff);
+
+        assertThat(archived).isEqualTo(5);
+        verify(eventArchiveRepository, times(3)).moveEndedBefore(cutoff, 2);
+    }
+
+    @Test
+    void archiveEndedBefore_옮길_이벤트가_없으면_한_번만_조회함() throws Exception {
+        LocalDateTime cutoff = LocalDateTime.of(2026, 9, 1, 0, 0);
+        when(eventArchiveRepository.moveEndedBefore(cutoff, 2))
+                .thenReturn(new EventArchiveRepository.MoveResult(0, 0, 0));
+
+        assertThat(eventArchiveService.archiveEndedBefore(cutoff)).isZero();
+        verify(eventArchiveRepository, times(1)).moveEndedBefore(cutoff, 2);
+    }
+}
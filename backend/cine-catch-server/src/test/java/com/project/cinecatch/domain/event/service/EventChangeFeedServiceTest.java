@@ -0,0 +1,127 @@
+package com.project.cinecatch.domain.event.service;
+
+import com.project.cinecatch.domain.event.dto.EventChangesResponse;
+import com.project.cinecatch.domain.event.entity.EventChangeLog;
+import com.project.cinecatch.domain.event.repository.EventChangeLogRepository;
+import com.project.cinecatch.domain.event.repository.EventLocationRepository;
+import com.project.cinecatch.domain.event.repository.EventRepository;
+import com.project.cinecatch.domain.theater.repository.TheaterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventChangeFeedServiceTest {
+
+    @Mock
+    private EventChangeLogRepository eventChangeLogRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventLocationRepository eventLocationRepository;
+
+    @Mock
+    private TheaterRepository theaterRepository;
+
+    @InjectMocks
+    private EventChangeFeedService eventChangeFeedService;
+
+    private EventChangeLog change(long txid, EventChangeLog.ChangeType type, String eventId,
+                                  String theaterId, String oldStatus, String newStatus) {
+        EventChangeLog log = mock(EventChangeLog.class);
+        lenient().when(log.getTxid()).thenReturn(txid);
+        lenient().when(log.getChangeType()).thenReturn(type);
+        lenient().when(log.getEventId()).thenReturn(eventId);
+        lenient().when(log.getTheaterId()).thenReturn(theaterId);
+        lenient().when(log.getOldStatus()).thenReturn(oldStatus);
+        lenient().when(log.getNewStatus()).thenReturn(newStatus);
+        lenient().when(log.getChangedAt()).thenReturn(LocalDateTime.now());
+        return log;
+    }
+
+    @Test
+    void getChanges_같은_극장의_연속_변경은_처음_이전상태와_마지막_상태로_접음() {
+        List<EventChangeLog> changes = List.of(
+                change(11, EventChangeLog.ChangeType.LOCATION, "E1", "T1", "보유", "소량"),
+                change(12, EventChangeLog.ChangeType.LOCATION, "E1", "T1", "소량", "마감"),
+                change(13, EventChangeLog.ChangeType.LOCATION, "E2", "T1", "보유", "마감"),
+                change(14, EventChangeLog.ChangeType.EXPIRED, "E2", null, null, null)
+        );
+        when(eventChangeLogRepository.findWatermark()).thenReturn(20L);
+        when(eventChangeLogRepository.findCommittedChanges(10L, 20L, 501)).thenReturn(changes);
+        when(theaterRepository.findAllById(anyCollection())).thenReturn(List.of());
+
+        EventChangesResponse response = eventChangeFeedService.getChanges(10L, null);
+
+        assertThat(response.getCursor()).isEqualTo(20L);
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.getLocations()).hasSize(1);
+        EventChangesResponse.LocationChange location = response.getLocations().get(0);
+        assertThat(location.getEventId()).isEqualTo("E1");
+        assertThat(location.getOldStatus()).isEqualTo("보유");
+        assertThat(location.getStatus()).isEqualTo("마감");
+        assertThat(response.getExpiredEventIds()).containsExactly("E2");
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getChanges_limit_초과분이_있으면_트랜잭션_경계에서_자르고_hasMore() {
+        List<EventChangeLog> changes = List.of(
+                change(1, EventChangeLog.ChangeType.EXPIRED, "E1", null, null, null),
+                change(2, EventChangeLog.ChangeType.EXPIRED, "E2", null, null, null),
+                change(2, EventChangeLog.ChangeType.EXPIRED, "E3", null, null, null)
+        );
+        when(eventChangeLogRepository.findWatermark()).thenReturn(5L);
+        when(eventChangeLogRepository.findCommittedChanges(0L, 5L, 3)).thenReturn(changes);
+
+        EventChangesResponse response = eventChangeFeedService.getChanges(0L, 2);
+
+        // txid 2 는 limit 에 걸쳐 있으므로 다음 페이지에서 통째로 내려줌
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(response.getCursor()).isEqualTo(2L);
+        assertThat(response.getExpiredEventIds()).containsExactly("E1");
+    }
+
+    @Test
+    void getChanges_트랜잭션_하나가_limit_보다_크면_그_트랜잭션_끝까지_이어_읽음() {
+        List<EventChangeLog> page = List.of(
+                change(3, EventChangeLog.ChangeType.EXPIRED, "E1", null, null, null),
+                change(3, EventChangeLog.ChangeType.EXPIRED, "E2", null, null, null),
+                change(3, EventChangeLog.ChangeType.EXPIRED, "E3", null, null, null)
+        );
+        EventChangeLog last = page.get(2);
+        when(last.getSeq()).thenReturn(30L);
+        List<EventChangeLog> rest = List.of(change(3, EventChangeLog.ChangeType.EXPIRED, "E4", null, null, null));
+        when(eventChangeLogRepository.findWatermark()).thenReturn(5L);
+        when(eventChangeLogRepository.findCommittedChanges(0L, 5L, 3)).thenReturn(page);
+        when(eventChangeLogRepository.findCommittedChangesAfter(3L, 30L, 4L, 2)).thenReturn(rest);
+
+        EventChangesResponse response = eventChangeFeedService.getChanges(0L, 2);
+
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(response.getCursor()).isEqualTo(4L);
+        assertThat(response.getExpiredEventIds()).containsExactly("E1", "E2", "E3", "E4");
+    }
+
+    @Test
+    void getChanges_워터마크가_커서보다_앞서지_않으면_커서_유지() {
+        when(eventChangeLogRepository.findWatermark()).thenReturn(40L);
+
+        EventChangesResponse response = eventChangeFeedService.getChanges(42L, null);
+
+        assertThat(response.getCursor()).isEqualTo(42L);
+        assertThat(response.getEvents()).isEmpty();
+        verify(eventChangeLogRepository, never()).findCommittedChanges(anyLong(), anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,108 @@
+package com.project.cinecatch.domain.event.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cinecatch.domain.event.dto.InventoryIngestionResponse;
+import com.project.cinecatch.domain.event.repository.InventoryIngestionRepository;
+import com.project.cinecatch.global.event.InventoryChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryIngestionServiceTest {
+
+    @Mock
+    private InventoryIngestionRepository inventoryIngestionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private InventoryIngestionService inventoryIngestionService;
+
+    @BeforeEach
+    void setUp() {
+        inventoryIngestionService = new InventoryIngestionService(
+                inventoryIngestionRepository, eventPublisher, new ObjectMapper());
+        ReflectionTestUtils.setField(inventoryIngestionService, "batchSize", 2);
+    }
+
+    @Test
+    void ingest_배치마다_COPY하고_seq를_이어서_매김() {
+        // 배치 리스트는 파서가 재사용하므로 호출 시점에 복사해 둠
+        List<String> copied = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<InventoryIngestionRepository.LocationRow> batch = invocation.getArgument(0);
+            copied.add(invocation.getArgument(1) + ":" + batch.stream()
+                    .map(InventoryIngestionRepository.LocationRow::theaterName).toList());
+            return (long) batch.size();
+        }).when(inventoryIngestionRepository).copyLocations(anyList(), anyLong());
+        List<InventoryIngestionRepository.EventRow> copiedEvents = new ArrayList<>();
+        doAnswer(invocation -> {
+            copiedEvents.addAll(invocation.getArgument(0));
+            return 1L;
+        }).when(inventoryIngestionRepository).copyEvents(anyList(), anyLong());
+        List<InventoryChangedEvent.Change> changes = List.of(new InventoryChangedEvent.Change(
+                "100", "영화 - 포스터", "t1", "강남", null, "보유", LocalDateTime.now()));
+        when(inventoryIngestionRepository.mergeLocations()).thenReturn(changes);
+
+        InventoryIngestionResponse response = inventoryIngestionService.ingest(json("""
+                [{"movie_title": "영화", "event_title": "포스터", "start_date": "20260101", "end_date": "20260131",
+                  "event_no": 100, "regions": {"서울": [
+                    {"theater": "강남", "status": "보유"}, {"theater": "용산", "status": "소진"},
+                    {"theater": "신촌", "status": "보유"}]}}]
+                """));
+
+        assertThat(copied).containsExactly("0:[강남, 용산]", "2:[신촌]");
+        assertThat(copiedEvents).containsExactly(new InventoryIngestionRepository.EventRow(
+                "100", "영화", "영화 - 포스터",
+                LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 31, 0, 0)));
+
+        ArgumentCaptor<InventoryChangedEvent> published = ArgumentCaptor.forClass(InventoryChangedEvent.class);
+        verify(eventPublisher).publishEvent(published.capture());
+        assertThat(published.getValue().changes()).isEqualTo(changes);
+        assertThat(response.getEvents()).isEqualTo(1);
+        assertThat(response.getLocations()).isEqualTo(3);
+    }
+
+    @Test
+    void ingest_변경이_없으면_이벤트를_발행하지_않음() {
+        when(inventoryIngestionRepository.mergeLocations()).thenReturn(List.of());
+
+        inventoryIngestionService.ingest(json("{\"event_no\": \"100\", \"movie_title\": \"영화\"}"));
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void ingest_깨진_스냅샷은_400으로_거절() {
+        assertThatThrownBy(() -> inventoryIngestionService.ingest(json("[{\"event_no\": ")))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("400");
+        verify(inventoryIngestionRepository, never()).mergeLocations();
+        verify(inventoryIngestionRepository, never()).copyLocations(any(), anyLong());
+    }
+
+    private InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.cinecatch.domain.member.service;
+
+import com.project.cinecatch.domain.member.dto.LoginRequest;
+import com.project.cinecatch.domain.member.entity.Member;
+import com.project.cinecatch.domain.member.repository.MemberRepository;
+import com.project.cinecatch.global.security.JwtTokenProvider;
+import com.project.cinecatch.global.security.LegacyMemberIdResolver;
+import com.project.cinecatch.global.security.PasswordHashingExecutor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private LegacyMemberIdResolver legacyMemberIdResolver;
+
+    @InjectMocks
+    private MemberService memberService;
+
+    @Test
+    void login_없는_이메일도_해시_비교를_거친_뒤_실패() {
+        when(memberRepository.findByEmail("none@test.com")).thenReturn(Optional.empty());
+        when(passwordHashingExecutor.matchesNothing("password")).thenReturn(CompletableFuture.completedFuture(false));
+
+        CompletableFuture<?> result = memberService.login(new LoginRequest("none@test.com", "password"));
+
+        assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("가입되지 않은 이메일입니다.");
+        verify(passwordHashingExecutor).matchesNothing("password");
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    void login_비밀번호가_틀리면_실패() {
+        Member member = Member.builder().email("user@test.com").password("hashed").nickname("user").build();
+        when(memberRepository.findByEmail("user@test.com")).thenReturn(Optional.of(member));
+        when(passwordHashingExecutor.matches("wrong", "hashed")).thenReturn(CompletableFuture.completedFuture(false));
+
+        CompletableFuture<?> result = memberService.login(new LoginRequest("user@test.com", "wrong"));
+
+        assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("비밀번호가 일치하지 않습니다.");
+        verify(passwordHashingExecutor, never()).matchesNothing(any());
+    }
+}
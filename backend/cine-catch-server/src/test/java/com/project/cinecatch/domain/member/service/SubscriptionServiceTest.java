@@ -0,0 +1,53 @@
+package com.project.cinecatch.domain.member.service;
+
+import com.project.cinecatch.domain.member.dto.SubscriptionRequest;
+import com.project.cinecatch.domain.member.repository.MemberRepository;
+import com.project.cinecatch.domain.member.repository.SubscriptionRepository;
+import com.project.cinecatch.domain.theater.entity.Theater;
+import com.project.cinecatch.domain.theater.repository.TheaterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubscriptionServiceTest {
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private TheaterRepository theaterRepository;
+
+    @InjectMocks
+    private SubscriptionService subscriptionService;
+
+    @Test
+    void subscribe_탈퇴한_회원의_토큰이면_저장하지_않고_401() {
+        UUID memberId = UUID.randomUUID();
+        Theater theater = mock(Theater.class);
+        when(theater.getId()).thenReturn("CGV_0001");
+        when(theaterRepository.findById("CGV_0001")).thenReturn(Optional.of(theater));
+        when(memberRepository.findById(memberId)).thenReturn(Optional.empty());
+        SubscriptionRequest request = mock(SubscriptionRequest.class);
+        when(request.getTheaterId()).thenReturn("CGV_0001");
+
+        assertThatThrownBy(() -> subscriptionService.subscribe(memberId, request))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+        verify(subscriptionRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.cinecatch.domain.member.service;
+
+import com.project.cinecatch.domain.member.entity.RevokedToken;
+import com.project.cinecatch.domain.member.repository.RevokedTokenRepository;
+import com.project.cinecatch.global.cache.InvalidationBus;
+import com.project.cinecatch.global.cache.InvalidationType;
+import com.project.cinecatch.global.event.CacheInvalidatedEvent;
+import com.project.cinecatch.global.event.TokenRevokedEvent;
+import com.project.cinecatch.global.security.JwtPrincipal;
+import com.project.cinecatch.global.security.RevokedTokenStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    private static final Instant EXPIRES_AT = Instant.parse("2030-01-01T00:00:00Z");
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final RevokedTokenStore revokedTokenStore = new RevokedTokenStore();
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(
+                revokedTokenRepository, revokedTokenStore, invalidationBus, eventPublisher);
+    }
+
+    @Test
+    void revoke_호출한_트랜잭션_안에서는_버스에_넣지_않고_커밋_뒤_전파할_이벤트만_발행() {
+        UUID memberId = UUID.randomUUID();
+        when(revokedTokenRepository.insertIfAbsent("jti-1", memberId, EXPIRES_AT)).thenReturn(1);
+
+        boolean revoked = tokenRevocationService.revoke(new JwtPrincipal(memberId, "a@test.com", "USER", "jti-1", EXPIRES_AT));
+
+        assertThat(revoked).isTrue();
+        assertThat(revokedTokenStore.isRevoked("jti-1")).isTrue();
+        verify(eventPublisher).publishEvent(new TokenRevokedEvent("jti-1", EXPIRES_AT));
+        verifyNoInteractions(invalidationBus);
+    }
+
+    @Test
+    void publish_버스_발행이_실패해도_예외를_던지지_않음() {
+        doThrow(new IllegalStateException("connection refused"))
+                .when(invalidationBus).publish(eq(InvalidationType.TOKEN_REVOKED), anyString());
+
+        tokenRevocationService.publish(new TokenRevokedEvent("jti-1", EXPIRES_AT));
+
+        verify(invalidationBus).publish(InvalidationType.TOKEN_REVOKED, "jti-1@" + EXPIRES_AT.getEpochSecond());
+    }
+
+    @Test
+    void onCacheInvalidated_전체_알림이면_폐기_목록을_DB_에서_다시_읽음() {
+        RevokedToken missed = mock(RevokedToken.class);
+        when(missed.getTokenId()).thenReturn("jti-missed");
+        when(missed.getExpiresAt()).thenReturn(EXPIRES_AT);
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenReturn(List.of(missed));
+
+        tokenRevocationService.onCacheInvalidated(new CacheInvalidatedEvent(InvalidationType.TOKEN_REVOKED, "*", true));
+
+        assertThat(revokedTokenStore.isRevoked("jti-missed")).isTrue();
+        verify(revokedTokenRepository).deleteExpired(any());
+    }
+}
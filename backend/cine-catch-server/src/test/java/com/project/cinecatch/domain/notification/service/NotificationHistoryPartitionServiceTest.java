@@ -0,0 +1,67 @@
+package com.project.cinecatch.domain.notification.service;
+
+import com.project.cinecatch.domain.notification.repository.NotificationHistoryPartitionRepository;
+import com.project.cinecatch.global.batch.BatchJobRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationHistoryPartitionServiceTest {
+
+    @Mock
+    private BatchJobRunner batchJobRunner;
+
+    @Mock
+    private NotificationHistoryPartitionRepository partitionRepository;
+
+    private NotificationHistoryPartitionService partitionService;
+
+    @BeforeEach
+    void setUp() {
+        partitionService = new NotificationHistoryPartitionService(batchJobRunner, partitionRepository);
+        ReflectionTestUtils.setField(partitionService, "retentionMonths", 6);
+        ReflectionTestUtils.setField(partitionService, "premakeMonths", 2);
+    }
+
+    @Test
+    void maintain_앞으로_쓸_달을_만들고_보관_기간이_지난_달만_지움() {
+        when(partitionRepository.createPartition(any())).thenReturn(false);
+        when(partitionRepository.findPartitionMonths()).thenReturn(List.of(
+                YearMonth.of(2026, 3), YearMonth.of(2026, 4), YearMonth.of(2026, 5), YearMonth.of(2026, 10)));
+
+        partitionService.maintain(LocalDateTime.of(2026, 10, 19, 4, 0));
+
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 10));
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 11));
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 12));
+        // 보관 경계(4월 19일)가 걸친 4월은 남김
+        verify(partitionRepository).dropPartition(YearMonth.of(2026, 3));
+        verify(partitionRepository, never()).dropPartition(YearMonth.of(2026, 4));
+        verify(partitionRepository, times(1)).dropPartition(any());
+    }
+
+    @Test
+    void premakeOnStartup_배치를_거치지_않고_앞으로_쓸_달만_만듦() {
+        YearMonth current = YearMonth.now();
+        when(partitionRepository.createPartition(any())).thenReturn(true);
+
+        partitionService.premakeOnStartup();
+
+        verify(partitionRepository).createPartition(current);
+        verify(partitionRepository).createPartition(current.plusMonths(2));
+        verify(partitionRepository, times(3)).createPartition(any());
+        verify(partitionRepository, never()).dropPartition(any());
+        verifyNoInteractions(batchJobRunner);
+    }
+}
@@ -1,7 +1,6 @@
 package com.project.cinecatch.domain.notification.service;
 
 import com.project.cinecatch.domain.member.entity.Member;
-import com.project.cinecatch.domain.member.repository.MemberRepository;
 import com.project.cinecatch.domain.notification.entity.NotificationHistory;
 import com.project.cinecatch.domain.notification.repository.NotificationHistoryRepository;
 import org.junit.jupiter.api.Test;
@@ -10,14 +9,16 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,9 +27,6 @@ class NotificationHistoryServiceTest {
     @Mock
     private NotificationHistoryRepository notificationHistoryRepository;
 
-    @Mock
-    private MemberRepository memberRepository;
-
     @InjectMocks
     private NotificationHistoryService notificationHistoryService;
 
@@ -58,13 +56,13 @@ class NotificationHistoryServiceTest {
     @Test
     void getNotifications_알림_목록_조회() {
         Member member = createMember("user@test.com");
-        when(memberRepository.findByEmail("user@test.com")).thenReturn(Optional.of(member));
+        UUID memberId = UUID.randomUUID();
 
         NotificationHistory notification = NotificationHistory.create(member, "제목", "내용");
-        when(notificationHistoryRepository.findByMemberIdOrderByCreatedAtDesc(member.getId()))
+        when(notificationHistoryRepository.findRecentByMemberId(eq(memberId), any(LocalDateTime.class)))
                 .thenReturn(List.of(notification));
 
-        List<NotificationHistory> result = notificationHistoryService.getNotifications("user@test.com");
+        List<NotificationHistory> result = notificationHistoryService.getNotifications(memberId);
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getTitle()).isEqualTo("제목");
@@ -72,29 +70,30 @@ class NotificationHistoryServiceTest {
 
     @Test
     void markAsRead_읽음_처리() {
-        Member member = createMember("user@test.com");
-        when(memberRepository.findByEmail("user@test.com")).thenReturn(Optional.of(member));
+        ReflectionTestUtils.setField(notificationHistoryService, "retentionMonths", 6);
+        UUID memberId = UUID.randomUUID();
 
         UUID notificationId = UUID.randomUUID();
-        NotificationHistory notification = NotificationHistory.create(member, "제목", "내용");
-        when(notificationHistoryRepository.findByIdAndMemberId(notificationId, member.getId()))
-                .thenReturn(Optional.of(notification));
+        when(notificationHistoryRepository.markRecentAsRead(eq(notificationId), eq(memberId), any(LocalDateTime.class)))
+                .thenReturn(1);
 
-        notificationHistoryService.markAsRead("user@test.com", notificationId);
+        notificationHistoryService.markAsRead(memberId, notificationId);
 
-        assertThat(notification.isRead()).isTrue();
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationHistoryRepository).markRecentAsRead(eq(notificationId), eq(memberId), since.capture());
+        assertThat(since.getValue()).isBetween(
+                LocalDateTime.now().minusMonths(6).minusMinutes(1), LocalDateTime.now().minusMonths(6));
     }
 
     @Test
     void markAsRead_존재하지_않는_알림() {
-        Member member = createMember("user@test.com");
-        when(memberRepository.findByEmail("user@test.com")).thenReturn(Optional.of(member));
+        UUID memberId = UUID.randomUUID();
 
         UUID notificationId = UUID.randomUUID();
-        when(notificationHistoryRepository.findByIdAndMemberId(notificationId, member.getId()))
-                .thenReturn(Optional.empty());
+        when(notificationHistoryRepository.markRecentAsRead(eq(notificationId), eq(memberId), any(LocalDateTime.class)))
+                .thenReturn(0);
 
-        assertThatThrownBy(() -> notificationHistoryService.markAsRead("user@test.com", notificationId))
+        assertThatThrownBy(() -> notificationHistoryService.markAsRead(memberId, notificationId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("알림을 찾을 수 없습니다.");
     }
@@ -102,11 +101,24 @@ class NotificationHistoryServiceTest {
     @Test
     void getUnreadCount_읽지않은_수_조회() {
         Member member = createMember("user@test.com");
-        when(memberRepository.findByEmail("user@test.com")).thenReturn(Optional.of(member));
-        when(notificationHistoryRepository.countByMemberIdAndIsReadFalse(member.getId())).thenReturn(5);
+        UUID memberId = UUID.randomUUID();
+        when(notificationHistoryRepository.countRecentUnreadByMemberId(eq(memberId), any(LocalDateTime.class))).thenReturn(5);
 
-        int count = notificationHistoryService.getUnreadCount("user@test.com");
+        int count = notificationHistoryService.getUnreadCount(memberId);
 
         assertThat(count).isEqualTo(5);
     }
+
+    @Test
+    void getNotifications_보관_기간_안의_알림만_조회() {
+        ReflectionTestUtils.setField(notificationHistoryService, "retentionMonths", 6);
+        UUID memberId = UUID.randomUUID();
+
+        notificationHistoryService.getNotifications(memberId);
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationHistoryRepository).findRecentByMemberId(eq(memberId), since.capture());
+        assertThat(since.getValue()).isBetween(
+                LocalDateTime.now().minusMonths(6).minusMinutes(1), LocalDateTime.now().minusMonths(6));
+    }
 }
@@ -0,0 +1,105 @@
+package com.project.cinecatch.global.batch;
+
+import com.project.cinecatch.global.event.BatchStepCompletedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class BatchExecutionTest {
+
+    private static final File WORKING_DIR = new File(System.getProperty("java.io.tmpdir"));
+
+    private final BatchRunStepRepository stepRepository = mock(BatchRunStepRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final BatchExecution execution =
+            new BatchExecution(BatchRun.start("event", "node-1"), stepRepository, meterRegistry, eventPublisher);
+
+    @Test
+    void runStep_종료코드로_성공_실패_판정() throws Exception {
+        BatchExecution.StepResult ok = execution.runStep("ok", WORKING_DIR, Duration.ofSeconds(10), List.of("true"));
+        BatchExecution.StepResult failed = execution.runStep("fail", WORKING_DIR, Duration.ofSeconds(10), List.of("false"));
+
+        assertThat(ok.status()).isEqualTo(BatchStatus.SUCCEEDED);
+        assertThat(failed.status()).isEqualTo(BatchStatus.FAILED);
+        assertThat(failed.exitCode()).isEqualTo(1);
+        assertThat(execution.status()).isEqualTo(BatchStatus.FAILED);
+        assertThat(meterRegistry.get("batch.step").tag("step", "fail").tag("status", "FAILED").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void runStep_출력을_파싱해_이력_메트릭_이벤트로_남김(@TempDir Path tempDir) throws Exception {
+        String script = """
+                echo '🚀 데이터 가공 파이프라인 가동...'
+                echo '📡 [1/2] CGV 이벤트 크롤링 시작...'
+                echo '❌ [123] 상세 수집 실패: timeout' >&2
+                echo '💾 [2/2] 크롤링 데이터 DB 저장...'
+                echo '✅ 총 7건의 재고 변동을 감지하여 업데이트했습니다!'
+                """;
+
+        // 명령행 인자는 로캘 인코딩을 타므로 UTF-8 파일로 넘김
+        Path scriptFile = tempDir.resolve("main.sh");
+        Files.writeString(scriptFile, script, StandardCharsets.UTF_8);
+
+        BatchExecution.StepResult result =
+                execution.runStep("main.py", WORKING_DIR, Duration.ofSeconds(10), List.of("sh", scriptFile.toString()));
+
+        assertThat(result.status()).isEqualTo(BatchStatus.SUCCEEDED);
+        assertThat(result.inventoryChanges()).isEqualTo(7);
+
+        ArgumentCaptor<BatchRunStep> saved = ArgumentCaptor.forClass(BatchRunStep.class);
+        verify(stepRepository).save(saved.capture());
+        BatchRunStep step = saved.getValue();
+        assertThat(step.getInventoryChanges()).isEqualTo(7);
+        assertThat(step.getErrorLines()).isEqualTo(1);
+        assertThat(step.getOutputTail()).isNull();
+        assertThat(step.getPhases()).extracting(BatchStepPhase::getName)
+                .containsExactly("[1/2] CGV 이벤트 크롤링 시작...", "[2/2] 크롤링 데이터 DB 저장...");
+
+        assertThat(meterRegistry.get("batch.inventory.changes").counter().count()).isEqualTo(7);
+        assertThat(meterRegistry.get("batch.step.phase").tag("phase", "[2/2]").timer().count()).isEqualTo(1);
+        ArgumentCaptor<BatchStepCompletedEvent> event = ArgumentCaptor.forClass(BatchStepCompletedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().phaseDurationsMs()).hasSize(2);
+    }
+
+    @Test
+    void runStep_시간_제한_초과시_프로세스_종료하고_TIMED_OUT() throws Exception {
+        long started = System.nanoTime();
+
+        BatchExecution.StepResult result =
+                execution.runStep("hang", WORKING_DIR, Duration.ofMillis(200), List.of("sleep", "30"));
+
+        assertThat(result.status()).isEqualTo(BatchStatus.TIMED_OUT);
+        assertThat(result.exitCode()).isNull();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(10));
+        assertThat(execution.status()).isEqualTo(BatchStatus.TIMED_OUT);
+
+        ArgumentCaptor<BatchRunStep> saved = ArgumentCaptor.forClass(BatchRunStep.class);
+        verify(stepRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(BatchStatus.TIMED_OUT);
+    }
+
+    @Test
+    void runStep_실행할_수_없는_명령은_FAILED() throws Exception {
+        BatchExecution.StepResult result = execution.runStep("missing", WORKING_DIR, Duration.ofSeconds(1),
+                List.of("/nonexistent/python3"));
+
+        assertThat(result.status()).isEqualTo(BatchStatus.FAILED);
+        assertThat(execution.status()).isEqualTo(BatchStatus.FAILED);
+    }
+}
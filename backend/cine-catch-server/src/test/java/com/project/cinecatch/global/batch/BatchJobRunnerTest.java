@@ -0,0 +1,64 @@
+package com.project.cinecatch.global.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BatchJobRunnerTest {
+
+    private static final Duration HOURLY = Duration.ofHours(1);
+
+    private final BatchLeaderLock batchLeaderLock = mock(BatchLeaderLock.class);
+    private final BatchRunRepository batchRunRepository = mock(BatchRunRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BatchJobRunner batchJobRunner = new BatchJobRunner(batchLeaderLock, batchRunRepository,
+            mock(BatchRunStepRepository.class), meterRegistry, mock(ApplicationEventPublisher.class));
+
+    @Test
+    void run_이번_주기에_다른_노드가_이미_실행했으면_락을_잡아도_건너뜀() throws Exception {
+        BatchLeaderLock.Lease lease = mock(BatchLeaderLock.Lease.class);
+        when(batchLeaderLock.tryAcquire("event")).thenReturn(Optional.of(lease));
+        when(batchRunRepository.existsByJobNameAndStatusInAndStartedAtGreaterThanEqual(eq("event"), anyCollection(), any()))
+                .thenReturn(true);
+        BatchJobRunner.BatchJob job = mock(BatchJobRunner.BatchJob.class);
+
+        Optional<BatchStatus> status = batchJobRunner.run("event", HOURLY, job);
+
+        assertThat(status).isEmpty();
+        verify(job, never()).run(any());
+        verify(batchRunRepository, never()).save(any());
+        verify(lease).close();
+        assertThat(meterRegistry.get("batch.run.skipped").tag("reason", "done").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void run_이번_주기에_실행이_없으면_실행하고_이력을_남김() throws Exception {
+        BatchLeaderLock.Lease lease = mock(BatchLeaderLock.Lease.class);
+        when(batchLeaderLock.tryAcquire("event")).thenReturn(Optional.of(lease));
+        when(batchRunRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Optional<BatchStatus> status = batchJobRunner.run("event", HOURLY, execution -> { });
+
+        assertThat(status).contains(BatchStatus.SUCCEEDED);
+        verify(batchRunRepository).existsByJobNameAndStatusInAndStartedAtGreaterThanEqual(
+                eq("event"), eq(EnumSet.of(BatchStatus.RUNNING, BatchStatus.SUCCEEDED)), any());
+        verify(lease).close();
+    }
+
+    @Test
+    void periodStart_주기_단위로_내림한_구간_시작() {
+        assertThat(BatchJobRunner.periodStart(Instant.parse("2026-10-19T13:42:10Z"), HOURLY))
+                .isEqualTo(Instant.parse("2026-10-19T13:00:00Z"));
+        assertThat(BatchJobRunner.periodStart(Instant.parse("2026-10-19T13:42:10Z"), Duration.ofDays(1)))
+                .isEqualTo(Instant.parse("2026-10-19T00:00:00Z"));
+    }
+}
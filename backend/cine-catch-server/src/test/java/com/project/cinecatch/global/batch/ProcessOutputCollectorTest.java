@@ -0,0 +1,40 @@
+package com.project.cinecatch.global.batch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProcessOutputCollectorTest {
+
+    @Test
+    void accept_마지막_줄만_보관() {
+        ProcessOutputCollector collector = new ProcessOutputCollector("event", "crawler.py", 2, 100);
+
+        collector.accept("a", false);
+        collector.accept("b", false);
+        collector.accept("c", true);
+
+        ProcessOutputCollector.Summary summary = collector.finish();
+        assertThat(summary.lines()).isEqualTo(3);
+        assertThat(summary.tail()).isEqualTo("b\nc");
+    }
+
+    @Test
+    void accept_변동_없음_출력은_0건() {
+        ProcessOutputCollector collector = new ProcessOutputCollector("event", "main.py", 10, 100);
+
+        collector.accept("✨ 변동 사항이 없습니다. DB가 최신 상태입니다.", false);
+
+        assertThat(collector.finish().inventoryChanges()).isZero();
+    }
+
+    @Test
+    void accept_항목별_진행_표시는_구간으로_보지_않음() {
+        ProcessOutputCollector collector = new ProcessOutputCollector("theater", "geocoder.py", 10, 100);
+
+        collector.accept("[1/300] CGV 강남: (37.5, 127.0)", false);
+        collector.accept("[2/300] CGV 용산: (37.5, 126.9)", false);
+
+        assertThat(collector.finish().phases()).isEmpty();
+    }
+}
@@ -0,0 +1,65 @@
+package com.project.cinecatch.global.cache;
+
+import com.project.cinecatch.global.event.CacheInvalidatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class InvalidationBusTest {
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InvalidationBus bus = new InvalidationBus(
+            mock(JdbcTemplate.class), new DataSourceProperties(), eventPublisher, meterRegistry);
+
+    @Test
+    void parse_id_에_구분자가_있어도_마지막_필드로_읽음() {
+        InvalidationMessage message = InvalidationMessage.parse("7|TOKEN_REVOKED|1700000000000|a|b@1700003600");
+
+        assertThat(message.seq()).isEqualTo(7);
+        assertThat(message.type()).isEqualTo(InvalidationType.TOKEN_REVOKED);
+        assertThat(message.entityId()).isEqualTo("a|b@1700003600");
+        assertThatThrownBy(() -> InvalidationMessage.parse("EVENT")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void handle_전달하고_모드별_지연을_기록() {
+        long now = System.currentTimeMillis();
+
+        bus.handle(new InvalidationMessage(5, InvalidationType.THEATER, now, "T1"), false);
+        bus.handle(new InvalidationMessage(6, InvalidationType.MOVIE, now - 2_000, "*"), true);
+
+        verify(eventPublisher).publishEvent(new CacheInvalidatedEvent(InvalidationType.THEATER, "T1", false));
+        verify(eventPublisher).publishEvent(new CacheInvalidatedEvent(InvalidationType.MOVIE, "*", true));
+        verifyNoMoreInteractions(eventPublisher);
+        assertThat(meterRegistry.get("cache.invalidation.lag").tag("mode", "catchup").timer()
+                .max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(2_000);
+    }
+
+    @Test
+    void handle_seq_없는_버전_알림은_매번_전달() {
+        bus.handle(new InvalidationMessage(0, InvalidationType.EVENT, System.currentTimeMillis(), "*"), false);
+        bus.handle(new InvalidationMessage(0, InvalidationType.EVENT, System.currentTimeMillis(), "*"), false);
+
+        verify(eventPublisher, times(2)).publishEvent(new CacheInvalidatedEvent(InvalidationType.EVENT, "*", false));
+    }
+
+    @Test
+    void broadcast_버스를_끈_단일_노드에서는_자기_노드에_바로_전달() {
+        bus.broadcast(InvalidationType.EVENT_STATUS, List.of("E1|T1|2026-10-01T09:30|보유", "E2||2026-10-01T09:30|마감"));
+
+        verify(eventPublisher).publishEvent(
+                new CacheInvalidatedEvent(InvalidationType.EVENT_STATUS, "E1|T1|2026-10-01T09:30|보유", false));
+        verify(eventPublisher).publishEvent(
+                new CacheInvalidatedEvent(InvalidationType.EVENT_STATUS, "E2||2026-10-01T09:30|마감", false));
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.cinecatch.global.config;
+
+import com.project.cinecatch.domain.event.dto.DataVersionResponse;
+import com.project.cinecatch.domain.event.service.InventoryIngestionService;
+import com.project.cinecatch.domain.event.service.InventoryRefreshService;
+import com.project.cinecatch.global.controller.IngestionController;
+import com.project.cinecatch.global.controller.NotificationController;
+import com.project.cinecatch.global.security.InternalApiTokenFilter;
+import com.project.cinecatch.global.security.JwtTokenProvider;
+import com.project.cinecatch.global.security.LegacyMemberIdResolver;
+import com.project.cinecatch.global.service.EventNotificationService;
+import com.project.cinecatch.global.sse.EventStreamHub;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 내부 API 는 공개 체인이 아니라 공유 비밀 체인을 타야 함 (토큰 없이는 적재/알림 호출 불가)
+ */
+@WebMvcTest(controllers = {IngestionController.class, NotificationController.class})
+@Import(SecurityConfig.class)
+@TestPropertySource(properties = "internal.api.token=test-internal-token")
+class InternalApiSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private InventoryIngestionService inventoryIngestionService;
+
+    @MockitoBean
+    private InventoryRefreshService inventoryRefreshService;
+
+    @MockitoBean
+    private EventNotificationService eventNotificationService;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private LegacyMemberIdResolver legacyMemberIdResolver;
+
+    @MockitoBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @MockitoBean
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private EventStreamHub eventStreamHub;
+
+    @Test
+    void 토큰_없이_내부_API_를_호출하면_401() throws Exception {
+        mockMvc.perform(post("/api/internal/ingestion/inventory")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{}"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/internal/ingestion/complete"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/internal/notifications/status-change")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(inventoryIngestionService, inventoryRefreshService, eventNotificationService);
+    }
+
+    @Test
+    void 틀린_토큰은_401_맞는_토큰은_통과() throws Exception {
+        when(inventoryRefreshService.refresh()).thenReturn(DataVersionResponse.builder().version(1L).build());
+
+        mockMvc.perform(post("/api/internal/ingestion/complete")
+                        .header(InternalApiTokenFilter.HEADER, "wrong-token"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/internal/ingestion/complete")
+                        .header(InternalApiTokenFilter.HEADER, "test-internal-token"))
+                .andExpect(status().isOk());
+
+        verify(inventoryRefreshService).refresh();
+    }
+}
@@ -0,0 +1,116 @@
+package com.project.cinecatch.global.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ReplicaDataSourceTest {
+
+    private static final double MAX_LAG = 10;
+
+    private final DataSource primary = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+
+    @Test
+    void getConnection_헬스_체크_전에는_primary_사용() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary,
+                List.of(new ReplicaDataSource.Replica("replica-1", replicaWithLag(0.0).dataSource)), MAX_LAG);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_정상_복제본끼리_번갈아_사용() throws Exception {
+        MockReplica first = replicaWithLag(0.5);
+        MockReplica second = replicaWithLag(2.0);
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(
+                new ReplicaDataSource.Replica("replica-1", first.dataSource),
+                new ReplicaDataSource.Replica("replica-2", second.dataSource)), MAX_LAG);
+
+        dataSource.checkHealth();
+
+        assertThat(List.of(dataSource.getConnection(), dataSource.getConnection()))
+                .containsExactlyInAnyOrder(first.connection, second.connection);
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void checkHealth_지연이_한도를_넘으면_제외하고_primary로_대체() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        MockReplica lagging = replicaWithLag(30.0);
+        ReplicaDataSource.Replica replica = new ReplicaDataSource.Replica("replica-1", lagging.dataSource);
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(replica), MAX_LAG);
+
+        dataSource.checkHealth();
+
+        assertThat(replica.isHealthy()).isFalse();
+        assertThat(replica.lagSeconds()).isEqualTo(30);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_획득_실패한_복제본은_바로_제외() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        MockReplica broken = replicaWithLag(0.0);
+        ReplicaDataSource.Replica replica = new ReplicaDataSource.Replica("replica-1", broken.dataSource);
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(replica), MAX_LAG);
+        dataSource.checkHealth();
+        when(broken.dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(replica.isHealthy()).isFalse();
+    }
+
+    @Test
+    void checkHealth_WAL_수신이_끊겨_지연을_알_수_없으면_제외() throws Exception {
+        MockReplica disconnected = replicaWithLag(null);
+        ReplicaDataSource.Replica replica = new ReplicaDataSource.Replica("replica-1", disconnected.dataSource);
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(replica), MAX_LAG);
+
+        dataSource.checkHealth();
+
+        assertThat(replica.isHealthy()).isFalse();
+        assertThat(replica.lagSeconds()).isEqualTo(-1);
+    }
+
+    @Test
+    void getConnection_계정을_지정하면_그_계정으로_복제본에_접속() throws Exception {
+        MockReplica healthy = replicaWithLag(0.0);
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary,
+                List.of(new ReplicaDataSource.Replica("replica-1", healthy.dataSource)), MAX_LAG);
+        dataSource.checkHealth();
+        Connection reporting = mock(Connection.class);
+        when(healthy.dataSource.getConnection("reporting", "secret")).thenReturn(reporting);
+
+        assertThat(dataSource.getConnection("reporting", "secret")).isSameAs(reporting);
+        verify(primary, never()).getConnection(anyString(), anyString());
+    }
+
+    private record MockReplica(DataSource dataSource, Connection connection) {}
+
+    /**
+     * lagSeconds 가 null 이면 LAG_QUERY 가 NULL 을 돌려준 경우 (WAL 수신 끊김)
+     */
+    private MockReplica replicaWithLag(Double lagSeconds) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagSeconds != null ? lagSeconds : 0);
+        when(resultSet.wasNull()).thenReturn(lagSeconds == null);
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(ReplicaDataSource.LAG_QUERY)).thenReturn(resultSet);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return new MockReplica(dataSource, connection);
+    }
+}
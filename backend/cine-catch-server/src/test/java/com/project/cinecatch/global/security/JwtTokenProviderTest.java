@@ -0,0 +1,112 @@
+package com.project.cinecatch.global.security;
+
+import com.project.cinecatch.domain.member.dto.TokenResponse;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final UUID MEMBER_ID = UUID.randomUUID();
+    private static final String SECRET = "test-secret-key-test-secret-key-test-secret";
+
+    private RevokedTokenStore revokedTokenStore;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenStore = new RevokedTokenStore();
+        jwtTokenProvider = new JwtTokenProvider(revokedTokenStore);
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedCacheMaxSize", 100);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    void resolvePrincipal_한번의_검증으로_이메일과_권한_추출() {
+        String token = jwtTokenProvider.createToken(MEMBER_ID, "user@test.com", "USER").getAccessToken();
+
+        JwtPrincipal principal = jwtTokenProvider.resolvePrincipal(token);
+
+        assertThat(principal.memberId()).isEqualTo(MEMBER_ID);
+        assertThat(principal.email()).isEqualTo("user@test.com");
+        assertThat(principal.role()).isEqualTo("USER");
+        assertThat(principal.expiresAt()).isNotNull();
+    }
+
+    @Test
+    void resolvePrincipal_두번째_호출은_캐시된_principal_반환() {
+        String token = jwtTokenProvider.createToken(MEMBER_ID, "user@test.com", "USER").getAccessToken();
+
+        JwtPrincipal first = jwtTokenProvider.resolvePrincipal(token);
+        JwtPrincipal second = jwtTokenProvider.resolvePrincipal(token);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void resolvePrincipal_서명이_변조된_토큰은_null() {
+        String token = jwtTokenProvider.createToken(MEMBER_ID, "user@test.com", "USER").getAccessToken();
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(jwtTokenProvider.resolvePrincipal(tampered)).isNull();
+        assertThat(jwtTokenProvider.resolvePrincipal("not-a-jwt")).isNull();
+    }
+
+    @Test
+    void resolvePrincipal_memberId_클레임_없는_이전_토큰은_memberId_null() {
+        String legacyToken = Jwts.builder()
+                .setSubject("user@test.com")
+                .claim("role", "USER")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Base64.getEncoder().encode(SECRET.getBytes())), SignatureAlgorithm.HS256)
+                .compact();
+
+        JwtPrincipal principal = jwtTokenProvider.resolvePrincipal(legacyToken);
+
+        assertThat(principal.memberId()).isNull();
+        assertThat(principal.email()).isEqualTo("user@test.com");
+    }
+
+    @Test
+    void resolvePrincipal_폐기된_토큰은_캐시에_있어도_null() {
+        String token = jwtTokenProvider.createToken(MEMBER_ID, "user@test.com", "USER").getAccessToken();
+        JwtPrincipal principal = jwtTokenProvider.resolvePrincipal(token);
+
+        revokedTokenStore.revoke(principal.tokenId(), principal.expiresAt());
+
+        assertThat(jwtTokenProvider.resolvePrincipal(token)).isNull();
+    }
+
+    @Test
+    void 리프레시_토큰과_액세스_토큰은_서로_대신_쓸_수_없음() {
+        TokenResponse tokens = jwtTokenProvider.createToken(MEMBER_ID, "user@test.com", "USER");
+
+        assertThat(jwtTokenProvider.resolvePrincipal(tokens.getRefreshToken())).isNull();
+        assertThat(jwtTokenProvider.resolveRefreshToken(tokens.getAccessToken())).isNull();
+
+        JwtPrincipal refresh = jwtTokenProvider.resolveRefreshToken(tokens.getRefreshToken());
+        assertThat(refresh.memberId()).isEqualTo(MEMBER_ID);
+        assertThat(refresh.tokenId()).isNotNull();
+    }
+
+    @Test
+    void resolveRefreshToken_폐기된_리프레시_토큰은_null() {
+        String refreshToken = jwtTokenProvider.createToken(MEMBER_ID, "user@test.com", "USER").getRefreshToken();
+        JwtPrincipal refresh = jwtTokenProvider.resolveRefreshToken(refreshToken);
+
+        assertThat(revokedTokenStore.revoke(refresh.tokenId(), refresh.expiresAt())).isTrue();
+        assertThat(revokedTokenStore.revoke(refresh.tokenId(), refresh.expiresAt())).isFalse();
+
+        assertThat(jwtTokenProvider.resolveRefreshToken(refreshToken)).isNull();
+    }
+}
@@ -0,0 +1,85 @@
+package com.project.cinecatch.global.security;
+
+import com.project.cinecatch.domain.member.entity.Member;
+import com.project.cinecatch.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LegacyMemberIdResolverTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private LegacyMemberIdResolver legacyMemberIdResolver;
+
+    private final JwtPrincipal legacyPrincipal =
+            new JwtPrincipal(null, "user@test.com", "USER", null, Instant.now().plusSeconds(60));
+
+    @Test
+    void resolve_이메일로_회원ID를_채우고_재요청은_캐시() {
+        UUID memberId = UUID.randomUUID();
+        Member member = mock(Member.class);
+        when(member.getId()).thenReturn(memberId);
+        when(memberRepository.findByEmail("user@test.com")).thenReturn(Optional.of(member));
+
+        JwtPrincipal first = legacyMemberIdResolver.resolve(legacyPrincipal);
+        JwtPrincipal second = legacyMemberIdResolver.resolve(legacyPrincipal);
+
+        assertThat(first.memberId()).isEqualTo(memberId);
+        assertThat(second.memberId()).isEqualTo(memberId);
+        verify(memberRepository, times(1)).findByEmail("user@test.com");
+    }
+
+    @Test
+    void resolve_회원이_없으면_null() {
+        when(memberRepository.findByEmail("user@test.com")).thenReturn(Optional.empty());
+
+        assertThat(legacyMemberIdResolver.resolve(legacyPrincipal)).isNull();
+    }
+
+    @Test
+    void resolve_TTL_이_지나거나_evict_하면_다시_조회() {
+        Member member = mock(Member.class);
+        when(member.getId()).thenReturn(UUID.randomUUID());
+        when(memberRepository.findByEmail("user@test.com")).thenReturn(Optional.of(member));
+
+        ReflectionTestUtils.setField(legacyMemberIdResolver, "ttlSeconds", 0L);
+        legacyMemberIdResolver.resolve(legacyPrincipal);
+        legacyMemberIdResolver.resolve(legacyPrincipal);
+
+        ReflectionTestUtils.setField(legacyMemberIdResolver, "ttlSeconds", 600L);
+        legacyMemberIdResolver.resolve(legacyPrincipal);
+        legacyMemberIdResolver.evict("user@test.com");
+        legacyMemberIdResolver.resolve(legacyPrincipal);
+
+        verify(memberRepository, times(4)).findByEmail("user@test.com");
+    }
+
+    @Test
+    void resolve_가득_차면_만료된_항목만_정리하고_더_넣지_않음() {
+        Member member = mock(Member.class);
+        when(member.getId()).thenReturn(UUID.randomUUID());
+        when(memberRepository.findByEmail(anyString())).thenReturn(Optional.of(member));
+        ReflectionTestUtils.setField(legacyMemberIdResolver, "maxSize", 2);
+
+        for (int i = 0; i < 5; i++) {
+            legacyMemberIdResolver.resolve(new JwtPrincipal(null, "user" + i + "@test.com", "USER", null,
+                    Instant.now().plusSeconds(60)));
+        }
+
+        assertThat(legacyMemberIdResolver.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.cinecatch.global.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginRateLimiterTest {
+
+    private LoginRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new LoginRateLimiter();
+        ReflectionTestUtils.setField(limiter, "capacity", 3);
+        ReflectionTestUtils.setField(limiter, "refillPerMinute", 6);
+        ReflectionTestUtils.setField(limiter, "maxTrackedIps", 2);
+    }
+
+    @Test
+    void tryAcquire_버킷_소진시_거절되고_시간이_지나면_다시_허용() {
+        long now = 0;
+        assertThat(limiter.tryAcquire("1.1.1.1", now)).isTrue();
+        assertThat(limiter.tryAcquire("1.1.1.1", now)).isTrue();
+        assertThat(limiter.tryAcquire("1.1.1.1", now)).isTrue();
+        assertThat(limiter.tryAcquire("1.1.1.1", now)).isFalse();
+
+        // 분당 6개 -> 10초에 1개
+        long tenSeconds = TimeUnit.SECONDS.toNanos(10);
+        assertThat(limiter.tryAcquire("1.1.1.1", now + tenSeconds)).isTrue();
+        assertThat(limiter.tryAcquire("1.1.1.1", now + tenSeconds)).isFalse();
+    }
+
+    @Test
+    void tryAcquire_IP별로_따로_제한() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("1.1.1.1", 0);
+        }
+
+        assertThat(limiter.tryAcquire("1.1.1.1", 0)).isFalse();
+        assertThat(limiter.tryAcquire("2.2.2.2", 0)).isTrue();
+    }
+
+    @Test
+    void tryAcquire_추적_한도_도달시_가득찬_버킷부터_정리() {
+        limiter.tryAcquire("1.1.1.1", 0);
+        limiter.tryAcquire("2.2.2.2", 0);
+
+        // 1분 뒤 두 버킷 모두 다시 가득 참 -> 정리 후 새 IP 추적
+        long oneMinute = TimeUnit.MINUTES.toNanos(1);
+        assertThat(limiter.tryAcquire("3.3.3.3", oneMinute)).isTrue();
+        assertThat(limiter.trackedCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.cinecatch.global.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class PasswordHashingExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.stop();
+    }
+
+    @Test
+    void encode_대기열_포화시_503으로_거절() throws Exception {
+        executor = new PasswordHashingExecutor(blockingEncoder());
+        ReflectionTestUtils.setField(executor, "threads", 1);
+        ReflectionTestUtils.setField(executor, "queueCapacity", 1);
+        executor.start();
+
+        CompletableFuture<String> running = executor.encode("a");
+        CompletableFuture<String> queued = executor.encode("b");
+        CompletableFuture<String> rejected = executor.encode("c");
+
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+
+        release.countDown();
+        assertThat(running.get()).isEqualTo("hashed-a");
+        assertThat(queued.get()).isEqualTo("hashed-b");
+    }
+
+    @Test
+    void matchesNothing_더미_해시와_비교하고_항상_false() throws Exception {
+        release.countDown();
+        PasswordEncoder encoder = spy(blockingEncoder());
+        executor = new PasswordHashingExecutor(encoder);
+        ReflectionTestUtils.setField(executor, "threads", 1);
+        ReflectionTestUtils.setField(executor, "queueCapacity", 1);
+        executor.start();
+
+        assertThat(executor.matchesNothing("a").get()).isFalse();
+        assertThat(executor.matchesNothing("b").get()).isFalse();
+
+        verify(encoder).matches(eq("a"), anyString());
+        verify(encoder).matches(eq("b"), anyString());
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hashed-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals(encode(rawPassword));
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.cinecatch.global.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 한도와_대기열이_차면_503으로_거절하고_끝난_요청의_자리는_다시_씀() throws Exception {
+        // 동시 1개, 대기 0개
+        RequestConcurrencyLimitFilter filter = new RequestConcurrencyLimitFilter(1, 0, 0, meterRegistry);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blocking = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        Thread inFlight = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(get("/api/events"), new MockHttpServletResponse(), blocking);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(get("/api/events"), rejected, new MockFilterChain());
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(meterRegistry.counter("http.server.requests.rejected", "reason", "queue-full").count()).isEqualTo(1);
+
+        release.countDown();
+        inFlight.join();
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(get("/api/events"), accepted, new MockFilterChain());
+        assertThat(accepted.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void 대기열에서_시간_안에_자리가_나지_않으면_거절() {
+        RequestConcurrencyLimitFilter filter = new RequestConcurrencyLimitFilter(1, 10, 50, meterRegistry);
+        assertThat(filter.acquire()).isTrue();
+
+        assertThat(filter.acquire()).isFalse();
+        assertThat(meterRegistry.counter("http.server.requests.rejected", "reason", "timeout").count()).isEqualTo(1);
+    }
+
+    @Test
+    void SSE_스트림과_헬스_체크는_제한하지_않음() throws Exception {
+        RequestConcurrencyLimitFilter filter = new RequestConcurrencyLimitFilter(0, 0, 0, meterRegistry);
+
+        for (String path : new String[]{"/api/events/stream", "/actuator/health", "/health"}) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(get(path), response, new MockFilterChain());
+            assertThat(response.getStatus()).as(path).isEqualTo(200);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(get("/api/events"), response, new MockFilterChain());
+        assertThat(response.getStatus()).isEqualTo(503);
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+}
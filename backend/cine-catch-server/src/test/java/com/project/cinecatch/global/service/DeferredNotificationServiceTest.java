@@ -0,0 +1,104 @@
+package com.project.cinecatch.global.service;
+
+import com.project.cinecatch.domain.member.entity.Member;
+import com.project.cinecatch.domain.member.repository.MemberRepository;
+import com.project.cinecatch.domain.notification.repository.DeferredPushRepository;
+import com.project.cinecatch.domain.notification.repository.DeferredPushRepository.DeferredPush;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeferredNotificationServiceTest {
+
+    private static final PushMessageSpec STOCK = new PushMessageSpec(
+            PushMessageType.STOCK_UPDATE, "재고", "마감", "stock:event1", null, Map.of("type", "STOCK_UPDATE"));
+    private static final PushMessageSpec ENDING = new PushMessageSpec(
+            PushMessageType.ENDING_SOON, "종료 임박", "3시간", "ending:event1", null, Map.of("type", "ENDING_SOON"));
+
+    @Mock
+    private PushNotificationService pushNotificationService;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private DeferredPushRepository deferredPushRepository;
+
+    private DeferredNotificationService deferredNotificationService;
+
+    @BeforeEach
+    void setUp() {
+        deferredNotificationService = new DeferredNotificationService(
+                pushNotificationService, memberRepository, deferredPushRepository);
+        ReflectionTestUtils.setField(deferredNotificationService, "zoneId", ZoneId.of("Asia/Seoul"));
+        ReflectionTestUtils.setField(deferredNotificationService, "bucketMinutes", 10);
+        ReflectionTestUtils.setField(deferredNotificationService, "drainBatchSize", 100);
+        ReflectionTestUtils.setField(deferredNotificationService, "claimLeaseSeconds", 300L);
+    }
+
+    @Test
+    void deferIfQuiet_방해금지_회원은_버킷_경계_시각으로_보관() {
+        Member member = mock(Member.class);
+        when(member.getFcmToken()).thenReturn("token1");
+        when(member.isInQuietHours(any())).thenReturn(true);
+        when(member.getQuietHoursEnd()).thenReturn(java.time.LocalTime.of(7, 3));
+
+        boolean deferred = deferredNotificationService.deferIfQuiet(member, STOCK);
+
+        assertThat(deferred).isTrue();
+        verify(deferredPushRepository).save(argThat(releaseAt ->
+                releaseAt.atZone(ZoneId.of("Asia/Seoul")).getHour() == 7
+                        && releaseAt.atZone(ZoneId.of("Asia/Seoul")).getMinute() == 10), eq("token1"), eq(STOCK));
+    }
+
+    @Test
+    void flush_같은_메시지끼리_토큰을_묶어_발송하고_보낸_행을_지움() {
+        Instant now = Instant.parse("2026-10-19T22:10:00Z");
+        when(deferredPushRepository.claimReleasedBefore(now, 100, now.plusSeconds(300))).thenReturn(List.of(
+                new DeferredPush(1, "token1", STOCK), new DeferredPush(2, "token2", STOCK), new DeferredPush(3, "token1", ENDING)));
+        when(pushNotificationService.sendToUsers(anyList(), any(PushMessageSpec.class)))
+                .thenReturn(new PushNotificationService.SendResult(1, List.of()));
+
+        deferredNotificationService.flush(now);
+
+        verify(pushNotificationService).sendToUsers(List.of("token1", "token2"), STOCK);
+        verify(pushNotificationService).sendToUsers(List.of("token1"), ENDING);
+        verify(deferredPushRepository).deleteByIds(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void flush_일시적으로_보내지_못한_토큰의_행은_지우지_않고_lease_후_다시_발송() {
+        Instant now = Instant.parse("2026-10-19T22:10:00Z");
+        when(deferredPushRepository.claimReleasedBefore(now, 100, now.plusSeconds(300))).thenReturn(List.of(
+                new DeferredPush(1, "token1", STOCK), new DeferredPush(2, "token2", STOCK)));
+        when(pushNotificationService.sendToUsers(List.of("token1", "token2"), STOCK))
+                .thenReturn(new PushNotificationService.SendResult(1, List.of(), List.of("token2")));
+
+        deferredNotificationService.flush(now);
+
+        verify(deferredPushRepository).deleteByIds(List.of(1L));
+    }
+
+    @Test
+    void flush_꺼낼_알림이_없으면_발송하지_않음() {
+        when(deferredPushRepository.claimReleasedBefore(any(), anyInt(), any())).thenReturn(List.of());
+
+        deferredNotificationService.flush(Instant.now());
+
+        verify(deferredPushRepository, never()).deleteByIds(any());
+        verifyNoInteractions(pushNotificationService);
+    }
+}
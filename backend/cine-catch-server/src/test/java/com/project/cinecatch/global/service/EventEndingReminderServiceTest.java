@@ -0,0 +1,61 @@
+package com.project.cinecatch.global.service;
+
+import com.project.cinecatch.domain.event.repository.EventRepository;
+import com.project.cinecatch.domain.event.repository.EventTimerClaimRepository;
+import com.project.cinecatch.global.event.EventExpiredEvent;
+import com.project.cinecatch.global.scheduler.TimingWheelScheduler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventEndingReminderServiceTest {
+
+    private static final LocalDateTime END_AT = LocalDateTime.of(2026, 10, 20, 23, 59);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventTimerClaimRepository eventTimerClaimRepository;
+
+    @Mock
+    private EventNotificationService eventNotificationService;
+
+    @Mock
+    private TimingWheelScheduler timingWheelScheduler;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private EventEndingReminderService reminderService;
+
+    @Test
+    void remind_실행권을_얻은_노드만_알림_발송() {
+        when(eventTimerClaimRepository.claim(eq("event1"), eq("REMIND_3"), eq(END_AT), anyString()))
+                .thenReturn(true, false);
+
+        reminderService.remind("event1", "어벤져스", END_AT, 3);
+        reminderService.remind("event1", "어벤져스", END_AT, 3);
+
+        verify(eventNotificationService, times(1)).notifyEventEndingSoon("event1", "어벤져스", END_AT, 3);
+    }
+
+    @Test
+    void expire_다른_노드가_처리했으면_툼스톤_이벤트를_내지_않음() {
+        when(eventTimerClaimRepository.claim(eq("event1"), eq("EXPIRE"), eq(END_AT), anyString())).thenReturn(false);
+
+        reminderService.expire("event1", END_AT);
+
+        verify(eventPublisher, never()).publishEvent(any(EventExpiredEvent.class));
+    }
+}
@@ -0,0 +1,170 @@
+package com.project.cinecatch.global.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.project.cinecatch.domain.event.repository.EventRepository;
+import com.project.cinecatch.domain.member.entity.Member;
+import com.project.cinecatch.domain.member.entity.TheaterSubscription;
+import com.project.cinecatch.domain.member.repository.EventFavoriteRepository;
+import com.project.cinecatch.domain.member.repository.MemberRepository;
+import com.project.cinecatch.domain.member.repository.SubscriptionRepository;
+import com.project.cinecatch.domain.notification.repository.NotificationHistoryRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * FCM HTTP v1 API 를 흉내 내는 로컬 서버에 실제 Firebase Admin SDK 로 발송해, 알림 종류별 메시지 형태와 무효 토큰 처리를 확인함
+ * (SDK 가 보내는 fcm.googleapis.com 요청을 로컬 서버로 돌림)
+ */
+@ExtendWith(MockitoExtension.class)
+class EventNotificationFcmStandInTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    @Mock
+    private EventFavoriteRepository eventFavoriteRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private NotificationHistoryRepository notificationHistoryRepository;
+
+    @Mock
+    private DeferredNotificationService deferredNotificationService;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private HttpServer fcm;
+    private final List<JsonNode> received = new CopyOnWriteArrayList<>();
+    private FirebaseApp firebaseApp;
+    private EventNotificationService eventNotificationService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fcm = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fcm.createContext("/v1/projects/cine-catch-test/messages:send", this::handleSend);
+        fcm.start();
+
+        String standInUrl = "http://localhost:" + fcm.getAddress().getPort();
+        NetHttpTransport transport = new NetHttpTransport.Builder()
+                .setConnectionFactory(url -> (HttpURLConnection) URI.create(standInUrl + url.getFile()).toURL().openConnection())
+                .build();
+        firebaseApp = FirebaseApp.initializeApp(FirebaseOptions.builder()
+                .setCredentials(GoogleCredentials.create(new AccessToken("test-token", new Date(Long.MAX_VALUE))))
+                .setProjectId("cine-catch-test")
+                .setHttpTransport(transport)
+                .build());
+
+        PushMessageShaper shaper = new PushMessageShaper(ZoneId.of("Asia/Seoul"));
+        eventNotificationService = new EventNotificationService(subscriptionRepository, eventFavoriteRepository,
+                memberRepository, new PushNotificationService(shaper), notificationHistoryRepository,
+                deferredNotificationService, shaper, eventRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        firebaseApp.delete();
+        fcm.stop(0);
+    }
+
+    /**
+     * 토큰이 unregistered- 로 시작하면 FCM 과 같은 UNREGISTERED 오류로 응답함
+     */
+    private void handleSend(HttpExchange exchange) throws IOException {
+        JsonNode message = OBJECT_MAPPER.readTree(exchange.getRequestBody()).get("message");
+        received.add(message);
+
+        String token = message.get("token").asText();
+        boolean unregistered = token.startsWith("unregistered-");
+        String body = unregistered
+                ? """
+                {"error": {"code": 404, "message": "Requested entity was not found.", "status": "NOT_FOUND",
+                  "details": [{"@type": "type.googleapis.com/google.firebase.fcm.v1.FcmError", "errorCode": "UNREGISTERED"}]}}
+                """
+                : "{\"name\": \"projects/cine-catch-test/messages/" + received.size() + "\"}";
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(unregistered ? 404 : 200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private TheaterSubscription subscriptionOf(String fcmToken) {
+        Member member = Member.builder()
+                .email(fcmToken + "@test.com")
+                .password("password")
+                .nickname(fcmToken)
+                .build();
+        member.updateFcmToken(fcmToken);
+        member.updateNotificationEnabled(true);
+        TheaterSubscription subscription = mock(TheaterSubscription.class);
+        when(subscription.getMember()).thenReturn(member);
+        return subscription;
+    }
+
+    @Test
+    void notifyStatusChange_재고_알림은_높은_우선순위와_이벤트별_collapse_key_로_발송() {
+        List<TheaterSubscription> subscriptions = List.of(subscriptionOf("token1"), subscriptionOf("token2"));
+        when(subscriptionRepository.findByTheaterId("theater1")).thenReturn(subscriptions);
+
+        int sent = eventNotificationService.notifyStatusChange(
+                "theater1", "event1", "CGV 강남", "어벤져스", "마감", LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusHours(1));
+
+        assertThat(sent).isEqualTo(2);
+        assertThat(received).hasSize(2).allSatisfy(message -> {
+            JsonNode android = message.get("android");
+            assertThat(android.get("priority").asText()).isEqualTo("high");
+            assertThat(android.get("collapse_key").asText()).isEqualTo("stock:event1");
+            // 이벤트 종료(1시간 후)가 STOCK_UPDATE 기본 TTL(6시간)보다 이르므로 종료 시각까지만 보관
+            long ttlSeconds = (long) Double.parseDouble(android.get("ttl").asText().replace("s", ""));
+            assertThat(ttlSeconds).isBetween(3500L, 3600L);
+            assertThat(message.get("notification").get("title").asText()).isEqualTo("이벤트 상태 변경");
+            assertThat(message.get("data").get("eventId").asText()).isEqualTo("event1");
+        });
+    }
+
+    @Test
+    void notifySubscribers_UNREGISTERED_응답_토큰은_정리() {
+        List<TheaterSubscription> subscriptions = List.of(subscriptionOf("token1"), subscriptionOf("unregistered-token"));
+        when(subscriptionRepository.findByTheaterId("theater1")).thenReturn(subscriptions);
+
+        int sent = eventNotificationService.notifySubscribers(
+                "theater1", "event1", "CGV 강남", "어벤져스", LocalDateTime.now().plusDays(7));
+
+        assertThat(sent).isEqualTo(1);
+        assertThat(received).hasSize(2);
+        // 새 이벤트 알림은 급하지 않으므로 NORMAL
+        assertThat(received.get(0).get("android").get("priority").asText()).isEqualTo("normal");
+        verify(memberRepository).clearInvalidFcmTokens(List.of("unregistered-token"));
+    }
+}
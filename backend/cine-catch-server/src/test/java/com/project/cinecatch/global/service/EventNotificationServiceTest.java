@@ -1,5 +1,7 @@
 package com.project.cinecatch.global.service;
 
+import com.project.cinecatch.domain.event.entity.Event;
+import com.project.cinecatch.domain.event.repository.EventRepository;
 import com.project.cinecatch.domain.member.entity.EventSubscription;
 import com.project.cinecatch.domain.member.entity.Member;
 import com.project.cinecatch.domain.member.entity.TheaterSubscription;
@@ -11,9 +13,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -37,6 +43,15 @@ class EventNotificationServiceTest {
     @Mock
     private NotificationHistoryRepository notificationHistoryRepository;
 
+    @Mock
+    private DeferredNotificationService deferredNotificationService;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Spy
+    private PushMessageShaper pushMessageShaper = new PushMessageShaper(ZoneId.of("Asia/Seoul"));
+
     @InjectMocks
     private EventNotificationService eventNotificationService;
 
@@ -57,14 +72,15 @@ class EventNotificationServiceTest {
         TheaterSubscription subscription = mock(TheaterSubscription.class);
         when(subscription.getMember()).thenReturn(member);
         when(subscriptionRepository.findByTheaterId("theater1")).thenReturn(List.of(subscription));
-        when(pushNotificationService.sendEventUpdateNotification(anyList(), anyString(), anyString()))
+        when(pushNotificationService.sendToUsers(anyList(), any(PushMessageSpec.class)))
                 .thenReturn(new PushNotificationService.SendResult(1, List.of()));
 
-        int result = eventNotificationService.notifySubscribers("theater1", "CGV 강남", "어벤져스");
+        int result = eventNotificationService.notifySubscribers("theater1", null, "CGV 강남", "어벤져스");
 
         assertThat(result).isEqualTo(1);
-        verify(pushNotificationService).sendEventUpdateNotification(
-                eq(List.of("token1")), eq("CGV 강남"), eq("어벤져스"));
+        verify(pushNotificationService).sendToUsers(eq(List.of("token1")), argThat(spec ->
+                spec.type() == PushMessageType.EVENT_UPDATE
+                        && spec.body().equals("CGV 강남에서 새 이벤트가 시작되었습니다: 어벤져스")));
         verify(notificationHistoryRepository).saveAll(anyList());
     }
 
@@ -78,14 +94,13 @@ class EventNotificationServiceTest {
         when(sub1.getMember()).thenReturn(memberWithToken);
         when(sub2.getMember()).thenReturn(memberWithoutToken);
         when(subscriptionRepository.findByTheaterId("theater1")).thenReturn(List.of(sub1, sub2));
-        when(pushNotificationService.sendEventUpdateNotification(anyList(), anyString(), anyString()))
+        when(pushNotificationService.sendToUsers(anyList(), any(PushMessageSpec.class)))
                 .thenReturn(new PushNotificationService.SendResult(1, List.of()));
 
-        int result = eventNotificationService.notifySubscribers("theater1", "CGV 강남", "어벤져스");
+        int result = eventNotificationService.notifySubscribers("theater1", null, "CGV 강남", "어벤져스");
 
         assertThat(result).isEqualTo(1);
-        verify(pushNotificationService).sendEventUpdateNotification(
-                eq(List.of("token1")), anyString(), anyString());
+        verify(pushNotificationService).sendToUsers(eq(List.of("token1")), any(PushMessageSpec.class));
     }
 
     @Test
@@ -98,21 +113,20 @@ class EventNotificationServiceTest {
         when(sub1.getMember()).thenReturn(enabledMember);
         when(sub2.getMember()).thenReturn(disabledMember);
         when(subscriptionRepository.findByTheaterId("theater1")).thenReturn(List.of(sub1, sub2));
-        when(pushNotificationService.sendEventUpdateNotification(anyList(), anyString(), anyString()))
+        when(pushNotificationService.sendToUsers(anyList(), any(PushMessageSpec.class)))
                 .thenReturn(new PushNotificationService.SendResult(1, List.of()));
 
-        int result = eventNotificationService.notifySubscribers("theater1", "CGV 강남", "어벤져스");
+        int result = eventNotificationService.notifySubscribers("theater1", null, "CGV 강남", "어벤져스");
 
         assertThat(result).isEqualTo(1);
-        verify(pushNotificationService).sendEventUpdateNotification(
-                eq(List.of("token1")), anyString(), anyString());
+        verify(pushNotificationService).sendToUsers(eq(List.of("token1")), any(PushMessageSpec.class));
     }
 
     @Test
     void notifySubscribers_구독자_없을때_0_반환() {
         when(subscriptionRepository.findByTheaterId("theater1")).thenReturn(List.of());
 
-        int result = eventNotificationService.notifySubscribers("theater1", "CGV 강남", "어벤져스");
+        int result = eventNotificationService.notifySubscribers("theater1", null, "CGV 강남", "어벤져스");
 
         assertThat(result).isEqualTo(0);
         verifyNoInteractions(pushNotificationService);
@@ -124,14 +138,71 @@ class EventNotificationServiceTest {
         EventSubscription subscription = mock(EventSubscription.class);
         when(subscription.getMember()).thenReturn(member);
         when(eventFavoriteRepository.findByEventId("event1")).thenReturn(List.of(subscription));
-        when(pushNotificationService.sendFavoriteEventNotification(anyList(), anyString(), anyString()))
+        when(pushNotificationService.sendToUsers(anyList(), any(PushMessageSpec.class)))
                 .thenReturn(new PushNotificationService.SendResult(1, List.of()));
 
         int result = eventNotificationService.notifyEventSubscribers("event1", "어벤져스", "보유");
 
         assertThat(result).isEqualTo(1);
-        verify(pushNotificationService).sendFavoriteEventNotification(
-                eq(List.of("token1")), eq("어벤져스"), eq("보유"));
+        verify(pushNotificationService).sendToUsers(eq(List.of("token1")), argThat(spec ->
+                spec.type() == PushMessageType.FAVORITE_STATUS
+                        && spec.body().equals("찜한 이벤트 '어벤져스'의 상태가 [보유](으)로 변경되었습니다")));
+        verify(notificationHistoryRepository).saveAll(anyList());
+    }
+
+    @Test
+    void notifyEventEndingSoon_찜_구독자에게_종료임박_알림_발송() {
+        Member member = createMember("user@test.com", "token1", true);
+        EventSubscription subscription = mock(EventSubscription.class);
+        when(subscription.getMember()).thenReturn(member);
+        when(eventFavoriteRepository.findByEventId("event1")).thenReturn(List.of(subscription));
+        when(pushNotificationService.sendToUsers(anyList(), any(PushMessageSpec.class)))
+                .thenReturn(new PushNotificationService.SendResult(1, List.of()));
+
+        int result = eventNotificationService.notifyEventEndingSoon("event1", "어벤져스", LocalDateTime.now().plusHours(3), 3);
+
+        assertThat(result).isEqualTo(1);
+        verify(pushNotificationService).sendToUsers(eq(List.of("token1")), argThat(spec ->
+                spec.type() == PushMessageType.ENDING_SOON
+                        && spec.body().equals("찜한 이벤트 '어벤져스'이(가) 3시간 후 종료됩니다")));
+        verify(notificationHistoryRepository).saveAll(anyList());
+    }
+
+    @Test
+    void notifySubscribers_방해금지_사용자는_보류후_히스토리만_저장() {
+        Member quietMember = createMember("user1@test.com", "token1", true);
+        Member awakeMember = createMember("user2@test.com", "token2", true);
+
+        TheaterSubscription sub1 = mock(TheaterSubscription.class);
+        TheaterSubscription sub2 = mock(TheaterSubscription.class);
+        when(sub1.getMember()).thenReturn(quietMember);
+        when(sub2.getMember()).thenReturn(awakeMember);
+        when(subscriptionRepository.findByTheaterId("theater1")).thenReturn(List.of(sub1, sub2));
+        when(deferredNotificationService.deferIfQuiet(eq(quietMember), any(PushMessageSpec.class))).thenReturn(true);
+        when(pushNotificationService.sendToUsers(anyList(), any(PushMessageSpec.class)))
+                .thenReturn(new PushNotificationService.SendResult(1, List.of()));
+
+        int result = eventNotificationService.notifySubscribers("theater1", null, "CGV 강남", "어벤져스");
+
+        assertThat(result).isEqualTo(1);
+        verify(pushNotificationService).sendToUsers(eq(List.of("token2")), any(PushMessageSpec.class));
+        verify(pushNotificationService).sendBadgeUpdate(List.of("token1"));
+        verify(notificationHistoryRepository).saveAll(argThat(histories -> ((List<?>) histories).size() == 2));
+    }
+
+    @Test
+    void notifySubscribers_전원_방해금지면_즉시발송_없음() {
+        Member quietMember = createMember("user@test.com", "token1", true);
+        TheaterSubscription subscription = mock(TheaterSubscription.class);
+        when(subscription.getMember()).thenReturn(quietMember);
+        when(subscriptionRepository.findByTheaterId("theater1")).thenReturn(List.of(subscription));
+        when(deferredNotificationService.deferIfQuiet(eq(quietMember), any(PushMessageSpec.class))).thenReturn(true);
+
+        int result = eventNotificationService.notifySubscribers("theater1", null, "CGV 강남", "어벤져스");
+
+        assertThat(result).isEqualTo(0);
+        verify(pushNotificationService).sendBadgeUpdate(List.of("token1"));
+        verify(pushNotificationService, never()).sendToUsers(anyList(), any(PushMessageSpec.class));
         verify(notificationHistoryRepository).saveAll(anyList());
     }
 
@@ -141,11 +212,46 @@ class EventNotificationServiceTest {
         TheaterSubscription subscription = mock(TheaterSubscription.class);
         when(subscription.getMember()).thenReturn(member);
         when(subscriptionRepository.findByTheaterId("theater1")).thenReturn(List.of(subscription));
-        when(pushNotificationService.sendStockUpdateNotification(anyList(), anyString(), anyString(), anyString()))
+        when(pushNotificationService.sendToUsers(anyList(), any(PushMessageSpec.class)))
                 .thenReturn(new PushNotificationService.SendResult(0, List.of("invalid-token")));
 
-        eventNotificationService.notifyStatusChange("theater1", "CGV 강남", "어벤져스", "마감");
+        eventNotificationService.notifyStatusChange("theater1", null, "CGV 강남", "어벤져스", "마감");
 
         verify(memberRepository).clearInvalidFcmTokens(List.of("invalid-token"));
     }
+
+    @Test
+    void notifyEventSubscribers_이벤트_종료시각으로_메시지_만료() {
+        Member member = createMember("user@test.com", "token1", true);
+        EventSubscription subscription = mock(EventSubscription.class);
+        when(subscription.getMember()).thenReturn(member);
+        when(eventFavoriteRepository.findByEventId("event1")).thenReturn(List.of(subscription));
+        Event event = mock(Event.class);
+        when(event.getEndAt()).thenReturn(LocalDateTime.now().plusHours(1));
+        when(eventRepository.findById("event1")).thenReturn(Optional.of(event));
+        when(pushNotificationService.sendToUsers(anyList(), any(PushMessageSpec.class)))
+                .thenReturn(new PushNotificationService.SendResult(1, List.of()));
+
+        eventNotificationService.notifyEventSubscribers("event1", "어벤져스", "보유");
+
+        // FAVORITE_STATUS 기본 TTL(6시간)보다 이벤트 종료(1시간 후)가 먼저임
+        verify(pushNotificationService).sendToUsers(eq(List.of("token1")), argThat(spec ->
+                spec.collapseKey().equals("stock:event1")
+                        && spec.expiresAt().isBefore(java.time.Instant.now().plusSeconds(3600 + 60))));
+    }
+
+    @Test
+    void notifyStatusChange_종료시각을_넘기면_이벤트를_다시_조회하지_않음() {
+        Member member = createMember("user@test.com", "token1", true);
+        TheaterSubscription subscription = mock(TheaterSubscription.class);
+        when(subscription.getMember()).thenReturn(member);
+        when(subscriptionRepository.findByTheaterId("theater1")).thenReturn(List.of(subscription));
+        when(pushNotificationService.sendToUsers(anyList(), any(PushMessageSpec.class)))
+                .thenReturn(new PushNotificationService.SendResult(1, List.of()));
+
+        eventNotificationService.notifyStatusChange("theater1", "event1", "CGV 강남", "어벤져스", "마감",
+                LocalDateTime.now().plusHours(1));
+
+        verifyNoInteractions(eventRepository);
+    }
 }
@@ -0,0 +1,86 @@
+package com.project.cinecatch.global.service;
+
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.firebase.messaging.AndroidConfig;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PushMessageShaperTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final PushMessageShaper shaper = new PushMessageShaper(KST);
+
+    @Test
+    void shape_같은_이벤트는_같은_collapseKey() {
+        PushMessageSpec first = shaper.shape(PushMessageType.STOCK_UPDATE, "제목", "보유", "event1", null);
+        PushMessageSpec second = shaper.shape(PushMessageType.FAVORITE_STATUS, "제목", "마감", "event1", null);
+
+        assertThat(first.collapseKey()).isEqualTo("stock:event1");
+        assertThat(second.collapseKey()).isEqualTo(first.collapseKey());
+        assertThat(first.data()).containsEntry("eventId", "event1").containsEntry("type", "STOCK_UPDATE");
+    }
+
+    @Test
+    void shape_이벤트_종료가_먼저면_종료시각에_만료() {
+        LocalDateTime endAt = LocalDateTime.now(KST).plusHours(2);
+
+        PushMessageSpec spec = shaper.shape(PushMessageType.EVENT_UPDATE, "제목", "내용", "event1", endAt);
+
+        assertThat(spec.expiresAt()).isBefore(Instant.now().plus(Duration.ofHours(3)));
+    }
+
+    @Test
+    void shape_종료시각은_JVM_시간대가_아니라_설정한_시간대로_해석() {
+        // KST 18:00 = UTC 09:00 (JVM 시간대가 UTC 여도 9시간 늦게 만료되지 않음)
+        LocalDateTime endAt = LocalDateTime.now(KST).plusHours(1).withMinute(0).withSecond(0).withNano(0);
+
+        PushMessageSpec spec = shaper.shape(PushMessageType.EVENT_UPDATE, "제목", "내용", "event1", endAt);
+
+        assertThat(spec.expiresAt()).isEqualTo(endAt.atZone(KST).toInstant());
+        assertThat(new PushMessageShaper(ZoneId.of("UTC")).shape(PushMessageType.EVENT_UPDATE, "제목", "내용", "event1", endAt)
+                .expiresAt()).isEqualTo(spec.expiresAt().plus(Duration.ofHours(9)));
+    }
+
+    @Test
+    void shape_eventId_없으면_종류별_최대TTL만_적용() {
+        PushMessageSpec spec = shaper.shape(PushMessageType.STOCK_UPDATE, "제목", "내용");
+
+        assertThat(spec.collapseKey()).isNull();
+        assertThat(spec.expiresAt()).isAfter(Instant.now().plus(Duration.ofHours(5)));
+    }
+
+    @Test
+    void toAndroidConfig_종류별_우선순위와_TTL() throws IOException {
+        Instant now = Instant.now();
+        PushMessageSpec stock = shaper.shape(PushMessageType.STOCK_UPDATE, "제목", "내용", "event1", null);
+        PushMessageSpec ending = shaper.shape(PushMessageType.ENDING_SOON, "제목", "내용", "event1", null);
+
+        String stockJson = toJson(shaper.toAndroidConfig(stock, now));
+        String endingJson = toJson(shaper.toAndroidConfig(ending, now));
+
+        assertThat(stockJson).contains("\"priority\":\"high\"").contains("\"collapse_key\":\"stock:event1\"");
+        assertThat(endingJson).contains("\"priority\":\"normal\"").contains("\"collapse_key\":\"ending:event1\"");
+    }
+
+    @Test
+    void toAndroidConfig_배지_갱신은_알림_없이_data_only() throws IOException {
+        PushMessageSpec badge = shaper.shape(PushMessageType.BADGE_UPDATE, null, null);
+
+        String json = toJson(shaper.toAndroidConfig(badge, Instant.now()));
+
+        assertThat(badge.collapseKey()).isEqualTo("badge");
+        assertThat(json).doesNotContain("\"notification\"");
+    }
+
+    private String toJson(AndroidConfig config) throws IOException {
+        return GsonFactory.getDefaultInstance().toString(config);
+    }
+}
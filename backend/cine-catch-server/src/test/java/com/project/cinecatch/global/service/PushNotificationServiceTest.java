@@ -7,9 +7,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -18,6 +23,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class PushNotificationServiceTest {
 
+    @Spy
+    private PushMessageShaper pushMessageShaper = new PushMessageShaper(ZoneId.of("Asia/Seoul"));
+
     @InjectMocks
     private PushNotificationService pushNotificationService;
 
@@ -145,4 +153,84 @@ class PushNotificationServiceTest {
             assertThat(result.invalidTokens()).containsExactly("bad-token");
         }
     }
+
+    @Test
+    void sendToUsers_일시적인_오류로_못_보낸_토큰은_재시도_대상으로_반환() throws Exception {
+        try (MockedStatic<FirebaseApp> firebaseAppMock = mockStatic(FirebaseApp.class);
+             MockedStatic<FirebaseMessaging> firebaseMessagingMock = mockStatic(FirebaseMessaging.class)) {
+
+            firebaseAppMock.when(FirebaseApp::getApps).thenReturn(List.of(mock(FirebaseApp.class)));
+
+            FirebaseMessaging messaging = mock(FirebaseMessaging.class);
+            firebaseMessagingMock.when(FirebaseMessaging::getInstance).thenReturn(messaging);
+
+            SendResponse failResponse = mock(SendResponse.class);
+            when(failResponse.isSuccessful()).thenReturn(false);
+            FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+            when(exception.getMessagingErrorCode()).thenReturn(MessagingErrorCode.UNAVAILABLE);
+            when(failResponse.getException()).thenReturn(exception);
+
+            BatchResponse batchResponse = mock(BatchResponse.class);
+            when(batchResponse.getSuccessCount()).thenReturn(0);
+            when(batchResponse.getFailureCount()).thenReturn(1);
+            when(batchResponse.getResponses()).thenReturn(List.of(failResponse));
+
+            when(messaging.sendEachForMulticast(any(MulticastMessage.class))).thenReturn(batchResponse);
+
+            PushNotificationService.SendResult result =
+                    pushNotificationService.sendToUsers(List.of("token1"), "제목", "내용");
+
+            assertThat(result.invalidTokens()).isEmpty();
+            assertThat(result.failedTokens()).containsExactly("token1");
+
+            // 요청 자체가 실패하면 묶음의 토큰 전부가 재시도 대상
+            when(messaging.sendEachForMulticast(any(MulticastMessage.class))).thenThrow(exception);
+            result = pushNotificationService.sendToUsers(List.of("token1", "token2"), "제목", "내용");
+            assertThat(result.failedTokens()).containsExactly("token1", "token2");
+        }
+    }
+
+    @Test
+    void sendToUsers_500개_초과시_나눠서_발송() throws Exception {
+        try (MockedStatic<FirebaseApp> firebaseAppMock = mockStatic(FirebaseApp.class);
+             MockedStatic<FirebaseMessaging> firebaseMessagingMock = mockStatic(FirebaseMessaging.class)) {
+
+            firebaseAppMock.when(FirebaseApp::getApps).thenReturn(List.of(mock(FirebaseApp.class)));
+
+            FirebaseMessaging messaging = mock(FirebaseMessaging.class);
+            firebaseMessagingMock.when(FirebaseMessaging::getInstance).thenReturn(messaging);
+
+            BatchResponse fullBatch = mock(BatchResponse.class);
+            when(fullBatch.getSuccessCount()).thenReturn(500);
+            when(fullBatch.getResponses()).thenReturn(List.of());
+            BatchResponse lastBatch = mock(BatchResponse.class);
+            when(lastBatch.getSuccessCount()).thenReturn(1);
+            when(lastBatch.getResponses()).thenReturn(List.of());
+            when(messaging.sendEachForMulticast(any(MulticastMessage.class))).thenReturn(fullBatch, lastBatch);
+
+            List<String> tokens = IntStream.range(0, 501).mapToObj(i -> "token-" + i).toList();
+            PushNotificationService.SendResult result = pushNotificationService.sendToUsers(tokens, "제목", "내용");
+
+            assertThat(result.successCount()).isEqualTo(501);
+            verify(messaging, times(2)).sendEachForMulticast(any(MulticastMessage.class));
+        }
+    }
+
+    @Test
+    void sendToUsers_만료된_메시지는_발송하지_않음() {
+        try (MockedStatic<FirebaseApp> firebaseAppMock = mockStatic(FirebaseApp.class);
+             MockedStatic<FirebaseMessaging> firebaseMessagingMock = mockStatic(FirebaseMessaging.class)) {
+
+            firebaseAppMock.when(FirebaseApp::getApps).thenReturn(List.of(mock(FirebaseApp.class)));
+
+            PushMessageSpec expired = new PushMessageSpec(PushMessageType.STOCK_UPDATE, "제목", "내용",
+                    "stock:event1", Instant.now().minusSeconds(1), Map.of());
+
+            PushNotificationService.SendResult result =
+                    pushNotificationService.sendToUsers(List.of("token"), expired);
+
+            assertThat(result.successCount()).isEqualTo(0);
+            firebaseMessagingMock.verifyNoInteractions();
+        }
+    }
 }
@@ -0,0 +1,80 @@
+package com.project.cinecatch.global.service;
+
+import com.project.cinecatch.domain.movie.entity.Movie;
+import com.project.cinecatch.domain.theater.entity.Theater;
+import com.project.cinecatch.domain.theater.repository.TheaterRepository;
+import com.project.cinecatch.global.cache.InvalidationBus;
+import com.project.cinecatch.global.cache.InvalidationType;
+import com.project.cinecatch.global.event.CacheInvalidatedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheInvalidatorTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    @InjectMocks
+    private ReferenceDataCacheInvalidator invalidator;
+
+    @Test
+    void evictAll_Theater_Movie_브랜드_쿼리_리전을_비움() {
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        Cache cache = mock(Cache.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        invalidator.evictAll();
+
+        verify(cache).evictEntityData(Theater.class);
+        verify(cache).evictEntityData(Movie.class);
+        verify(cache).evictQueryRegion(TheaterRepository.BRAND_QUERY_REGION);
+    }
+
+    @Test
+    void onCacheInvalidated_극장_하나만_비우고_브랜드_쿼리_리전도_비움() {
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        Cache cache = mock(Cache.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        invalidator.onCacheInvalidated(new CacheInvalidatedEvent(InvalidationType.THEATER, "T1", false));
+
+        verify(cache).evictEntityData(Theater.class, "T1");
+        verify(cache, never()).evictEntityData(Theater.class);
+        verify(cache).evictQueryRegion(TheaterRepository.BRAND_QUERY_REGION);
+    }
+
+    @Test
+    void ehcache_설정에_엔티티와_쿼리_리전이_모두_있음() throws Exception {
+        // missing_cache_strategy=fail 이라 리전이 빠지면 기동이 실패함
+        CachingProvider provider = Caching.getCachingProvider("org.ehcache.jsr107.EhcacheCachingProvider");
+        URI uri = getClass().getResource("/ehcache.xml").toURI();
+        try (CacheManager cacheManager = provider.getCacheManager(uri, getClass().getClassLoader())) {
+            assertThat(cacheManager.getCacheNames()).contains(
+                    Theater.class.getName(),
+                    Movie.class.getName(),
+                    TheaterRepository.BRAND_QUERY_REGION,
+                    "default-query-results-region",
+                    "default-update-timestamps-region");
+        }
+    }
+}
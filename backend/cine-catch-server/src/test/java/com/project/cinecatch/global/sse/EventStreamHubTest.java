@@ -0,0 +1,115 @@
+package com.project.cinecatch.global.sse;
+
+import com.project.cinecatch.global.cache.InvalidationBus;
+import com.project.cinecatch.global.cache.InvalidationType;
+import com.project.cinecatch.global.event.CacheInvalidatedEvent;
+import com.project.cinecatch.global.event.EventStatusChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class EventStreamHubTest {
+
+    private final InvalidationBus invalidationBus = mock(InvalidationBus.class);
+    private EventStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new EventStreamHub(invalidationBus);
+        ReflectionTestUtils.setField(hub, "maxConnections", 2);
+        ReflectionTestUtils.setField(hub, "maxSubscriptions", 3);
+        ReflectionTestUtils.setField(hub, "bufferSize", 2);
+        ReflectionTestUtils.setField(hub, "timeoutMillis", 60_000L);
+        ReflectionTestUtils.setField(hub, "heartbeatMillis", 60_000L);
+        ReflectionTestUtils.setField(hub, "writerThreads", 1);
+        hub.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.stop();
+    }
+
+    @Test
+    void subscribe_구독_대상이_없으면_400() {
+        assertThatThrownBy(() -> hub.subscribe(Set.of(), Set.of()))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void subscribe_구독_대상_한도_초과시_400() {
+        assertThatThrownBy(() -> hub.subscribe(Set.of("E1", "E2"), Set.of("T1", "T2")))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void subscribe_연결_수_한도_초과시_503() {
+        hub.subscribe(Set.of("E1"), Set.of());
+        hub.subscribe(Set.of(), Set.of("T1"));
+
+        assertThatThrownBy(() -> hub.subscribe(Set.of("E2"), Set.of()))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("503");
+        assertThat(hub.connectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void offer_버퍼가_가득_차면_가장_오래된_변경을_버림() {
+        StreamConnection connection = new StreamConnection(new SseEmitter(), Set.of("E1"), Set.of(), 2);
+
+        connection.offer(change("보유"));
+        connection.offer(change("소량"));
+        connection.offer(change("마감"));
+
+        assertThat(connection.takeDropped()).isEqualTo(1);
+        assertThat(connection.poll().status()).isEqualTo("소량");
+        assertThat(connection.poll().status()).isEqualTo("마감");
+        assertThat(connection.poll()).isNull();
+        assertThat(connection.hasPending()).isFalse();
+    }
+
+    @Test
+    void publish_변경을_버스로_보내고_버스에서_받은_델타는_그대로_복원() {
+        EventStatusChangedEvent change = new EventStatusChangedEvent("E1", null, "소량|재입고", LocalDateTime.of(2026, 10, 1, 9, 30));
+
+        hub.publish(List.of(change));
+
+        verify(invalidationBus).broadcast(InvalidationType.EVENT_STATUS, List.of("E1||2026-10-01T09:30|소량|재입고"));
+        assertThat(EventStatusChangedEvent.fromPayload(change.toPayload())).isEqualTo(change);
+    }
+
+    @Test
+    void publish_버스_전송이_실패해도_호출한_쪽으로_던지지_않음() {
+        doThrow(new IllegalStateException("연결 끊김")).when(invalidationBus).broadcast(any(), anyList());
+
+        hub.publish(List.of(change("보유")));
+    }
+
+    @Test
+    void onCacheInvalidated_재고_상태_델타만_전달하고_전체_메시지는_무시() {
+        EventStreamHub spied = spy(hub);
+        EventStatusChangedEvent change = change("보유");
+
+        spied.onCacheInvalidated(new CacheInvalidatedEvent(InvalidationType.THEATER, "T1", false));
+        spied.onCacheInvalidated(new CacheInvalidatedEvent(InvalidationType.EVENT_STATUS, "*", true));
+        spied.onCacheInvalidated(new CacheInvalidatedEvent(InvalidationType.EVENT_STATUS, change.toPayload(), false));
+
+        verify(spied).deliver(change);
+        verify(spied, times(1)).deliver(any());
+    }
+
+    private EventStatusChangedEvent change(String status) {
+        return new EventStatusChangedEvent("E1", "T1", status, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.cinecatch.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedTimingWheelTest {
+
+    private static final long TICK = 1000L;
+
+    @Test
+    void advance_만료시각_도달한_항목만_반환() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 8, 0);
+        wheel.schedule("a", 3_000);
+        wheel.schedule("b", 5_000);
+
+        assertThat(wheel.advance(2_000)).isEmpty();
+        assertThat(wheel.advance(3_000)).containsExactly("a");
+        assertThat(wheel.advance(10_000)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advance_휠_크기보다_먼_만료는_바퀴수만큼_대기() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 8, 0);
+        // 같은 슬롯(3)이지만 1바퀴, 2바퀴 뒤에 만료
+        wheel.schedule("near", 3_000);
+        wheel.schedule("far", 11_000);
+        wheel.schedule("farther", 19_000);
+
+        assertThat(wheel.advance(3_000)).containsExactly("near");
+        assertThat(wheel.advance(10_999)).isEmpty();
+        assertThat(wheel.advance(11_000)).containsExactly("far");
+        assertThat(wheel.advance(19_000)).containsExactly("farther");
+    }
+
+    @Test
+    void cancel_취소된_항목은_만료되지_않음() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 8, 0);
+        HashedTimingWheel.Timeout<String> first = wheel.schedule("first", 2_000);
+        wheel.schedule("second", 2_000);
+
+        assertThat(first.cancel()).isTrue();
+        assertThat(first.cancel()).isFalse();
+        assertThat(wheel.advance(2_000)).containsExactly("second");
+    }
+
+    @Test
+    void schedule_지난_시각은_다음_advance에서_만료() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 8, 10_000);
+
+        wheel.schedule("late", 1_000);
+
+        assertThat(wheel.advance(10_000)).containsExactly("late");
+    }
+
+    @Test
+    void 생성자_휠_크기는_2의_거듭제곱이어야_함() {
+        assertThatThrownBy(() -> new HashedTimingWheel<String>(TICK, 10, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void advance_만료된_항목_취소시_false() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 8, 0);
+        HashedTimingWheel.Timeout<String> timeout = wheel.schedule("x", 1_000);
+
+        List<String> expired = wheel.advance(1_000);
+
+        assertThat(expired).containsExactly("x");
+        assertThat(timeout.cancel()).isFalse();
+    }
+}
@@ -0,0 +1,78 @@
+package com.project.cinecatch.global.warmup;
+
+import com.project.cinecatch.domain.event.service.EventService;
+import com.project.cinecatch.domain.theater.service.TheaterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WarmupRunnerTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private TheaterService theaterService;
+
+    @InjectMocks
+    private WarmupRunner warmupRunner;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(warmupRunner, "enabled", true);
+        ReflectionTestUtils.setField(warmupRunner, "durationMillis", 60_000L);
+        ReflectionTestUtils.setField(warmupRunner, "rounds", 2);
+        ReflectionTestUtils.setField(warmupRunner, "gridSize", 2);
+        ReflectionTestUtils.setField(warmupRunner, "gridStepDegrees", 0.05);
+        ReflectionTestUtils.setField(warmupRunner, "connections", 3);
+    }
+
+    @Test
+    void run_커넥션_선점_후_도시_격자_전체를_라운드만큼_조회() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        warmupRunner.run(null);
+
+        verify(dataSource, times(3)).getConnection();
+        verify(connection, times(3)).close();
+        // 도시 10곳 x 2x2 격자 x 2라운드
+        verify(eventService, times(80)).getNearbyEvents(anyDouble(), anyDouble(), isNull());
+        verify(theaterService, times(80)).getNearbyTheaters(anyDouble(), anyDouble(), isNull());
+        verify(eventService, times(2)).getAllActiveEvents();
+    }
+
+    @Test
+    void run_시간_초과시_남은_좌표는_건너뜀() throws Exception {
+        ReflectionTestUtils.setField(warmupRunner, "durationMillis", 0L);
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+
+        warmupRunner.run(null);
+
+        verifyNoInteractions(eventService, theaterService);
+    }
+
+    @Test
+    void run_비활성화시_아무것도_하지_않음() {
+        ReflectionTestUtils.setField(warmupRunner, "enabled", false);
+
+        warmupRunner.run(null);
+
+        verifyNoInteractions(dataSource, eventService, theaterService);
+    }
+}
@@ -81,6 +81,7 @@ echo "   DB_PASSWORD=your-password"
 echo "   S3_BUCKET_NAME=cine-catch-image"
 echo "   KOBIS_API_KEY=your-key"
 echo "   TMDB_API_KEY=your-key"
+echo "   INTERNAL_API_TOKEN=backend-internal-api-token"
 echo ""
 echo "3. cron 설정 (30분마다 실행):"
 echo "   crontab -e"
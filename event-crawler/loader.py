@@ -27,6 +27,19 @@ DB_CONFIG = {
 NOTIFICATION_API_BASE_URL = os.getenv("NOTIFICATION_API_BASE_URL", "http://localhost:8080")
 NOTIFICATION_API_TIMEOUT = float(os.getenv("NOTIFICATION_API_TIMEOUT", "5"))
 
+# 켜면 스냅샷 전체를 백엔드 적재 API(COPY + 집합 단위 병합)로 보내고, 알림도 백엔드가 직접 보냄
+INGESTION_API_ENABLED = os.getenv("INGESTION_API_ENABLED", "false").lower() == "true"
+INGESTION_API_TIMEOUT = float(os.getenv("INGESTION_API_TIMEOUT", "120"))
+
+# 백엔드 내부 API(/api/internal/**) 공유 비밀. 백엔드의 internal.api.token 과 같은 값이어야 함
+INTERNAL_API_TOKEN = os.getenv("INTERNAL_API_TOKEN", "")
+
+def _internal_headers(content_type=None):
+    headers = {"X-Internal-Token": INTERNAL_API_TOKEN}
+    if content_type:
+        headers["Content-Type"] = content_type
+    return headers
+
 def _post_notification(path, payload):
     base_url = NOTIFICATION_API_BASE_URL.strip()
     if not base_url:
@@ -38,7 +51,7 @@ def _post_notification(path, payload):
         url,
         data=data,
         method="POST",
-        headers={"Content-Type": "application/json"},
+        headers=_internal_headers("application/json"),
     )
 
     try:
@@ -68,6 +81,60 @@ async def _send_notifications(pending_notifications):
             sent_count += 1
     print(f"🔔 알림 API 호출 완료: {sent_count}/{len(pending_notifications)}")
 
+def _post_ingestion_complete():
+    """적재 완료 콜백. 백엔드가 변경 로그를 보고 바뀐 이벤트만 읽기 모델에 반영함 (실패해도 백엔드가 주기적으로 따라잡음)"""
+    url = f"{NOTIFICATION_API_BASE_URL.strip().rstrip('/')}/api/internal/ingestion/complete"
+    request = urllib.request.Request(url, data=b"", method="POST", headers=_internal_headers())
+    try:
+        with urllib.request.urlopen(request, timeout=NOTIFICATION_API_TIMEOUT) as response:
+            result = json.loads(response.read().decode("utf-8"))
+        print(f"🔄 백엔드 읽기 모델 갱신 완료 (버전 {result.get('version')}, 이벤트 {result.get('changedEvents')}건)")
+    except Exception as e:
+        print(f"⚠️ 적재 완료 콜백 실패: {e}")
+
+async def notify_ingestion_complete():
+    if not NOTIFICATION_API_BASE_URL.strip():
+        return
+    await asyncio.to_thread(_post_ingestion_complete)
+
+def _post_snapshot(results):
+    """스냅샷을 NDJSON 으로 적재 API 에 보냄. 실패하면 None (백엔드 트랜잭션이 롤백되므로 기존 방식으로 다시 적재해도 됨)"""
+    url = f"{NOTIFICATION_API_BASE_URL.strip().rstrip('/')}/api/internal/ingestion/inventory"
+    body = "\n".join(json.dumps(data, ensure_ascii=False) for data in results).encode("utf-8")
+    request = urllib.request.Request(
+        url,
+        data=body,
+        method="POST",
+        headers=_internal_headers("application/x-ndjson"),
+    )
+    try:
+        with urllib.request.urlopen(request, timeout=INGESTION_API_TIMEOUT) as response:
+            return json.loads(response.read().decode("utf-8"))
+    except Exception as e:
+        print(f"⚠️ 적재 API 호출 실패, 직접 적재로 전환: {e}")
+        return None
+
+def _ingest_via_api(results):
+    result = _post_snapshot(results)
+    if result is None:
+        return False
+
+    logs = []
+    for change in result.get("changes", []):
+        old_status = change.get("oldStatus")
+        new_status = change.get("newStatus")
+        diff_text = f"[{old_status}] → [{new_status}]" if old_status else f"[신규 등록: {new_status}]"
+        logs.append(f"[{datetime.now().strftime('%Y%m%d_%H%M%S')}] {change.get('eventTitle')} | {change.get('theaterName')} | {diff_text}")
+
+    save_log_to_s3(logs)
+    if result.get("unmatchedTheaters"):
+        print(f"⚠️ DB에 없는 지점 {result['unmatchedTheaters']}곳은 건너뛰었습니다.")
+    if not logs:
+        print("✨ 변동 사항이 없습니다. DB가 최신 상태입니다.")
+    else:
+        print(f"✅ 총 {len(logs)}건의 재고 변동을 감지하여 업데이트했습니다!")
+    return True
+
 async def save_to_db():
     # --- [Step 1] Load latest JSON from S3 or local ---
     results = load_latest_json()
@@ -75,6 +142,9 @@ async def save_to_db():
         print("❌ 처리할 JSON 데이터가 없습니다.")
         return
 
+    if INGESTION_API_ENABLED and await asyncio.to_thread(_ingest_via_api, results):
+        return
+
     conn = await asyncpg.connect(**DB_CONFIG)
     logs = []
     change_count = 0
@@ -169,8 +239,10 @@ async def save_to_db():
                             
                             notification_payload = {
                                 "theaterId": str(t_id),
+                                "eventId": event_no,
                                 "theaterName": t_name,
-                                "eventTitle": full_event_title
+                                "eventTitle": full_event_title,
+                                "newStatus": new_status
                             }
                             if old_status is None:
                                 pending_notifications.append((
@@ -178,11 +250,9 @@ async def save_to_db():
                                     notification_payload
                                 ))
                             else:
-                                status_payload = dict(notification_payload)
-                                status_payload["newStatus"] = new_status
                                 pending_notifications.append((
                                     "/api/internal/notifications/status-change",
-                                    status_payload
+                                    notification_payload
                                 ))
 
             await _send_notifications(pending_notifications)
@@ -4,7 +4,7 @@ import os
 from dotenv import load_dotenv
 
 from crawler import main as crawl_events
-from loader import save_to_db
+from loader import save_to_db, notify_ingestion_complete
 from movie_info import sync_movies_from_events
 from movie_image import sync_movie_images
 
@@ -22,6 +22,7 @@ async def main():
         # 2단계: 크롤링 데이터 DB 저장
         print("\n💾 [2/4] 크롤링 데이터 DB 저장...")
         await save_to_db()
+        await notify_ingestion_complete()
 
         # 3단계: KOBIS 상세 정보 동기화
         print("\n🎬 [3/4] 영화 상세 정보 동기화...")
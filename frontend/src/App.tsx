@@ -11,6 +11,7 @@ import { AuthScreen } from './components/AuthScreen';
 import { toast } from 'sonner';
 import { Toaster } from './components/ui/sonner';
 import { clearAuthState, getAuthState, isAuthValid, type AuthState } from './lib/auth';
+import { authService } from './lib/authService';
 import { pushNotificationService } from './lib/pushNotificationService';
 import { notificationHistoryService } from './lib/services';
 
@@ -157,6 +158,8 @@ export default function App() {
                     localStorage.setItem('cinecatch_darkmode', String(checked));
                   }}
                   onLogout={() => {
+                    // 서버에서 토큰을 폐기하되, 실패해도 로컬 로그아웃은 진행
+                    authService.logout(authState?.refreshToken).catch(() => undefined);
                     clearAuthState();
                     setAuthState(null);
                     setCurrentScreen('home');
@@ -1,5 +1,5 @@
 import { Capacitor } from '@capacitor/core';
-import { getAuthHeader } from './auth';
+import { clearAuthState, getAuthHeader, getAuthState, needsTokenRefresh, setAuthState } from './auth';
 
 // Android 에뮬레이터에서는 10.0.2.2로 호스트 PC에 접근
 const getApiBaseUrl = () => {
@@ -34,6 +34,7 @@ interface RequestConfig extends RequestInit {
 class ApiClient {
   private baseURL: string;
   private defaultTimeout: number;
+  private refreshing: Promise<void> | null = null;
 
   constructor(baseURL: string, timeout: number) {
     this.baseURL = baseURL;
@@ -50,6 +51,7 @@ class ApiClient {
     const timeoutId = setTimeout(() => controller.abort(), timeout);
 
     try {
+      await this.refreshTokenIfNeeded(endpoint);
       const authHeader = getAuthHeader();
       const response = await fetch(`${this.baseURL}${endpoint}`, {
         ...fetchConfig,
@@ -85,6 +87,42 @@ class ApiClient {
     }
   }
 
+  // 액세스 토큰 만료가 가까우면 요청 전에 재발급 (동시에 여러 요청이 와도 재발급은 한 번만)
+  private async refreshTokenIfNeeded(endpoint: string): Promise<void> {
+    if (endpoint === API_ENDPOINTS.MEMBERS_REFRESH || !needsTokenRefresh(getAuthState())) {
+      return;
+    }
+
+    if (!this.refreshing) {
+      this.refreshing = this.refreshToken().finally(() => {
+        this.refreshing = null;
+      });
+    }
+    await this.refreshing;
+  }
+
+  private async refreshToken(): Promise<void> {
+    const state = getAuthState();
+    if (!state?.refreshToken) {
+      return;
+    }
+
+    const response = await fetch(`${this.baseURL}${API_ENDPOINTS.MEMBERS_REFRESH}`, {
+      method: 'POST',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify({ refreshToken: state.refreshToken }),
+    });
+
+    if (!response.ok) {
+      // 폐기되었거나 만료된 리프레시 토큰 - 다시 로그인해야 함
+      clearAuthState();
+      return;
+    }
+
+    const token = await response.json();
+    setAuthState({ ...state, ...token });
+  }
+
   async get<T>(endpoint: string, config?: RequestConfig): Promise<T> {
     return this.request<T>(endpoint, { ...config, method: 'GET' });
   }
@@ -152,6 +190,8 @@ export const API_ENDPOINTS = {
   // Member auth endpoints
   MEMBERS_SIGNUP: '/api/members/signup',
   MEMBERS_LOGIN: '/api/members/login',
+  MEMBERS_REFRESH: '/api/members/refresh',
+  MEMBERS_LOGOUT: '/api/members/logout',
   MEMBERS_FCM_TOKEN: '/api/members/fcm-token',
   MEMBERS_NOTIFICATION_SETTINGS: '/api/members/notification-settings',
 
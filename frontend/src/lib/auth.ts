@@ -2,9 +2,14 @@ export type AuthState = {
   grantType: string;
   accessToken: string;
   accessTokenExpiresIn: number;
+  refreshToken?: string;
+  refreshTokenExpiresIn?: number;
   email?: string;
 };
 
+// 만료 직전 토큰으로 요청하다 401 을 받지 않도록 여유를 둠
+const ACCESS_TOKEN_REFRESH_MARGIN_MS = 30_000;
+
 const AUTH_STORAGE_KEY = 'cinecatch_auth';
 
 export function getAuthState(): AuthState | null {
@@ -23,7 +28,7 @@ export function getAuthState(): AuthState | null {
       return null;
     }
 
-    if (parsed.accessTokenExpiresIn && parsed.accessTokenExpiresIn <= Date.now()) {
+    if (!isAuthValid(parsed)) {
       window.localStorage.removeItem(AUTH_STORAGE_KEY);
       return null;
     }
@@ -50,16 +55,25 @@ export function clearAuthState(): void {
   window.localStorage.removeItem(AUTH_STORAGE_KEY);
 }
 
+// 액세스 토큰이 만료돼도 리프레시 토큰이 살아 있으면 재발급받을 수 있으므로 로그인 상태로 봄
 export function isAuthValid(state: AuthState | null): boolean {
   if (!state?.accessToken) {
     return false;
   }
 
-  if (state.accessTokenExpiresIn && state.accessTokenExpiresIn <= Date.now()) {
+  if (!state.accessTokenExpiresIn || state.accessTokenExpiresIn > Date.now()) {
+    return true;
+  }
+
+  return Boolean(state.refreshToken && state.refreshTokenExpiresIn && state.refreshTokenExpiresIn > Date.now());
+}
+
+export function needsTokenRefresh(state: AuthState | null): boolean {
+  if (!state?.refreshToken || !state.accessTokenExpiresIn) {
     return false;
   }
 
-  return true;
+  return state.accessTokenExpiresIn - ACCESS_TOKEN_REFRESH_MARGIN_MS <= Date.now();
 }
 
 export function getAuthHeader(): string | null {
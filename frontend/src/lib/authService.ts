@@ -1,4 +1,5 @@
 import { apiClient, API_ENDPOINTS } from './api';
+import { getAuthHeader } from './auth';
 
 export type LoginRequest = {
   email: string;
@@ -15,6 +16,8 @@ export type TokenResponse = {
   grantType: string;
   accessToken: string;
   accessTokenExpiresIn: number;
+  refreshToken: string;
+  refreshTokenExpiresIn: number;
 };
 
 export const authService = {
@@ -25,4 +28,14 @@ export const authService = {
   async login(payload: LoginRequest): Promise<TokenResponse> {
     return apiClient.post<TokenResponse>(API_ENDPOINTS.MEMBERS_LOGIN, payload);
   },
+
+  // 호출 직후 로컬 토큰을 지워도 되도록 인증 헤더는 호출 시점에 고정함
+  async logout(refreshToken?: string): Promise<string> {
+    const authHeader = getAuthHeader();
+    return apiClient.post<string>(
+      API_ENDPOINTS.MEMBERS_LOGOUT,
+      refreshToken ? { refreshToken } : undefined,
+      authHeader ? { headers: { Authorization: authHeader } } : undefined,
+    );
+  },
 };
@@ -0,0 +1,4 @@
+#!/bin/bash
+# 복제본(postgres-replica)이 pg_basebackup/스트리밍 복제로 접속할 수 있도록 허용 (새 볼륨 초기화 시 한 번만 실행됨)
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"